@@ -0,0 +1,149 @@
+package com.example.taskmanageranalytics.archive;
+
+import com.example.taskmanageranalytics.dto.TaskStatusHistoryResponse;
+import com.example.taskmanageranalytics.entity.TaskStatus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.sql.PreparedStatement;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Month files of archived task status history: gzipped CSV, one file per month, rows in
+ * {@code changed_at} order so that a range read can stop at the end of the range.
+ */
+@Component
+public class TaskStatusHistoryArchive {
+
+    static final String HEADER = "id,task_id,old_status,new_status,changed_at,changed_by_user_id";
+
+    private static final Pattern FILE_NAME = Pattern.compile("task_status_history_(\\d{4})_(\\d{2})\\.csv\\.gz");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionOperations transactionOperations;
+    private final Path directory;
+    private final int fetchSize;
+
+    public TaskStatusHistoryArchive(JdbcTemplate jdbcTemplate, TransactionOperations transactionOperations,
+                                    @Value("${app.history.archive.directory:archive/task-status-history}") Path directory,
+                                    @Value("${app.tasks.stream-fetch-size:500}") int fetchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionOperations = transactionOperations;
+        this.directory = directory;
+        this.fetchSize = fetchSize;
+    }
+
+    /**
+     * Copies every row of {@code table} into the file for {@code month}, replacing an earlier
+     * archive of that month. The file only appears once it is complete.
+     */
+    public Path write(String table, YearMonth month) {
+        Path target = fileOf(month);
+        Path partial = target.resolveSibling(target.getFileName() + ".partial");
+        try {
+            Files.createDirectories(directory);
+            try (Writer writer = new BufferedWriter(new OutputStreamWriter(
+                    new GZIPOutputStream(Files.newOutputStream(partial)), UTF_8))) {
+                writer.write(HEADER);
+                writer.write('\n');
+                RowCallbackHandler rowWriter = rs -> {
+                    try {
+                        writer.write(rs.getLong(1) + "," + rs.getLong(2) + "," + rs.getString(3) + ","
+                                + rs.getString(4) + "," + rs.getObject(5, LocalDateTime.class) + "," + rs.getLong(6) + "\n");
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                };
+                // a cursor needs a transaction on PostgreSQL, otherwise the whole table is buffered
+                transactionOperations.executeWithoutResult(status -> jdbcTemplate.query(connection -> {
+                    PreparedStatement statement = connection.prepareStatement("""
+                            select id, task_id, old_status, new_status, changed_at, changed_by_user_id
+                            from %s order by changed_at, id""".formatted(table));
+                    statement.setFetchSize(fetchSize);
+                    return statement;
+                }, rowWriter));
+            }
+            Files.move(partial, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            return target;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not archive " + table + " to " + target, e);
+        }
+    }
+
+    public List<YearMonth> archivedMonths() {
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(file -> FILE_NAME.matcher(file.getFileName().toString()))
+                    .filter(Matcher::matches)
+                    .map(matcher -> YearMonth.of(Integer.parseInt(matcher.group(1)), Integer.parseInt(matcher.group(2))))
+                    .sorted()
+                    .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Hands archived rows with {@code from <= changedAt < to} to {@code consumer}, oldest first.
+     */
+    public void read(LocalDateTime from, LocalDateTime to, Consumer<TaskStatusHistoryResponse> consumer) {
+        YearMonth firstMonth = YearMonth.from(from);
+        YearMonth lastMonth = YearMonth.from(to);
+        for (YearMonth month : archivedMonths()) {
+            if (month.isBefore(firstMonth) || month.isAfter(lastMonth)) {
+                continue;
+            }
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                    new GZIPInputStream(Files.newInputStream(fileOf(month))), UTF_8))) {
+                reader.readLine();
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    TaskStatusHistoryResponse row = parse(line);
+                    if (!row.getChangedAt().isBefore(to)) {
+                        break;
+                    }
+                    if (!row.getChangedAt().isBefore(from)) {
+                        consumer.accept(row);
+                    }
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("Could not read archive of " + month, e);
+            }
+        }
+    }
+
+    private Path fileOf(YearMonth month) {
+        return directory.resolve("task_status_history_%04d_%02d.csv.gz".formatted(month.getYear(), month.getMonthValue()));
+    }
+
+    private static TaskStatusHistoryResponse parse(String line) {
+        String[] fields = line.split(",");
+        return TaskStatusHistoryResponse.builder()
+                .id(Long.parseLong(fields[0]))
+                .taskId(Long.parseLong(fields[1]))
+                .oldStatus(TaskStatus.valueOf(fields[2]))
+                .newStatus(TaskStatus.valueOf(fields[3]))
+                .changedAt(LocalDateTime.parse(fields[4]))
+                .changedById(Long.parseLong(fields[5]))
+                .build();
+    }
+}
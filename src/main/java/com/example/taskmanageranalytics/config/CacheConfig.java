@@ -0,0 +1,70 @@
+package com.example.taskmanageranalytics.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import java.time.Duration;
+import java.util.List;
+import java.util.OptionalLong;
+
+/**
+ * Local Caffeine-backed regions for the Hibernate second-level cache. Entries are bounded by
+ * count and time to live; Hibernate keeps them consistent with entity updates and deletes.
+ */
+@Configuration
+public class CacheConfig {
+
+    public static final String USERS_REGION = "users";
+    public static final String USERS_BY_USERNAME_REGION = "users-by-username";
+    public static final String TASKS_REGION = "tasks";
+
+    private static final List<String> REGIONS = List.of(USERS_REGION, USERS_BY_USERNAME_REGION, TASKS_REGION);
+
+    @Value("${app.cache.max-entries:10000}")
+    private long maxEntries;
+
+    @Value("${app.cache.time-to-live:PT10M}")
+    private Duration timeToLive;
+
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager() {
+        CacheManager cacheManager = new CaffeineCachingProvider().getCacheManager();
+        for (String region : REGIONS) {
+            CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>()
+                    .setMaximumSize(OptionalLong.of(maxEntries))
+                    .setExpireAfterWrite(OptionalLong.of(timeToLive.toNanos()))
+                    .setStoreByValue(false)
+                    .setNativeStatisticsEnabled(true);
+            cacheManager.createCache(region, configuration);
+        }
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager hibernateCacheManager) {
+        return properties -> {
+            properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            properties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+            properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+        };
+    }
+
+    @Bean
+    public MeterBinder secondLevelCacheMetrics(CacheManager hibernateCacheManager) {
+        return registry -> REGIONS.forEach(region -> {
+            Cache<?, ?> cache = hibernateCacheManager.getCache(region).unwrap(Cache.class);
+            CaffeineCacheMetrics.monitor(registry, cache, region);
+        });
+    }
+}
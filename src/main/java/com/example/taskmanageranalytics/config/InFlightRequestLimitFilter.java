@@ -0,0 +1,52 @@
+package com.example.taskmanageranalytics.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bounds the number of requests handled at once. With a virtual thread per request nothing
+ * else does, and an unbounded crowd of requests would queue on the connection pool until
+ * its timeout fires. Requests that cannot be admitted within the queue timeout get a 503.
+ */
+public class InFlightRequestLimitFilter extends OncePerRequestFilter {
+
+    private final Semaphore permits;
+    private final Duration queueTimeout;
+
+    public InFlightRequestLimitFilter(int maxInFlightRequests, Duration queueTimeout) {
+        this.permits = new Semaphore(maxInFlightRequests, true);
+        this.queueTimeout = queueTimeout;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        boolean admitted;
+        try {
+            admitted = permits.tryAcquire(queueTimeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            admitted = false;
+        }
+        if (!admitted) {
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, queueTimeout.toSeconds())));
+            response.sendError(HttpStatus.SERVICE_UNAVAILABLE.value());
+            return;
+        }
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            permits.release();
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.taskmanageranalytics.config;
+
+import com.example.taskmanageranalytics.metrics.QueryDetector;
+import com.example.taskmanageranalytics.metrics.RequestCountingStatistics;
+import com.example.taskmanageranalytics.metrics.RequestStatisticsFilter;
+import com.example.taskmanageranalytics.metrics.ServiceMethodMetricsPostProcessor;
+import com.example.taskmanageranalytics.service.TaskService;
+import com.example.taskmanageranalytics.service.TaskStatusHistoryService;
+import com.example.taskmanageranalytics.service.UserService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.spi.StatisticsFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import java.util.List;
+
+/**
+ * Hot-path instrumentation exported through {@code /actuator/prometheus}: latency of every
+ * service method, and the SQL statements and entity loads behind each request, counted by
+ * Hibernate's statistics. Also installs the {@link QueryDetector} that watches transactions
+ * for N+1 selects.
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public static ServiceMethodMetricsPostProcessor serviceMethodMetricsPostProcessor(
+            ObjectProvider<MeterRegistry> meterRegistry) {
+        ServiceMethodMetricsPostProcessor postProcessor = new ServiceMethodMetricsPostProcessor(meterRegistry,
+                List.of(TaskService.class, UserService.class, TaskStatusHistoryService.class));
+        postProcessor.setProxyTargetClass(true);
+        return postProcessor;
+    }
+
+    @Bean
+    public QueryDetector queryDetector(
+            @Value("${app.query-detector.mode:off}") QueryDetector.Mode mode,
+            @Value("${app.query-detector.repeated-select-threshold:3}") int repeatedSelectThreshold,
+            @Value("${app.query-detector.stack-sample-rate:0.1}") double stackSampleRate) {
+        return new QueryDetector(mode, repeatedSelectThreshold, stackSampleRate);
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer hibernateMetricsCustomizer(QueryDetector queryDetector) {
+        return properties -> {
+            properties.put(AvailableSettings.STATS_BUILDER, (StatisticsFactory) RequestCountingStatistics::new);
+            properties.put(AvailableSettings.STATEMENT_INSPECTOR, queryDetector);
+        };
+    }
+
+    @Bean
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+    public FilterRegistrationBean<RequestStatisticsFilter> requestStatisticsFilter(MeterRegistry meterRegistry) {
+        FilterRegistrationBean<RequestStatisticsFilter> registration =
+                new FilterRegistrationBean<>(new RequestStatisticsFilter(meterRegistry));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 1);
+        return registration;
+    }
+}
@@ -0,0 +1,155 @@
+package com.example.taskmanageranalytics.config;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Fails startup when one of the hot repository queries would read a large table sequentially,
+ * which usually means a migration dropped or never created the index it relies on. Each query is
+ * the SQL the repository method issues, with representative values in place of the parameters so
+ * the planner uses the table statistics. Tables smaller than {@code app.schema.plan-check.min-rows}
+ * are ignored, since scanning those is the right plan. Only runs against PostgreSQL, and only when
+ * {@code app.schema.plan-check.enabled} is set, which CI and staging do; production leaves it off
+ * so a statistics hiccup after a deploy cannot keep the service from starting. Statements are only
+ * planned, never executed, so the {@code update} entries change nothing.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.schema.plan-check.enabled", havingValue = "true")
+public class QueryPlanCheck implements ApplicationRunner {
+
+    static final Map<String, String> QUERIES = new LinkedHashMap<>();
+
+    static {
+        QUERIES.put("TaskStatusHistoryRepository.findByTaskIdBefore", """
+                select * from task_status_history
+                where task_id = 1 and (changed_at, id) < (localtimestamp, 1000)
+                order by changed_at desc, id desc limit 51""");
+        QUERIES.put("TaskStatusHistoryRepository.findBefore", """
+                select * from task_status_history
+                where (changed_at, id) < (localtimestamp - interval '1 day', 1000)
+                order by changed_at desc, id desc limit 51""");
+        QUERIES.put("TaskStatusHistoryRepository.streamTransitionsSince", """
+                select id, old_status, new_status, changed_by_user_id, changed_at from task_status_history
+                where changed_at >= localtimestamp - interval '1 hour'""");
+        QUERIES.put("TaskStatusHistoryRepository.findTransitionsAfter", """
+                select id, old_status, new_status, changed_by_user_id, changed_at from task_status_history
+                where (changed_at, id) > (localtimestamp - interval '1 hour', 1000) and changed_at < localtimestamp
+                order by changed_at, id limit 5000""");
+        QUERIES.put("TaskRepository.streamCreatedAtSince", """
+                select created_at from task where created_at >= localtimestamp - interval '1 hour'""");
+        QUERIES.put("TaskService.getTasks by author", """
+                select * from task where author_id = 1 and id > 0 order by id limit 51""");
+        QUERIES.put("TaskService.getTasks by assignee", """
+                select * from task where assignee_id = 1 and id > 0 order by id limit 51""");
+        QUERIES.put("TaskService.getTasks by open status", """
+                select * from task where status = 'IN_PROGRESS' and id > 0 order by id limit 51""");
+        QUERIES.put("TaskRepository.lockForTransition", """
+                select id, status, author_id, assignee_id, created_at, started_at, completed_at from task
+                where id in (1, 2, 3) and status <> 'DONE' order by id for update""");
+        QUERIES.put("PostgresTaskSearchIndex corrections", """
+                select word from task_search_words where 'taks' <% word
+                order by word_similarity('taks', word) desc, length(word) limit 3""");
+        QUERIES.put("PostgresTaskSearchIndex search", """
+                select id from task where search_vector @@ to_tsquery('simple', '''task'':* | ''test''')
+                order by id desc limit 5000""");
+        QUERIES.put("UserTaskCountersRepository.releaseAssignmentsOfAuthor", """
+                update user_task_counters c
+                set assigned_tasks_count = c.assigned_tasks_count
+                    - cast((select count(t.id) from task t where t.assignee_id = c.user_id and t.author_id = 1) as integer)
+                where c.user_id in (select t.assignee_id from task t where t.author_id = 1)""");
+        QUERIES.put("UserTaskCountersRepository.releaseAuthorshipsOfAssignee", """
+                update user_task_counters c
+                set created_tasks_count = c.created_tasks_count
+                    - cast((select count(t.id) from task t where t.author_id = c.user_id and t.assignee_id = 1) as integer)
+                where c.user_id in (select t.author_id from task t where t.assignee_id = 1)""");
+        QUERIES.put("TaskDailyStatsRepository.findByIdUserIdAndIdStatDateBetweenOrderByIdStatDate", """
+                select * from task_daily_stats
+                where user_id = 1 and stat_date between current_date - 30 and current_date order by stat_date""");
+        QUERIES.put("StatusTransitionRollupRepository.sumTransitions", """
+                select old_status, new_status, changed_by_user_id, sum(transition_count) from status_transition_rollups
+                where granularity = 'HOUR' and bucket_start >= localtimestamp - interval '1 day'
+                  and bucket_start < localtimestamp
+                group by old_status, new_status, changed_by_user_id""");
+        QUERIES.put("OutboxEventRepository.lockNextBatch", """
+                select o.* from outbox_events o
+                where o.dead_lettered_at is null and o.available_at <= localtimestamp
+                  and not exists (select 1 from outbox_events p
+                                  where p.aggregate_type = o.aggregate_type and p.aggregate_id = o.aggregate_id
+                                    and p.aggregate_sequence < o.aggregate_sequence
+                                    and p.dead_lettered_at is null)
+                order by o.id limit 200 for update skip locked""");
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final long minRows;
+
+    public QueryPlanCheck(JdbcTemplate jdbcTemplate, ObjectMapper objectMapper,
+                          @Value("${app.schema.plan-check.min-rows:50000}") long minRows) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.minRows = minRows;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        String database = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                connection.getMetaData().getDatabaseProductName());
+        if (!"PostgreSQL".equals(database)) {
+            log.info("Skipping query plan check on {}", database);
+            return;
+        }
+
+        List<String> violations = new ArrayList<>();
+        for (Map.Entry<String, String> query : QUERIES.entrySet()) {
+            String plan = jdbcTemplate.queryForObject("explain (format json) " + query.getValue(), String.class);
+            for (String table : sequentiallyScannedTables(objectMapper.readTree(plan))) {
+                long rows = estimatedRows(table);
+                if (rows >= minRows) {
+                    violations.add(query.getKey() + " scans " + table + " (~" + rows + " rows)");
+                }
+            }
+        }
+        if (!violations.isEmpty()) {
+            throw new IllegalStateException("Sequential scans on large tables: " + String.join("; ", violations));
+        }
+        log.info("Query plan check passed for {} queries", QUERIES.size());
+    }
+
+    static List<String> sequentiallyScannedTables(JsonNode explainOutput) {
+        List<String> tables = new ArrayList<>();
+        for (JsonNode statement : explainOutput) {
+            collectSeqScans(statement.path("Plan"), tables);
+        }
+        return tables;
+    }
+
+    private static void collectSeqScans(JsonNode plan, List<String> tables) {
+        if ("Seq Scan".equals(plan.path("Node Type").asText())) {
+            tables.add(plan.path("Relation Name").asText());
+        }
+        for (JsonNode child : plan.path("Plans")) {
+            collectSeqScans(child, tables);
+        }
+    }
+
+    private long estimatedRows(String table) {
+        Long rows = jdbcTemplate.queryForObject(
+                "select coalesce(max(reltuples), 0)::bigint from pg_class where oid = to_regclass(?)", Long.class, table);
+        return rows != null ? rows : 0;
+    }
+}
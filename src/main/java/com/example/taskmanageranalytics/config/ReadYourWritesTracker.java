@@ -0,0 +1,63 @@
+package com.example.taskmanageranalytics.config;
+
+import org.springframework.security.authentication.AuthenticationTrustResolver;
+import org.springframework.security.authentication.AuthenticationTrustResolverImpl;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.transaction.TransactionExecutionListener;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Remembers who committed a read-write transaction recently, so that their reads go to the
+ * primary until every replica that is still in use must have caught up. Callers are told apart
+ * by the authenticated user; anonymous callers are not tracked, since nothing stable identifies
+ * them across requests (on virtual threads not even the thread).
+ * <p>
+ * The record is kept per instance. Behind a load balancer that spreads one user's requests over
+ * several instances, a read may land on an instance that did not see the write and go to a
+ * replica; route users to the same instance for at least the window if that matters.
+ */
+public class ReadYourWritesTracker implements TransactionExecutionListener {
+
+    private static final int CLEANUP_THRESHOLD = 10_000;
+    private static final AuthenticationTrustResolver TRUST_RESOLVER = new AuthenticationTrustResolverImpl();
+
+    private final long windowNanos;
+    private final Map<String, Long> stickyUntil = new ConcurrentHashMap<>();
+
+    public ReadYourWritesTracker(Duration window) {
+        this.windowNanos = window.toNanos();
+    }
+
+    @Override
+    public void afterCommit(TransactionExecution transaction, Throwable commitFailure) {
+        if (commitFailure == null && transaction.isNewTransaction() && !transaction.isReadOnly()) {
+            long now = System.nanoTime();
+            if (stickyUntil.size() >= CLEANUP_THRESHOLD) {
+                stickyUntil.values().removeIf(until -> until - now < 0);
+            }
+            String caller = caller();
+            if (caller != null) {
+                stickyUntil.put(caller, now + windowNanos);
+            }
+        }
+    }
+
+    public boolean isSticky() {
+        String caller = caller();
+        if (caller == null) {
+            return false;
+        }
+        Long until = stickyUntil.get(caller);
+        return until != null && until - System.nanoTime() > 0;
+    }
+
+    private static String caller() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return TRUST_RESOLVER.isAuthenticated(authentication) ? authentication.getName() : null;
+    }
+}
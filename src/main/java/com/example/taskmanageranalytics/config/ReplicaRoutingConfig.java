@@ -0,0 +1,82 @@
+package com.example.taskmanageranalytics.config;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Sends read-only transactions to the replicas in {@code app.datasource.replicas.urls}, which
+ * use the primary's credentials and pool settings. The application's {@link DataSource} hands
+ * out lazy connections: the physical connection is only fetched once the transaction has marked
+ * it read-only or not, and comes from the primary pool or from {@link ReplicaRoutingDataSource}
+ * accordingly. Without replica URLs this configuration is skipped and Spring Boot's single pool
+ * is used. Relies on {@code spring.jpa.open-in-view} being off: an entity manager held for the
+ * whole request would keep its first transaction's connection for every later one.
+ */
+@Configuration
+@ConditionalOnExpression("!'${app.datasource.replicas.urls:}'.isBlank()")
+public class ReplicaRoutingConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    /**
+     * Stays on the primary for at least {@code max-lag} after a write, since a replica lagging
+     * by up to that much is still read from.
+     */
+    @Bean
+    public ReadYourWritesTracker readYourWritesTracker(
+            @Value("${app.datasource.replicas.read-your-writes-window:PT5S}") Duration window,
+            @Value("${app.datasource.replicas.max-lag:PT5S}") Duration maxLag) {
+        return new ReadYourWritesTracker(window.compareTo(maxLag) >= 0 ? window : maxLag);
+    }
+
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(
+            HikariDataSource primaryDataSource, ReadYourWritesTracker readYourWritesTracker,
+            @Value("${app.datasource.replicas.urls}") List<String> urls,
+            @Value("${app.datasource.replicas.maximum-pool-size:10}") int maximumPoolSize,
+            @Value("${app.datasource.replicas.balancing:round-robin}") ReplicaRoutingDataSource.Balancing balancing,
+            @Value("${app.datasource.replicas.max-lag:PT5S}") Duration maxLag,
+            @Value("${app.datasource.replicas.lag-query}") String lagQuery) {
+        List<HikariDataSource> replicas = new ArrayList<>(urls.size());
+        for (int i = 0; i < urls.size(); i++) {
+            HikariConfig config = new HikariConfig();
+            primaryDataSource.copyStateTo(config);
+            config.setJdbcUrl(urls.get(i).trim());
+            config.setPoolName("replica-" + (i + 1));
+            config.setMaximumPoolSize(maximumPoolSize);
+            config.setReadOnly(true);
+            // A replica that is down at startup is taken out of rotation instead of failing it
+            config.setInitializationFailTimeout(-1);
+            replicas.add(new HikariDataSource(config));
+        }
+        return new ReplicaRoutingDataSource(primaryDataSource, replicas, balancing, maxLag, lagQuery,
+                readYourWritesTracker);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryDataSource, ReplicaRoutingDataSource replicaRoutingDataSource) {
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primaryDataSource);
+        dataSource.setReadOnlyDataSource(replicaRoutingDataSource);
+        return dataSource;
+    }
+}
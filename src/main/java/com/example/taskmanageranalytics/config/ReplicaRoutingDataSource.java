@@ -0,0 +1,139 @@
+package com.example.taskmanageranalytics.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Connection source for read-only transactions: one of the replica pools, or the primary when
+ * the caller has just written, or when every replica is unreachable or lags more than
+ * {@code max-lag}. Replica lag is sampled every {@code lag-check-interval}; a replica that fails
+ * to hand out a connection is skipped until the next sample says otherwise.
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractDataSource implements InitializingBean, DisposableBean {
+
+    public enum Balancing {
+        ROUND_ROBIN, LEAST_CONNECTIONS
+    }
+
+    private final HikariDataSource primary;
+    private final List<Replica> replicas;
+    private final Balancing balancing;
+    private final Duration maxLag;
+    private final String lagQuery;
+    private final ReadYourWritesTracker readYourWritesTracker;
+    private final AtomicInteger next = new AtomicInteger();
+
+    public ReplicaRoutingDataSource(HikariDataSource primary, List<HikariDataSource> replicas, Balancing balancing,
+                                    Duration maxLag, String lagQuery, ReadYourWritesTracker readYourWritesTracker) {
+        this.primary = primary;
+        this.replicas = replicas.stream().map(Replica::new).toList();
+        this.balancing = balancing;
+        this.maxLag = maxLag;
+        this.lagQuery = lagQuery;
+        this.readYourWritesTracker = readYourWritesTracker;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        checkLag();
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (!readYourWritesTracker.isSticky()) {
+            Replica replica = choose();
+            if (replica != null) {
+                try {
+                    return replica.dataSource.getConnection();
+                } catch (SQLException e) {
+                    replica.lag = null;
+                    log.warn("Replica {} unavailable, reading from the primary: {}", replica.name(), e.toString());
+                }
+            }
+        }
+        Connection connection = primary.getConnection();
+        connection.setReadOnly(true);
+        return connection;
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        throw new SQLException("Credentials are configured per pool");
+    }
+
+    @Scheduled(fixedDelayString = "${app.datasource.replicas.lag-check-interval:PT2S}")
+    public void checkLag() {
+        for (Replica replica : replicas) {
+            boolean wasUsable = replica.isUsable(maxLag);
+            try (Connection connection = replica.dataSource.getConnection();
+                 Statement statement = connection.createStatement();
+                 ResultSet resultSet = statement.executeQuery(lagQuery)) {
+                resultSet.next();
+                replica.lag = Duration.ofMillis(Math.round(resultSet.getDouble(1) * 1000));
+            } catch (SQLException e) {
+                replica.lag = null;
+            }
+            if (replica.isUsable(maxLag) != wasUsable) {
+                log.info("Replica {} {} (lag {})", replica.name(),
+                        wasUsable ? "taken out of rotation" : "back in rotation", replica.lag);
+            }
+        }
+    }
+
+    @Override
+    public void destroy() {
+        replicas.forEach(replica -> replica.dataSource.close());
+    }
+
+    private Replica choose() {
+        List<Replica> usable = replicas.stream().filter(replica -> replica.isUsable(maxLag)).toList();
+        if (usable.isEmpty()) {
+            return null;
+        }
+        return switch (balancing) {
+            case ROUND_ROBIN -> usable.get(Math.floorMod(next.getAndIncrement(), usable.size()));
+            case LEAST_CONNECTIONS -> usable.stream()
+                    .min(Comparator.comparingInt(Replica::activeConnections))
+                    .orElseThrow();
+        };
+    }
+
+    private static final class Replica {
+        final HikariDataSource dataSource;
+        /**
+         * Last sampled lag, {@code null} while the replica is unreachable.
+         */
+        volatile Duration lag;
+
+        Replica(HikariDataSource dataSource) {
+            this.dataSource = dataSource;
+        }
+
+        boolean isUsable(Duration maxLag) {
+            Duration current = lag;
+            return current != null && current.compareTo(maxLag) <= 0;
+        }
+
+        int activeConnections() {
+            return dataSource.getHikariPoolMXBean().getActiveConnections();
+        }
+
+        String name() {
+            return dataSource.getPoolName();
+        }
+    }
+}
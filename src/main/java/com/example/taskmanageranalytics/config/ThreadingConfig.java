@@ -0,0 +1,34 @@
+package com.example.taskmanageranalytics.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import java.time.Duration;
+
+/**
+ * Virtual-thread mode is switched with {@code spring.threads.virtual.enabled}, which moves
+ * Tomcat, {@code @Async} and {@code @Scheduled} work onto virtual threads. Blocking on
+ * {@code synchronized} no longer pins the carrier thread from Java 24 on, so the JDBC driver
+ * and pool can be used as is; what remains is admission control in front of the pool.
+ */
+@Configuration
+public class ThreadingConfig {
+
+    @Bean
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+    public FilterRegistrationBean<InFlightRequestLimitFilter> inFlightRequestLimitFilter(
+            @Value("${app.concurrency.max-in-flight-requests:40}") int maxInFlightRequests,
+            @Value("${app.concurrency.queue-timeout:PT1S}") Duration queueTimeout) {
+        FilterRegistrationBean<InFlightRequestLimitFilter> registration =
+                new FilterRegistrationBean<>(new InFlightRequestLimitFilter(maxInFlightRequests, queueTimeout));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+}
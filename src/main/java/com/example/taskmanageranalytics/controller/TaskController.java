@@ -0,0 +1,203 @@
+package com.example.taskmanageranalytics.controller;
+
+import com.example.taskmanageranalytics.dto.BulkStatusChangeRequest;
+import com.example.taskmanageranalytics.dto.CursorPage;
+import com.example.taskmanageranalytics.dto.TaskCreateRequest;
+import com.example.taskmanageranalytics.dto.TaskFilter;
+import com.example.taskmanageranalytics.dto.TaskResponse;
+import com.example.taskmanageranalytics.dto.TaskStatusChangeRequest;
+import com.example.taskmanageranalytics.dto.TaskStatusHistoryResponse;
+import com.example.taskmanageranalytics.dto.TaskUpdateRequest;
+import com.example.taskmanageranalytics.entity.Task;
+import com.example.taskmanageranalytics.entity.TaskStatus;
+import com.example.taskmanageranalytics.entity.User;
+import com.example.taskmanageranalytics.security.AccountPrincipal;
+import com.example.taskmanageranalytics.service.TaskSearchService;
+import com.example.taskmanageranalytics.service.TaskService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import java.net.URI;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+/**
+ * Task reads are conditional: the entity tag and {@code Last-Modified} come from
+ * {@link Task#getUpdatedAt()}, so a client that already holds the current version gets a 304
+ * before anything is mapped or serialized. A task can only be changed by its author, its
+ * assignee or an administrator.
+ */
+@RestController
+@RequestMapping("/api/tasks")
+@RequiredArgsConstructor
+public class TaskController {
+
+    private static final LocalDateTime EPOCH = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final TaskService taskService;
+    private final TaskSearchService taskSearchService;
+
+    @GetMapping
+    public MappingJacksonValue getTasks(@RequestParam(required = false) TaskStatus status,
+                                        @RequestParam(required = false) Long authorId,
+                                        @RequestParam(required = false) Long assigneeId,
+                                        @RequestParam(required = false) Long after,
+                                        @RequestParam(defaultValue = "50") int limit,
+                                        @RequestParam(required = false) String fields,
+                                        @RequestParam(required = false) String exclude,
+                                        WebRequest request) {
+        TaskFieldSelection selection = TaskFieldSelection.of(fields, exclude);
+        TaskFilter filter = new TaskFilter(status, authorId, assigneeId);
+        CursorPage<Task, Long> page = taskService.getTasks(filter, after, limit);
+
+        long fingerprint = page.getNextCursor() != null ? page.getNextCursor() : 0;
+        for (Task task : page.getItems()) {
+            fingerprint = 31 * (31 * fingerprint + task.getId()) + versionOf(task);
+        }
+        if (request.checkNotModified("W/\"" + Long.toHexString(fingerprint) + selection.tag() + "\"")) {
+            return null;
+        }
+        List<TaskResponse> items = page.getItems().stream().map(TaskResponse::from).toList();
+        return selection.wrap(new CursorPage<>(items, page.getNextCursor()));
+    }
+
+    @GetMapping("/search")
+    public MappingJacksonValue searchTasks(@RequestParam String q,
+                                           @RequestParam(defaultValue = "0") int offset,
+                                           @RequestParam(defaultValue = "20") int limit,
+                                           @RequestParam(required = false) String fields,
+                                           @RequestParam(required = false) String exclude) {
+        TaskFieldSelection selection = TaskFieldSelection.of(fields, exclude);
+        CursorPage<Task, Integer> page = taskSearchService.search(q, offset, limit);
+        List<TaskResponse> items = page.getItems().stream().map(TaskResponse::from).toList();
+        return selection.wrap(new CursorPage<>(items, page.getNextCursor()));
+    }
+
+    @GetMapping("/{id}")
+    public MappingJacksonValue getTask(@PathVariable Long id,
+                                       @RequestParam(required = false) String fields,
+                                       @RequestParam(required = false) String exclude,
+                                       WebRequest request) {
+        TaskFieldSelection selection = TaskFieldSelection.of(fields, exclude);
+        Task task = taskService.getTask(id);
+        if (request.checkNotModified(etagOf(task, selection), lastModifiedOf(task))) {
+            return null;
+        }
+        return selection.wrap(TaskResponse.from(task));
+    }
+
+    @PostMapping
+    public ResponseEntity<MappingJacksonValue> createTask(@Valid @RequestBody TaskCreateRequest taskRequest,
+                                                          @AuthenticationPrincipal AccountPrincipal principal) {
+        Task task = taskService.saveTask(taskRequest.getTitle(), taskRequest.getDescription(),
+                principal.getId(), taskRequest.getAssigneeId());
+        URI location = ServletUriComponentsBuilder.fromCurrentRequest()
+                .path("/{id}")
+                .buildAndExpand(task.getId())
+                .toUri();
+        return ResponseEntity.created(location)
+                .eTag(etagOf(task, TaskFieldSelection.ALL))
+                .lastModified(lastModifiedOf(task))
+                .body(TaskFieldSelection.ALL.wrap(TaskResponse.from(task)));
+    }
+
+    @PutMapping("/{id}")
+    public ResponseEntity<MappingJacksonValue> updateTask(@PathVariable Long id,
+                                                          @Valid @RequestBody TaskUpdateRequest taskUpdateRequest,
+                                                          @AuthenticationPrincipal AccountPrincipal principal) {
+        requireParticipantOrAdmin(taskService.getTask(id), principal);
+        taskService.updateTask(id, taskUpdateRequest.getTitle(), taskUpdateRequest.getDescription());
+        Task task = taskService.getTask(id);
+        return ResponseEntity.ok()
+                .eTag(etagOf(task, TaskFieldSelection.ALL))
+                .lastModified(lastModifiedOf(task))
+                .body(TaskFieldSelection.ALL.wrap(TaskResponse.from(task)));
+    }
+
+    @PutMapping("/{id}/assignee")
+    public ResponseEntity<Void> assignTask(@PathVariable Long id, @RequestParam Long assigneeId,
+                                           @AuthenticationPrincipal AccountPrincipal principal) {
+        requireParticipantOrAdmin(taskService.getTask(id), principal);
+        taskService.assignTask(id, assigneeId);
+        return ResponseEntity.noContent().build();
+    }
+
+    @DeleteMapping("/{id}/assignee")
+    public ResponseEntity<Void> unassignTask(@PathVariable Long id,
+                                             @AuthenticationPrincipal AccountPrincipal principal) {
+        requireParticipantOrAdmin(taskService.getTask(id), principal);
+        taskService.assignTask(id, null);
+        return ResponseEntity.noContent().build();
+    }
+
+    @PutMapping("/{id}/status")
+    public ResponseEntity<TaskStatusHistoryResponse> changeStatus(@PathVariable Long id,
+                                                                  @Valid @RequestBody TaskStatusChangeRequest request,
+                                                                  @AuthenticationPrincipal AccountPrincipal principal) {
+        requireParticipantOrAdmin(taskService.getTask(id), principal);
+        return taskService.changeStatus(id, request.getStatus(), principal.getId())
+                .map(history -> ResponseEntity.ok(TaskStatusHistoryResponse.from(history)))
+                .orElseGet(() -> ResponseEntity.noContent().build());
+    }
+
+    /**
+     * Returns the ids of the tasks that changed status. Nothing changes unless the caller may
+     * change every one of them.
+     */
+    @PostMapping("/status-changes")
+    public List<Long> changeStatuses(@Valid @RequestBody BulkStatusChangeRequest request,
+                                     @AuthenticationPrincipal AccountPrincipal principal) {
+        requireAccount(principal);
+        if (!principal.isAdmin()) {
+            taskService.getTasks(request.getTaskIds()).forEach(task -> requireParticipantOrAdmin(task, principal));
+        }
+        return taskService.changeStatuses(request.getTaskIds(), request.getStatus(), principal.getId());
+    }
+
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> deleteTask(@PathVariable Long id, @AuthenticationPrincipal AccountPrincipal principal) {
+        requireParticipantOrAdmin(taskService.getTask(id), principal);
+        taskService.deleteTask(id);
+        return ResponseEntity.noContent().build();
+    }
+
+    private static void requireParticipantOrAdmin(Task task, AccountPrincipal principal) {
+        requireAccount(principal);
+        if (!principal.isAdmin() && !principal.getId().equals(idOf(task.getAuthor()))
+                && !principal.getId().equals(idOf(task.getAssignee()))) {
+            throw new AccessDeniedException("Only the author or assignee can change task " + task.getId());
+        }
+    }
+
+    private static void requireAccount(AccountPrincipal principal) {
+        if (principal == null) {
+            throw new AccessDeniedException("Not an account");
+        }
+    }
+
+    private static Long idOf(User user) {
+        return user != null ? user.getId() : null;
+    }
+
+    private static String etagOf(Task task, TaskFieldSelection selection) {
+        return "\"" + task.getId() + "-" + Long.toHexString(versionOf(task)) + selection.tag() + "\"";
+    }
+
+    private static long lastModifiedOf(Task task) {
+        LocalDateTime updatedAt = task.getUpdatedAt() != null ? task.getUpdatedAt() : task.getCreatedAt();
+        return updatedAt != null ? updatedAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli() : -1;
+    }
+
+    private static long versionOf(Task task) {
+        return task.getUpdatedAt() != null ? ChronoUnit.MICROS.between(EPOCH, task.getUpdatedAt()) : 0;
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.taskmanageranalytics.controller;
+
+import com.example.taskmanageranalytics.dto.TaskResponse;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import org.springframework.http.converter.json.MappingJacksonValue;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+/**
+ * The {@link TaskResponse} properties a client asked for, either as an allow-list
+ * ({@code fields=id,title,status}) or as a deny-list ({@code exclude=description}).
+ */
+final class TaskFieldSelection {
+
+    static final TaskFieldSelection ALL = new TaskFieldSelection(allFields());
+
+    private final Set<String> fields;
+
+    private TaskFieldSelection(Set<String> fields) {
+        this.fields = fields;
+    }
+
+    static TaskFieldSelection of(String fields, String exclude) {
+        if (fields != null && exclude != null) {
+            throw new IllegalArgumentException("Use either 'fields' or 'exclude', not both");
+        }
+        if (fields != null) {
+            return new TaskFieldSelection(parse(fields));
+        }
+        if (exclude != null) {
+            Set<String> selected = allFields();
+            selected.removeAll(parse(exclude));
+            return new TaskFieldSelection(selected);
+        }
+        return ALL;
+    }
+
+    MappingJacksonValue wrap(Object body) {
+        MappingJacksonValue value = new MappingJacksonValue(body);
+        value.setFilters(new SimpleFilterProvider().addFilter(TaskResponse.FIELD_FILTER,
+                SimpleBeanPropertyFilter.filterOutAllExcept(fields)));
+        return value;
+    }
+
+    /**
+     * Part of the entity tag, since two selections of the same task are different representations.
+     */
+    String tag() {
+        return this == ALL ? "" : Integer.toHexString(fields.hashCode());
+    }
+
+    private static Set<String> parse(String list) {
+        Set<String> known = allFields();
+        Set<String> parsed = new TreeSet<>();
+        for (String name : list.split(",")) {
+            String field = name.trim();
+            if (field.isEmpty()) {
+                continue;
+            }
+            if (!known.contains(field)) {
+                throw new IllegalArgumentException("Unknown task field: " + field);
+            }
+            parsed.add(field);
+        }
+        return parsed;
+    }
+
+    private static Set<String> allFields() {
+        return Arrays.stream(TaskResponse.class.getDeclaredFields())
+                .filter(field -> !Modifier.isStatic(field.getModifiers()))
+                .map(Field::getName)
+                .collect(Collectors.toCollection(TreeSet::new));
+    }
+}
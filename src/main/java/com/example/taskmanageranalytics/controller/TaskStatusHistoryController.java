@@ -0,0 +1,164 @@
+package com.example.taskmanageranalytics.controller;
+
+import com.example.taskmanageranalytics.dto.CursorPage;
+import com.example.taskmanageranalytics.dto.HistoryCursor;
+import com.example.taskmanageranalytics.dto.TaskStatusHistoryResponse;
+import com.example.taskmanageranalytics.entity.TaskStatusHistory;
+import com.example.taskmanageranalytics.service.TaskStatusHistoryArchiveService;
+import com.example.taskmanageranalytics.service.TaskStatusHistoryService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Consumer;
+
+@RestController
+@RequestMapping("/api")
+@RequiredArgsConstructor
+public class TaskStatusHistoryController {
+
+    static final String CSV_HEADER = "id,taskId,oldStatus,newStatus,changedAt,changedById";
+
+    enum ExportFormat {
+        NDJSON("application/x-ndjson"), CSV("text/csv");
+
+        final String contentType;
+
+        ExportFormat(String contentType) {
+            this.contentType = contentType;
+        }
+
+        static ExportFormat parse(String format) {
+            for (ExportFormat value : values()) {
+                if (value.fileExtension().equals(format)) {
+                    return value;
+                }
+            }
+            throw new IllegalArgumentException("Unsupported export format: " + format);
+        }
+
+        String fileExtension() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    private final TaskStatusHistoryService taskStatusHistoryService;
+    private final TaskStatusHistoryArchiveService taskStatusHistoryArchiveService;
+    private final ObjectMapper objectMapper;
+
+    @GetMapping("/tasks/{taskId}/history")
+    public CursorPage<TaskStatusHistoryResponse, HistoryCursor> getTaskHistory(
+            @PathVariable Long taskId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime beforeChangedAt,
+            @RequestParam(required = false) Long beforeId,
+            @RequestParam(defaultValue = "50") int limit) {
+        return page(taskId, beforeChangedAt, beforeId, limit);
+    }
+
+    @GetMapping("/task-status-history")
+    public CursorPage<TaskStatusHistoryResponse, HistoryCursor> getHistory(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime beforeChangedAt,
+            @RequestParam(required = false) Long beforeId,
+            @RequestParam(defaultValue = "50") int limit) {
+        return page(null, beforeChangedAt, beforeId, limit);
+    }
+
+    @GetMapping("/task-status-history/{id}")
+    public TaskStatusHistoryResponse getTaskStatusHistory(@PathVariable long id) {
+        return TaskStatusHistoryResponse.from(taskStatusHistoryService.getTaskStatusHistoryById(id));
+    }
+
+    /**
+     * Writes the history oldest first as NDJSON or CSV while it is read from the database; the
+     * servlet output buffer is the only thing held in memory.
+     */
+    @GetMapping("/task-status-history/export")
+    public void exportHistory(@RequestParam(required = false) Long taskId,
+                              @RequestParam(defaultValue = "ndjson") String format,
+                              HttpServletResponse response) throws IOException {
+        ExportFormat exportFormat = ExportFormat.parse(format);
+        export(exportFormat, response, consumer -> taskStatusHistoryService.exportHistory(taskId, consumer));
+    }
+
+    @GetMapping("/task-status-history/archive/months")
+    public List<YearMonth> getArchivedMonths() {
+        return taskStatusHistoryArchiveService.getArchivedMonths();
+    }
+
+    /**
+     * Exports history that was archived out of the database, with {@code from <= changedAt < to},
+     * in the same formats as {@link #exportHistory}.
+     */
+    @GetMapping("/task-status-history/archive")
+    public void exportArchivedHistory(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(defaultValue = "ndjson") String format,
+            HttpServletResponse response) throws IOException {
+        ExportFormat exportFormat = ExportFormat.parse(format);
+        if (!from.isBefore(to)) {
+            throw new IllegalArgumentException("from must be before to");
+        }
+        export(exportFormat, response, consumer -> taskStatusHistoryArchiveService.readArchivedHistory(from, to, consumer));
+    }
+
+    private void export(ExportFormat format, HttpServletResponse response,
+                        Consumer<Consumer<TaskStatusHistoryResponse>> rows) throws IOException {
+        boolean csv = format == ExportFormat.CSV;
+        response.setContentType(format.contentType);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                "attachment; filename=\"task-status-history." + format.fileExtension() + "\"");
+
+        Writer writer = response.getWriter();
+        if (csv) {
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+        }
+        rows.accept(row -> {
+            try {
+                writer.write(csv ? csvLine(row) : jsonLine(row));
+                writer.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        writer.flush();
+    }
+
+    private CursorPage<TaskStatusHistoryResponse, HistoryCursor> page(Long taskId, LocalDateTime beforeChangedAt,
+                                                                      Long beforeId, int limit) {
+        if ((beforeChangedAt == null) != (beforeId == null)) {
+            throw new IllegalArgumentException("beforeChangedAt and beforeId must be given together");
+        }
+        HistoryCursor before = beforeId != null ? new HistoryCursor(beforeChangedAt, beforeId) : null;
+        CursorPage<TaskStatusHistory, HistoryCursor> page = taskStatusHistoryService.getHistory(taskId, before, limit);
+        return new CursorPage<>(page.getItems().stream().map(TaskStatusHistoryResponse::from).toList(),
+                page.getNextCursor());
+    }
+
+    private String jsonLine(TaskStatusHistoryResponse row) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(row);
+    }
+
+    private static String csvLine(TaskStatusHistoryResponse row) {
+        return row.getId() + "," + row.getTaskId() + "," + row.getOldStatus() + "," + row.getNewStatus() + ","
+                + row.getChangedAt() + "," + row.getChangedById();
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.taskmanageranalytics.controller;
+
+import com.example.taskmanageranalytics.dto.UserRequest;
+import com.example.taskmanageranalytics.dto.UserResponse;
+import com.example.taskmanageranalytics.dto.UserUpdateRequest;
+import com.example.taskmanageranalytics.security.AccountPrincipal;
+import com.example.taskmanageranalytics.service.UserService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.data.web.PagedModel;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import java.net.URI;
+
+@RestController
+@RequestMapping("/api/users")
+@RequiredArgsConstructor
+public class UserController {
+
+    private final UserService userService;
+
+    @GetMapping
+    public PagedModel<UserResponse> getUsers(@PageableDefault(size = 50, sort = "id", direction = Sort.Direction.ASC)
+                                             Pageable pageable) {
+        return new PagedModel<>(userService.getUsers(pageable));
+    }
+
+    @GetMapping("/{id}")
+    public UserResponse getUser(@PathVariable Long id) {
+        return userService.getUserById(id);
+    }
+
+    @GetMapping("/by-username/{username}")
+    public UserResponse getUserByUsername(@PathVariable String username) {
+        return userService.getUserByUsername(username);
+    }
+
+    @PostMapping
+    public ResponseEntity<UserResponse> createUser(@Valid @RequestBody UserRequest userRequest) {
+        UserResponse user = userService.createUser(userRequest);
+        URI location = ServletUriComponentsBuilder.fromCurrentRequest()
+                .path("/{id}")
+                .buildAndExpand(user.getId())
+                .toUri();
+        return ResponseEntity.created(location).body(user);
+    }
+
+    /**
+     * Omitted fields are left unchanged.
+     */
+    @PutMapping("/{id}")
+    public UserResponse updateUser(@PathVariable Long id, @Valid @RequestBody UserUpdateRequest userRequest,
+                                   @AuthenticationPrincipal AccountPrincipal principal) {
+        requireSelfOrAdmin(id, principal);
+        return userService.updateUser(id, userRequest);
+    }
+
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> deleteUser(@PathVariable Long id, @AuthenticationPrincipal AccountPrincipal principal) {
+        requireSelfOrAdmin(id, principal);
+        userService.deleteUser(id);
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * Accounts may only change themselves; administrators may change anyone.
+     */
+    private void requireSelfOrAdmin(Long id, AccountPrincipal principal) {
+        if (principal == null) {
+            throw new AccessDeniedException("Not an account");
+        }
+        if (!principal.isAdmin() && !principal.getId().equals(id)) {
+            throw new AccessDeniedException("Cannot modify another user");
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.taskmanageranalytics.dto;
+
+import com.example.taskmanageranalytics.entity.TaskStatus;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkStatusChangeRequest {
+    @NotEmpty
+    @Size(max = 10000)
+    private List<@NotNull Long> taskIds;
+
+    @NotNull
+    private TaskStatus status;
+}
@@ -0,0 +1,23 @@
+package com.example.taskmanageranalytics.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * Outcome of one item of a bulk import: the id of the created task, or why it was not created.
+ */
+@Data
+@AllArgsConstructor
+public class BulkTaskItemResult {
+    private int index;
+    private Long taskId;
+    private String error;
+
+    public static BulkTaskItemResult created(int index, Long taskId) {
+        return new BulkTaskItemResult(index, taskId, null);
+    }
+
+    public static BulkTaskItemResult failed(int index, String error) {
+        return new BulkTaskItemResult(index, null, error);
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.taskmanageranalytics.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * One item per request, in request order.
+ */
+@Data
+@AllArgsConstructor
+public class BulkTaskResult {
+    private List<BulkTaskItemResult> items;
+}
@@ -0,0 +1,16 @@
+package com.example.taskmanageranalytics.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class CounterReconciliationReport {
+    private int missingCounters;
+    private int createdTasksDrift;
+    private int assignedTasksDrift;
+
+    public boolean hasDrift() {
+        return missingCounters > 0 || createdTasksDrift > 0 || assignedTasksDrift > 0;
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.taskmanageranalytics.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * One page of a keyset-paginated listing. {@code nextCursor} is the seek position of the
+ * following page, or {@code null} when this is the last page.
+ */
+@Data
+@AllArgsConstructor
+public class CursorPage<T, C> {
+    private List<T> items;
+    private C nextCursor;
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
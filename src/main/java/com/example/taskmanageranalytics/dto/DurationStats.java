@@ -0,0 +1,13 @@
+package com.example.taskmanageranalytics.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.time.Duration;
+
+@Data
+@AllArgsConstructor
+public class DurationStats {
+    private long taskCount;
+    private Duration average;
+}
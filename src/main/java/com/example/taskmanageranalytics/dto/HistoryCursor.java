@@ -0,0 +1,19 @@
+package com.example.taskmanageranalytics.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Seek position in status history ordered newest first: the {@code (changedAt, id)} of the last
+ * entry already returned.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class HistoryCursor {
+    private LocalDateTime changedAt;
+    private Long id;
+}
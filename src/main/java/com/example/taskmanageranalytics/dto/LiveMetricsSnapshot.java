@@ -0,0 +1,19 @@
+package com.example.taskmanageranalytics.dto;
+
+import com.example.taskmanageranalytics.entity.TaskStatus;
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.Map;
+
+@Data
+@Builder
+public class LiveMetricsSnapshot {
+    private MetricsWindow window;
+    private long tasksCreated;
+    private long transitions;
+    private double tasksCreatedPerSecond;
+    private double transitionsPerSecond;
+    private Map<TaskStatus, Long> transitionsInto;
+    private Map<TaskStatus, Long> currentStatusCounts;
+}
@@ -0,0 +1,17 @@
+package com.example.taskmanageranalytics.dto;
+
+import java.time.Duration;
+
+public enum MetricsWindow {
+    ONE_MINUTE(Duration.ofMinutes(1)), FIVE_MINUTES(Duration.ofMinutes(5)), ONE_HOUR(Duration.ofHours(1));
+
+    private final Duration length;
+
+    MetricsWindow(Duration length) {
+        this.length = length;
+    }
+
+    public Duration getLength() {
+        return length;
+    }
+}
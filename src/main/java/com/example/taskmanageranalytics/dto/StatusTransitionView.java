@@ -0,0 +1,17 @@
+package com.example.taskmanageranalytics.dto;
+
+import com.example.taskmanageranalytics.entity.TaskStatus;
+
+import java.time.LocalDateTime;
+
+public interface StatusTransitionView {
+    Long getId();
+
+    TaskStatus getOldStatus();
+
+    TaskStatus getNewStatus();
+
+    Long getChangedById();
+
+    LocalDateTime getChangedAt();
+}
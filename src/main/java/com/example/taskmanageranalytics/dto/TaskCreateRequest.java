@@ -0,0 +1,26 @@
+package com.example.taskmanageranalytics.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A task created over the API; the author is always the authenticated caller.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskCreateRequest {
+    @NotBlank
+    @Size(max = 255)
+    private String title;
+
+    @Size(max = 255)
+    private String description;
+
+    private Long assigneeId;
+}
@@ -0,0 +1,17 @@
+package com.example.taskmanageranalytics.dto;
+
+import com.example.taskmanageranalytics.entity.TaskStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskFilter {
+    private TaskStatus status;
+    private Long authorId;
+    private Long assigneeId;
+}
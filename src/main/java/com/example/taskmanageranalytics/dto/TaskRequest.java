@@ -0,0 +1,27 @@
+package com.example.taskmanageranalytics.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskRequest {
+    @NotBlank
+    @Size(max = 255)
+    private String title;
+
+    @Size(max = 255)
+    private String description;
+
+    @NotNull
+    private Long authorId;
+
+    private Long assigneeId;
+}
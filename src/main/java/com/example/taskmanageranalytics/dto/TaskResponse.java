@@ -0,0 +1,53 @@
+package com.example.taskmanageranalytics.dto;
+
+import com.example.taskmanageranalytics.entity.Task;
+import com.example.taskmanageranalytics.entity.TaskStatus;
+import com.example.taskmanageranalytics.entity.User;
+import com.fasterxml.jackson.annotation.JsonFilter;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * Serialized through the {@value #FIELD_FILTER} Jackson filter, so it must be written wrapped
+ * in a {@link org.springframework.http.converter.json.MappingJacksonValue} that supplies one.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@JsonFilter(TaskResponse.FIELD_FILTER)
+public class TaskResponse {
+    public static final String FIELD_FILTER = "taskFields";
+
+    private Long id;
+    private String title;
+    private String description;
+    private TaskStatus status;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    private LocalDateTime startedAt;
+    private LocalDateTime completedAt;
+    private Long authorId;
+    private Long assigneeId;
+
+    public static TaskResponse from(Task task) {
+        return TaskResponse.builder()
+                .id(task.getId())
+                .title(task.getTitle())
+                .description(task.getDescription())
+                .status(task.getStatus())
+                .createdAt(task.getCreatedAt())
+                .updatedAt(task.getUpdatedAt())
+                .startedAt(task.getStartedAt())
+                .completedAt(task.getCompletedAt())
+                .authorId(idOf(task.getAuthor()))
+                .assigneeId(idOf(task.getAssignee()))
+                .build();
+    }
+
+    private static Long idOf(User user) {
+        return user != null ? user.getId() : null;
+    }
+}
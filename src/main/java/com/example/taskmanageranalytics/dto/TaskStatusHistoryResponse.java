@@ -0,0 +1,32 @@
+package com.example.taskmanageranalytics.dto;
+
+import com.example.taskmanageranalytics.entity.TaskStatus;
+import com.example.taskmanageranalytics.entity.TaskStatusHistory;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@AllArgsConstructor
+public class TaskStatusHistoryResponse {
+    private Long id;
+    private Long taskId;
+    private TaskStatus oldStatus;
+    private TaskStatus newStatus;
+    private LocalDateTime changedAt;
+    private Long changedById;
+
+    public static TaskStatusHistoryResponse from(TaskStatusHistory history) {
+        return TaskStatusHistoryResponse.builder()
+                .id(history.getId())
+                .taskId(history.getTask().getId())
+                .oldStatus(history.getOldStatus())
+                .newStatus(history.getNewStatus())
+                .changedAt(history.getChangedAt())
+                .changedById(history.getChangedBy().getId())
+                .build();
+    }
+}
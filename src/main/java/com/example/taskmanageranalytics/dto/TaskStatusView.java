@@ -0,0 +1,21 @@
+package com.example.taskmanageranalytics.dto;
+
+import com.example.taskmanageranalytics.entity.TaskStatus;
+
+import java.time.LocalDateTime;
+
+public interface TaskStatusView {
+    Long getId();
+
+    TaskStatus getStatus();
+
+    Long getAuthorId();
+
+    Long getAssigneeId();
+
+    LocalDateTime getCreatedAt();
+
+    LocalDateTime getStartedAt();
+
+    LocalDateTime getCompletedAt();
+}
@@ -0,0 +1,22 @@
+package com.example.taskmanageranalytics.dto;
+
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Partial update: {@code null} fields are left unchanged.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskUpdateRequest {
+    @Size(min = 1, max = 255)
+    private String title;
+
+    @Size(max = 255)
+    private String description;
+}
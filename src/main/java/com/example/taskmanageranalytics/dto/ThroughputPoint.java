@@ -0,0 +1,13 @@
+package com.example.taskmanageranalytics.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.time.LocalDate;
+
+@Data
+@AllArgsConstructor
+public class ThroughputPoint {
+    private LocalDate periodStart;
+    private long completedCount;
+}
@@ -0,0 +1,14 @@
+package com.example.taskmanageranalytics.dto;
+
+import com.example.taskmanageranalytics.entity.TaskStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class TransitionCount {
+    private TaskStatus oldStatus;
+    private TaskStatus newStatus;
+    private Long changedById;
+    private long count;
+}
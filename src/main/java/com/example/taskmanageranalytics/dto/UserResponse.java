@@ -1,6 +1,7 @@
 package com.example.taskmanageranalytics.dto;
 
 import com.example.taskmanageranalytics.entity.User;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 
@@ -8,6 +9,7 @@ import java.time.LocalDateTime;
 
 @Data
 @Builder(toBuilder = true)
+@AllArgsConstructor
 public class UserResponse {
     private Long id;
     private String username;
@@ -16,4 +18,12 @@ public class UserResponse {
     private LocalDateTime createdAt;
     private Integer createdTasksCount;
     private Integer assignedTasksCount;
+
+    /**
+     * Constructor used by JPQL constructor expressions.
+     */
+    public UserResponse(Long id, String username, String email, User.Role role,
+                        Integer createdTasksCount, Integer assignedTasksCount) {
+        this(id, username, email, role, null, createdTasksCount, assignedTasksCount);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,26 @@
+package com.example.taskmanageranalytics.dto;
+
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Partial update: {@code null} fields are left unchanged.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserUpdateRequest {
+    @Size(min = 3, max = 50)
+    private String username;
+
+    @Size(min = 6, max = 100)
+    private String password;
+
+    @Email
+    private String email;
+}
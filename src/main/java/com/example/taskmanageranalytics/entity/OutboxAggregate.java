@@ -0,0 +1,25 @@
+package com.example.taskmanageranalytics.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * Numbers the outbox events of one task or user. The row is locked from the first event a
+ * transaction appends until it commits, so an aggregate's sequence numbers are handed out in
+ * commit order and without gaps, which ids from the pooled sequence are not.
+ */
+@Entity
+@Table(name = "outbox_aggregates")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OutboxAggregate {
+
+    @EmbeddedId
+    private OutboxAggregateId id;
+
+    @Column(nullable = false)
+    private long lastSequence;
+}
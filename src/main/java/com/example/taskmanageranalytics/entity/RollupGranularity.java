@@ -0,0 +1,23 @@
+package com.example.taskmanageranalytics.entity;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+public enum RollupGranularity {
+    MINUTE(ChronoUnit.MINUTES), HOUR(ChronoUnit.HOURS), DAY(ChronoUnit.DAYS);
+
+    private final ChronoUnit unit;
+
+    RollupGranularity(ChronoUnit unit) {
+        this.unit = unit;
+    }
+
+    public LocalDateTime bucketStart(LocalDateTime time) {
+        return time.truncatedTo(unit);
+    }
+
+    public LocalDateTime nextBucketStart(LocalDateTime time) {
+        LocalDateTime start = bucketStart(time);
+        return start.equals(time) ? start : start.plus(1, unit);
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.taskmanageranalytics.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Position of a compactor in {@code task_status_history}, ordered by {@code (changed_at, id)}:
+ * every row up to and including {@code (lastChangedAt, lastHistoryId)} is folded into the rollups.
+ */
+@Entity
+@Table(name = "rollup_watermarks")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RollupWatermark {
+
+    @Id
+    private String name;
+
+    @Column(nullable = false)
+    private LocalDateTime lastChangedAt;
+
+    @Column(nullable = false)
+    private long lastHistoryId;
+}
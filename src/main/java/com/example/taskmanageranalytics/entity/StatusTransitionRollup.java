@@ -0,0 +1,20 @@
+package com.example.taskmanageranalytics.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+@Entity
+@Table(name = "status_transition_rollups")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class StatusTransitionRollup {
+
+    @EmbeddedId
+    private StatusTransitionRollupId id;
+
+    @Column(nullable = false)
+    private long transitionCount;
+}
@@ -1,23 +1,31 @@
 package com.example.taskmanageranalytics.entity;
 
+import com.example.taskmanageranalytics.config.CacheConfig;
+import com.example.taskmanageranalytics.event.TaskStatusChangedEvent;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
+import org.springframework.data.domain.AbstractAggregateRoot;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheConfig.TASKS_REGION)
 @AllArgsConstructor
 @NoArgsConstructor
 @Getter
 @Setter
 @Builder
-public class Task {
+public class Task extends AbstractAggregateRoot<Task> {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "task_seq")
+    @SequenceGenerator(name = "task_seq", sequenceName = "task_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -26,6 +34,7 @@ public class Task {
     private String description;
 
     @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
     @Builder.Default
     private TaskStatus status = TaskStatus.TODO;
 
@@ -35,6 +44,8 @@ public class Task {
     @UpdateTimestamp
     private LocalDateTime updatedAt;
 
+    private LocalDateTime startedAt;
+
     private LocalDateTime completedAt;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -49,22 +60,49 @@ public class Task {
     @Builder.Default
     private List<TaskStatusHistory> statusHistory = new ArrayList<>();
 
+    @Version
+    private Long version;
 
     public void changeStatus(TaskStatus newStatus, User changedBy) {
-        if (this.status != newStatus) {
-            TaskStatusHistory history = TaskStatusHistory.builder()
-                    .task(this)
-                    .oldStatus(this.status)
-                    .newStatus(newStatus)
-                    .changedBy(changedBy)
-                    .build();
-
+        TaskStatusHistory history = transitionTo(newStatus, changedBy);
+        if (history != null) {
             this.statusHistory.add(history);
-            this.status = newStatus;
+        }
+    }
 
-            if (newStatus == TaskStatus.DONE) {
-                this.completedAt = LocalDateTime.now();
-            }
+    /**
+     * Applies a status change and returns the history row describing it, or {@code null} if the
+     * task already has that status. The row is not added to {@link #statusHistory}, so callers
+     * that persist it themselves never initialize the collection.
+     */
+    public TaskStatusHistory transitionTo(TaskStatus newStatus, User changedBy) {
+        if (this.status == newStatus) {
+            return null;
         }
+        TaskStatusHistory history = TaskStatusHistory.builder()
+                .task(this)
+                .oldStatus(this.status)
+                .newStatus(newStatus)
+                .changedBy(changedBy)
+                .build();
+
+        TaskStatus oldStatus = this.status;
+        LocalDateTime now = LocalDateTime.now();
+        this.status = newStatus;
+
+        if (newStatus == TaskStatus.IN_PROGRESS && this.startedAt == null) {
+            this.startedAt = now;
+        }
+        if (newStatus == TaskStatus.DONE) {
+            this.completedAt = now;
+        }
+
+        registerEvent(new TaskStatusChangedEvent(id, idOf(author), idOf(assignee), idOf(changedBy),
+                oldStatus, newStatus, now, createdAt, startedAt, completedAt));
+        return history;
+    }
+
+    private static Long idOf(User user) {
+        return user != null ? user.getId() : null;
     }
 }
\ No newline at end of file
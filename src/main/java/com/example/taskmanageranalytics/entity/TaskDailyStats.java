@@ -0,0 +1,34 @@
+package com.example.taskmanageranalytics.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * Completed-task aggregates per day, kept per responsible user and globally
+ * (see {@link TaskDailyStatsId#GLOBAL}). Durations are stored as sums in seconds so averages
+ * over any range can be derived without touching the task table.
+ */
+@Entity
+@Table(name = "task_daily_stats")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TaskDailyStats {
+
+    @EmbeddedId
+    private TaskDailyStatsId id;
+
+    @Column(nullable = false)
+    private long completedCount;
+
+    @Column(nullable = false)
+    private long leadTimeSecondsSum;
+
+    @Column(nullable = false)
+    private long cycleTimeSecondsSum;
+
+    @Column(nullable = false)
+    private long cycleCount;
+}
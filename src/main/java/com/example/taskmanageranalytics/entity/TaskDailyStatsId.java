@@ -0,0 +1,28 @@
+package com.example.taskmanageranalytics.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+@Embeddable
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskDailyStatsId implements Serializable {
+
+    /**
+     * {@code userId} of the rows that aggregate over all users.
+     */
+    public static final long GLOBAL = 0L;
+
+    @Column(nullable = false)
+    private LocalDate statDate;
+
+    @Column(nullable = false)
+    private Long userId;
+}
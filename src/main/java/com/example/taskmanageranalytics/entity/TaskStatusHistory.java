@@ -16,7 +16,8 @@ import java.time.LocalDateTime;
 public class TaskStatusHistory {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "task_status_history_seq")
+    @SequenceGenerator(name = "task_status_history_seq", sequenceName = "task_status_history_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
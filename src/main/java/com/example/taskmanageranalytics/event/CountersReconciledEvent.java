@@ -0,0 +1,9 @@
+package com.example.taskmanageranalytics.event;
+
+import com.example.taskmanageranalytics.dto.CounterReconciliationReport;
+import lombok.Value;
+
+@Value
+public class CountersReconciledEvent {
+    CounterReconciliationReport report;
+}
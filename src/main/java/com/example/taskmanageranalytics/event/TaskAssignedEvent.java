@@ -0,0 +1,10 @@
+package com.example.taskmanageranalytics.event;
+
+import lombok.Value;
+
+@Value
+public class TaskAssignedEvent {
+    Long taskId;
+    Long previousAssigneeId;
+    Long assigneeId;
+}
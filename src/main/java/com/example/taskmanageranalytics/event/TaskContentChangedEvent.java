@@ -0,0 +1,10 @@
+package com.example.taskmanageranalytics.event;
+
+import lombok.Value;
+
+@Value
+public class TaskContentChangedEvent {
+    Long taskId;
+    String title;
+    String description;
+}
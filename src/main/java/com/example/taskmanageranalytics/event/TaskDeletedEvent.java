@@ -0,0 +1,12 @@
+package com.example.taskmanageranalytics.event;
+
+import com.example.taskmanageranalytics.entity.TaskStatus;
+import lombok.Value;
+
+@Value
+public class TaskDeletedEvent {
+    Long taskId;
+    Long authorId;
+    Long assigneeId;
+    TaskStatus status;
+}
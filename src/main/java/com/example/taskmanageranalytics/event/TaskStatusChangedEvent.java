@@ -0,0 +1,20 @@
+package com.example.taskmanageranalytics.event;
+
+import com.example.taskmanageranalytics.entity.TaskStatus;
+import lombok.Value;
+
+import java.time.LocalDateTime;
+
+@Value
+public class TaskStatusChangedEvent {
+    Long taskId;
+    Long authorId;
+    Long assigneeId;
+    Long changedById;
+    TaskStatus oldStatus;
+    TaskStatus newStatus;
+    LocalDateTime changedAt;
+    LocalDateTime createdAt;
+    LocalDateTime startedAt;
+    LocalDateTime completedAt;
+}
@@ -0,0 +1,12 @@
+package com.example.taskmanageranalytics.event;
+
+import com.example.taskmanageranalytics.entity.User;
+import lombok.Value;
+
+@Value
+public class UserCreatedEvent {
+    Long userId;
+    String username;
+    String email;
+    User.Role role;
+}
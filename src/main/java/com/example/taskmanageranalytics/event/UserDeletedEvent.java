@@ -0,0 +1,8 @@
+package com.example.taskmanageranalytics.event;
+
+import lombok.Value;
+
+@Value
+public class UserDeletedEvent {
+    Long userId;
+}
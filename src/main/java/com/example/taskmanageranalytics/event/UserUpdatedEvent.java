@@ -0,0 +1,12 @@
+package com.example.taskmanageranalytics.event;
+
+import com.example.taskmanageranalytics.entity.User;
+import lombok.Value;
+
+@Value
+public class UserUpdatedEvent {
+    Long userId;
+    String username;
+    String email;
+    User.Role role;
+}
@@ -0,0 +1,7 @@
+package com.example.taskmanageranalytics.exception;
+
+public class TaskNotFoundException extends RuntimeException {
+    public TaskNotFoundException(Long id) {
+        super("Task not found with id: " + id);
+    }
+}
@@ -0,0 +1,7 @@
+package com.example.taskmanageranalytics.exception;
+
+public class TaskStatusHistoryNotFoundException extends RuntimeException {
+    public TaskStatusHistoryNotFoundException(Long id) {
+        super("Task status history not found with id: " + id);
+    }
+}
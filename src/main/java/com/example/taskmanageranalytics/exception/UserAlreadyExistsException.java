@@ -1,7 +1,14 @@
 package com.example.taskmanageranalytics.exception;
 
 public class UserAlreadyExistsException extends RuntimeException {
+    private final String field;
+
     public UserAlreadyExistsException(String field, String value) {
         super("User with " + field + " '" + value + "' already exists");
+        this.field = field;
+    }
+
+    public String getField() {
+        return field;
     }
-}
\ No newline at end of file
+}
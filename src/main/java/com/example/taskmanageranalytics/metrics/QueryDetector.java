@@ -0,0 +1,154 @@
+package com.example.taskmanageranalytics.metrics;
+
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.transaction.TransactionExecutionListener;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.StringUtils;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Counts the statements Hibernate prepares in each transaction and flags a transaction that runs
+ * the same select {@code repeatedSelectThreshold} times or more, the usual shape of an N+1 over a
+ * lazy association. In {@link Mode#LOG} a sample of the offending transactions is logged with the
+ * call stack that reached the threshold. Tests record what their transactions ran through
+ * {@link #startRecording()}, whatever the mode. Statements outside a transaction and JDBC work
+ * that bypasses Hibernate are not counted.
+ */
+@Slf4j
+public class QueryDetector implements StatementInspector, TransactionExecutionListener {
+
+    public enum Mode {
+        OFF, LOG
+    }
+
+    private final Mode mode;
+    private final int repeatedSelectThreshold;
+    private final double stackSampleRate;
+    private final ThreadLocal<Deque<Tally>> transactions = ThreadLocal.withInitial(ArrayDeque::new);
+    private final ThreadLocal<List<TransactionQueries>> recording = new ThreadLocal<>();
+
+    public QueryDetector(Mode mode, int repeatedSelectThreshold, double stackSampleRate) {
+        this.mode = mode;
+        this.repeatedSelectThreshold = repeatedSelectThreshold;
+        this.stackSampleRate = stackSampleRate;
+    }
+
+    @Override
+    public void afterBegin(TransactionExecution transaction, Throwable beginFailure) {
+        if (beginFailure == null && transaction.isNewTransaction()
+                && (mode == Mode.LOG || recording.get() != null)) {
+            transactions.get().push(new Tally(transaction, transaction.getTransactionName()));
+        }
+    }
+
+    @Override
+    public void afterCommit(TransactionExecution transaction, Throwable commitFailure) {
+        complete(transaction);
+    }
+
+    @Override
+    public void afterRollback(TransactionExecution transaction, Throwable rollbackFailure) {
+        complete(transaction);
+    }
+
+    @Override
+    public String inspect(String sql) {
+        Tally tally = transactions.get().peek();
+        if (tally != null) {
+            tally.count(sql);
+        }
+        return sql;
+    }
+
+    /**
+     * Starts collecting the transactions that complete on the calling thread. A transaction that
+     * is already active and not tallied yet, such as a test-managed one, is tallied from here on
+     * and reported as still open.
+     */
+    public void startRecording() {
+        recording.set(new ArrayList<>());
+        if (TransactionSynchronizationManager.isActualTransactionActive() && transactions.get().isEmpty()) {
+            transactions.get().push(new Tally(null, TransactionSynchronizationManager.getCurrentTransactionName()));
+        }
+    }
+
+    /**
+     * Stops collecting and returns what was collected, including transactions still open.
+     */
+    public List<TransactionQueries> stopRecording() {
+        List<TransactionQueries> recorded = recording.get();
+        recording.remove();
+        if (recorded == null) {
+            return List.of();
+        }
+        transactions.get().forEach(tally -> recorded.add(tally.toQueries()));
+        transactions.get().removeIf(tally -> tally.transaction == null);
+        return recorded;
+    }
+
+    private void complete(TransactionExecution transaction) {
+        Deque<Tally> open = transactions.get();
+        Tally tally = open.peek();
+        if (tally == null || tally.transaction != transaction) {
+            return;
+        }
+        open.pop();
+        List<TransactionQueries> recorded = recording.get();
+        if (recorded != null) {
+            recorded.add(tally.toQueries());
+        }
+        if (tally.stack != null) {
+            TransactionQueries queries = tally.toQueries();
+            Map.Entry<String, Integer> repeated = queries.mostRepeatedSelect();
+            log.warn("Possible N+1 in transaction {}: {} statements, the same select ran {} times: {}",
+                    queries.getTransactionName(), queries.getStatements(), repeated.getValue(), repeated.getKey(),
+                    tally.stack);
+        }
+    }
+
+    private static boolean isSelect(String sql) {
+        String statement = sql.stripLeading();
+        return statement.regionMatches(true, 0, "select", 0, 6) || statement.regionMatches(true, 0, "with", 0, 4);
+    }
+
+    private final class Tally {
+        private final TransactionExecution transaction;
+        private final String name;
+        private final Map<String, Integer> selectCounts = new HashMap<>();
+        private int statements;
+        private boolean flagged;
+        private Throwable stack;
+
+        Tally(TransactionExecution transaction, String name) {
+            this.transaction = transaction;
+            this.name = name;
+        }
+
+        void count(String sql) {
+            statements++;
+            if (!isSelect(sql)) {
+                return;
+            }
+            int count = selectCounts.merge(sql, 1, Integer::sum);
+            if (count >= repeatedSelectThreshold && !flagged && mode == Mode.LOG) {
+                flagged = true;
+                if (ThreadLocalRandom.current().nextDouble() < stackSampleRate) {
+                    stack = new Throwable("Call stack of the repeated select");
+                }
+            }
+        }
+
+        TransactionQueries toQueries() {
+            return new TransactionQueries(StringUtils.hasLength(name) ? name : "(unnamed)", statements, Map.copyOf(selectCounts));
+        }
+    }
+}
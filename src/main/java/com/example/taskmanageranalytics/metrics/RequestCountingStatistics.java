@@ -0,0 +1,34 @@
+package com.example.taskmanageranalytics.metrics;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.stat.internal.StatisticsImpl;
+
+/**
+ * Hibernate's session factory statistics, which also feed the counts of the request running on
+ * the current thread. Installed through {@code hibernate.stats.factory} and only called while
+ * {@code hibernate.generate_statistics} is on.
+ */
+public class RequestCountingStatistics extends StatisticsImpl {
+
+    public RequestCountingStatistics(SessionFactoryImplementor sessionFactory) {
+        super(sessionFactory);
+    }
+
+    @Override
+    public void prepareStatement() {
+        super.prepareStatement();
+        RequestStatistics request = RequestStatistics.current();
+        if (request != null) {
+            request.statementPrepared();
+        }
+    }
+
+    @Override
+    public void loadEntity(String entityName) {
+        super.loadEntity(entityName);
+        RequestStatistics request = RequestStatistics.current();
+        if (request != null) {
+            request.entityLoaded();
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.taskmanageranalytics.metrics;
+
+/**
+ * SQL statements and entity loads counted for the work of one request on the thread handling
+ * it. Hibernate reports both through {@link RequestCountingStatistics}; work handed to other
+ * threads is not attributed to the request.
+ */
+public final class RequestStatistics {
+
+    private static final ThreadLocal<RequestStatistics> CURRENT = new ThreadLocal<>();
+
+    private long statements;
+    private long entityLoads;
+
+    private RequestStatistics() {
+    }
+
+    /**
+     * Starts counting on the calling thread, replacing anything counted before.
+     */
+    public static RequestStatistics start() {
+        RequestStatistics statistics = new RequestStatistics();
+        CURRENT.set(statistics);
+        return statistics;
+    }
+
+    public static void stop() {
+        CURRENT.remove();
+    }
+
+    static RequestStatistics current() {
+        return CURRENT.get();
+    }
+
+    public long getStatements() {
+        return statements;
+    }
+
+    public long getEntityLoads() {
+        return entityLoads;
+    }
+
+    void statementPrepared() {
+        statements++;
+    }
+
+    void entityLoaded() {
+        entityLoads++;
+    }
+}
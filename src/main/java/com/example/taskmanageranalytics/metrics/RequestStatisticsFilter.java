@@ -0,0 +1,52 @@
+package com.example.taskmanageranalytics.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * Records how many SQL statements and entity loads each request caused, tagged like
+ * {@code http.server.requests} with the method and the matched URI pattern.
+ */
+public class RequestStatisticsFilter extends OncePerRequestFilter {
+
+    static final String STATEMENTS_METRIC = "http.server.requests.sql.statements";
+    static final String ENTITY_LOADS_METRIC = "http.server.requests.entity.loads";
+
+    private final MeterRegistry meterRegistry;
+
+    public RequestStatisticsFilter(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        RequestStatistics statistics = RequestStatistics.start();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            RequestStatistics.stop();
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            Tags tags = Tags.of("method", request.getMethod(), "uri", pattern != null ? pattern.toString() : "UNKNOWN");
+            DistributionSummary.builder(STATEMENTS_METRIC)
+                    .baseUnit("statements")
+                    .tags(tags)
+                    .register(meterRegistry)
+                    .record(statistics.getStatements());
+            DistributionSummary.builder(ENTITY_LOADS_METRIC)
+                    .baseUnit("entities")
+                    .tags(tags)
+                    .register(meterRegistry)
+                    .record(statistics.getEntityLoads());
+        }
+    }
+}
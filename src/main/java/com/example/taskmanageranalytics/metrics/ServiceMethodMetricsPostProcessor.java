@@ -0,0 +1,66 @@
+package com.example.taskmanageranalytics.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.framework.autoproxy.AbstractBeanFactoryAwareAdvisingPostProcessor;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.StaticMethodMatcherPointcut;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.util.ClassUtils;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Times every call to the methods of the given service interfaces as {@code service.method},
+ * tagged with the interface, the method and the exception thrown, if any. The timer wraps any
+ * transaction proxy, so commit time is included.
+ */
+public class ServiceMethodMetricsPostProcessor extends AbstractBeanFactoryAwareAdvisingPostProcessor {
+
+    static final String METRIC = "service.method";
+
+    public ServiceMethodMetricsPostProcessor(ObjectProvider<MeterRegistry> meterRegistry, List<Class<?>> services) {
+        StaticMethodMatcherPointcut pointcut = new StaticMethodMatcherPointcut() {
+            @Override
+            public boolean matches(Method method, Class<?> targetClass) {
+                return serviceOf(services, targetClass, method) != null;
+            }
+        };
+        MethodInterceptor timer = invocation -> time(invocation, meterRegistry.getObject(),
+                serviceOf(services, ClassUtils.getUserClass(invocation.getThis()), invocation.getMethod()));
+        this.advisor = new DefaultPointcutAdvisor(pointcut, timer);
+        setBeforeExistingAdvisors(true);
+    }
+
+    private static Object time(MethodInvocation invocation, MeterRegistry meterRegistry, Class<?> service)
+            throws Throwable {
+        long start = System.nanoTime();
+        String exception = "none";
+        try {
+            return invocation.proceed();
+        } catch (Throwable e) {
+            exception = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            Timer.builder(METRIC)
+                    .tag("service", service != null ? service.getSimpleName() : "unknown")
+                    .tag("method", invocation.getMethod().getName())
+                    .tag("exception", exception)
+                    .register(meterRegistry)
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private static Class<?> serviceOf(List<Class<?>> services, Class<?> targetClass, Method method) {
+        for (Class<?> service : services) {
+            if (service.isAssignableFrom(targetClass) && ClassUtils.hasMethod(service, method)) {
+                return service;
+            }
+        }
+        return null;
+    }
+}
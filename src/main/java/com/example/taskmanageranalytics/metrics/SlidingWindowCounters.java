@@ -0,0 +1,76 @@
+package com.example.taskmanageranalytics.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free ring of time slots, each holding one counter per column. Every cell packs the
+ * slot it belongs to into its upper bits, so a writer that lands on a cell left over from an
+ * earlier lap resets it with the same compare-and-set that increments it, and readers simply
+ * ignore cells whose tag is outside the requested window. Tags take 40 bits, leaving 24 bits
+ * (about 16.7 million events) per cell.
+ */
+public class SlidingWindowCounters {
+
+    private static final int TAG_SHIFT = 24;
+    private static final long COUNT_MASK = (1L << TAG_SHIFT) - 1;
+
+    private final int slots;
+    private final long slotSeconds;
+    private final int columns;
+    private final AtomicLongArray cells;
+
+    public SlidingWindowCounters(int slots, long slotSeconds, int columns) {
+        this.slots = slots;
+        this.slotSeconds = slotSeconds;
+        this.columns = columns;
+        this.cells = new AtomicLongArray(slots * columns);
+    }
+
+    /**
+     * Counts {@code delta} events at {@code epochSecond}. Events older than the ring are dropped.
+     */
+    public void add(long epochSecond, int column, long delta) {
+        long slot = epochSecond / slotSeconds;
+        long tag = slot;
+        int cell = cellIndex(slot, column);
+        while (true) {
+            long current = cells.get(cell);
+            long currentTag = current >>> TAG_SHIFT;
+            long next;
+            if (currentTag == tag) {
+                next = current + delta;
+            } else if (currentTag < tag) {
+                next = (tag << TAG_SHIFT) | (delta & COUNT_MASK);
+            } else {
+                return;
+            }
+            if (cells.compareAndSet(cell, current, next)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Sums a column over the {@code slotCount} most recent slots, including the current one.
+     */
+    public long sum(long nowEpochSecond, int column, int slotCount) {
+        long nowSlot = nowEpochSecond / slotSeconds;
+        long total = 0;
+        for (int i = 0; i < Math.min(slotCount, slots); i++) {
+            long slot = nowSlot - i;
+            long value = cells.get(cellIndex(slot, column));
+            if (value >>> TAG_SHIFT == slot) {
+                total += value & COUNT_MASK;
+            }
+        }
+        return total;
+    }
+
+    public long slotSeconds() {
+        return slotSeconds;
+    }
+
+    private int cellIndex(long slot, int column) {
+        return (int) Math.floorMod(slot, (long) slots) * columns + column;
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.taskmanageranalytics.metrics;
+
+import lombok.Value;
+
+import java.util.Comparator;
+import java.util.Map;
+
+/**
+ * Statements one transaction ran through Hibernate, with how often each distinct select ran.
+ */
+@Value
+public class TransactionQueries {
+    String transactionName;
+    int statements;
+    Map<String, Integer> selectCounts;
+
+    /**
+     * The select run most often, or {@code null} if there was none.
+     */
+    public Map.Entry<String, Integer> mostRepeatedSelect() {
+        return selectCounts.entrySet().stream().max(Map.Entry.comparingByValue(Comparator.naturalOrder())).orElse(null);
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.taskmanageranalytics.outbox;
+
+/**
+ * In-process subscriber fed by {@link OutboxRelay}. Events arrive at least once and, for each
+ * task or user, in the order they were committed; but with several instances an event reaches
+ * only one of them, and after a failure it is redelivered to every consumer. Implementations
+ * must therefore be idempotent and ignore event types they do not handle. Throwing schedules
+ * the event for another attempt.
+ */
+public interface OutboxConsumer {
+    void consume(Object event);
+}
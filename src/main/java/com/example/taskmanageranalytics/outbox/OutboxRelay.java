@@ -0,0 +1,157 @@
+package com.example.taskmanageranalytics.outbox;
+
+import com.example.taskmanageranalytics.entity.OutboxEvent;
+import com.example.taskmanageranalytics.repository.OutboxEventRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Delivers outbox events to the {@link OutboxConsumer}s. Each batch is locked with
+ * {@code SKIP LOCKED}, so several instances can relay side by side, and holds at most one event
+ * per aggregate, so its events are dispatched in parallel without reordering any task's or
+ * user's events. The next batch is only fetched once every consumer has finished the current
+ * one, which bounds the work in flight; a backlog waits in the table, not in memory.
+ * A failed event is retried with exponential backoff and dead-lettered after
+ * {@code max-attempts}, which unblocks the events behind it.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.outbox.enabled", havingValue = "true")
+public class OutboxRelay implements DisposableBean {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final List<OutboxConsumer> consumers;
+    private final ObjectMapper objectMapper;
+    private final TransactionOperations transactionOperations;
+    private final ExecutorService dispatcher;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration retryDelay;
+    private final Duration deadLetterRetention;
+    private final Clock clock;
+
+    public OutboxRelay(OutboxEventRepository outboxEventRepository, List<OutboxConsumer> consumers,
+                       ObjectMapper objectMapper, TransactionOperations transactionOperations, Clock clock,
+                       @Value("${app.outbox.batch-size:200}") int batchSize,
+                       @Value("${app.outbox.consumer-threads:4}") int consumerThreads,
+                       @Value("${app.outbox.max-attempts:10}") int maxAttempts,
+                       @Value("${app.outbox.retry-delay:PT1S}") Duration retryDelay,
+                       @Value("${app.outbox.dead-letter-retention:P7D}") Duration deadLetterRetention) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.consumers = consumers;
+        this.objectMapper = objectMapper;
+        this.transactionOperations = transactionOperations;
+        this.clock = clock;
+        this.dispatcher = Executors.newFixedThreadPool(consumerThreads,
+                Thread.ofPlatform().name("outbox-", 0).daemon().factory());
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.retryDelay = retryDelay;
+        this.deadLetterRetention = deadLetterRetention;
+    }
+
+    @Scheduled(fixedDelayString = "${app.outbox.poll-interval:PT0.5S}")
+    public void relay() {
+        int relayed;
+        do {
+            relayed = relayBatch();
+        } while (relayed > 0);
+    }
+
+    /**
+     * Delivers one batch and returns how many events it held.
+     */
+    public int relayBatch() {
+        Integer relayed = transactionOperations.execute(status -> {
+            LocalDateTime now = LocalDateTime.now(clock);
+            List<OutboxEvent> batch = outboxEventRepository.lockNextBatch(now, batchSize);
+            if (batch.isEmpty()) {
+                return 0;
+            }
+            List<Future<?>> deliveries = new ArrayList<>(batch.size());
+            for (OutboxEvent event : batch) {
+                deliveries.add(dispatcher.submit(() -> {
+                    deliver(event);
+                    return null;
+                }));
+            }
+
+            List<Long> delivered = new ArrayList<>(batch.size());
+            for (int i = 0; i < batch.size(); i++) {
+                OutboxEvent event = batch.get(i);
+                try {
+                    deliveries.get(i).get();
+                    delivered.add(event.getId());
+                } catch (ExecutionException e) {
+                    reschedule(event, e.getCause(), now);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("Interrupted while relaying outbox events", e);
+                }
+            }
+            outboxEventRepository.deleteAllByIdInBatch(delivered);
+            outboxEventRepository.flush();
+            return batch.size();
+        });
+        return relayed != null ? relayed : 0;
+    }
+
+    /**
+     * Deletes events that were dead-lettered longer than {@code dead-letter-retention} ago; until
+     * then they can be inspected in {@code outbox_events}.
+     */
+    @Scheduled(cron = "${app.outbox.dead-letter-purge-cron:0 15 3 * * *}")
+    public void purgeDeadLetters() {
+        LocalDateTime before = LocalDateTime.now(clock).minus(deadLetterRetention);
+        Integer purged = transactionOperations.execute(status ->
+                outboxEventRepository.deleteDeadLetteredBefore(before));
+        if (purged != null && purged > 0) {
+            log.warn("Purged {} outbox events dead-lettered before {}", purged, before);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        dispatcher.shutdownNow();
+    }
+
+    private void deliver(OutboxEvent event) throws Exception {
+        Class<?> type = OutboxWriter.EVENT_TYPES.get(event.getEventType());
+        if (type == null) {
+            throw new IllegalStateException("Unknown outbox event type " + event.getEventType());
+        }
+        Object payload = objectMapper.readValue(event.getPayload(), type);
+        for (OutboxConsumer consumer : consumers) {
+            consumer.consume(payload);
+        }
+    }
+
+    private void reschedule(OutboxEvent event, Throwable failure, LocalDateTime now) {
+        event.setAttempts(event.getAttempts() + 1);
+        if (event.getAttempts() >= maxAttempts) {
+            event.setDeadLetteredAt(now);
+            log.error("Dead-lettered outbox event {} ({} {} {}) after {} attempts", event.getId(),
+                    event.getEventType(), event.getAggregateType(), event.getAggregateId(), event.getAttempts(), failure);
+        } else {
+            Duration delay = retryDelay.multipliedBy(1L << Math.min(event.getAttempts() - 1, 16));
+            event.setAvailableAt(now.plus(delay));
+            log.warn("Outbox event {} failed, retrying in {}: {}", event.getId(), delay, failure.toString());
+        }
+    }
+}
@@ -0,0 +1,187 @@
+package com.example.taskmanageranalytics.outbox;
+
+import com.example.taskmanageranalytics.entity.OutboxAggregate;
+import com.example.taskmanageranalytics.entity.OutboxAggregateId;
+import com.example.taskmanageranalytics.entity.OutboxEvent;
+import com.example.taskmanageranalytics.event.*;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Appends task and user events to the outbox inside the transaction that publishes them, so an
+ * event is recorded if and only if its change commits. Consumers run later in
+ * {@link OutboxRelay}; writing costs one batched insert per event however many subscribe, plus
+ * one locking read of the aggregate's {@link OutboxAggregate} row per transaction that touches it.
+ * Off unless {@code app.outbox.enabled} is set, which is only worth paying for once an
+ * {@link OutboxConsumer} is deployed.
+ */
+@Component
+@ConditionalOnProperty(name = "app.outbox.enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class OutboxWriter {
+
+    static final String TASK = "Task";
+    static final String USER = "User";
+
+    static final Map<String, Class<?>> EVENT_TYPES = List.<Class<?>>of(
+                    TaskCreatedEvent.class, TaskContentChangedEvent.class, TaskAssignedEvent.class,
+                    TaskStatusChangedEvent.class, TaskDeletedEvent.class,
+                    UserCreatedEvent.class, UserUpdatedEvent.class, UserDeletedEvent.class).stream()
+            .collect(Collectors.toUnmodifiableMap(Class::getSimpleName, Function.identity()));
+
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+
+    @EventListener
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onTaskCreated(TaskCreatedEvent event) {
+        appendFirst(TASK, event.getTaskId(), event);
+    }
+
+    @EventListener
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onTaskContentChanged(TaskContentChangedEvent event) {
+        append(TASK, event.getTaskId(), event);
+    }
+
+    @EventListener
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onTaskAssigned(TaskAssignedEvent event) {
+        append(TASK, event.getTaskId(), event);
+    }
+
+    @EventListener
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onTaskStatusChanged(TaskStatusChangedEvent event) {
+        append(TASK, event.getTaskId(), event);
+    }
+
+    @EventListener
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onTaskDeleted(TaskDeletedEvent event) {
+        appendLast(TASK, event.getTaskId(), event);
+    }
+
+    @EventListener
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onUserCreated(UserCreatedEvent event) {
+        appendFirst(USER, event.getUserId(), event);
+    }
+
+    @EventListener
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onUserUpdated(UserUpdatedEvent event) {
+        append(USER, event.getUserId(), event);
+    }
+
+    @EventListener
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onUserDeleted(UserDeletedEvent event) {
+        appendLast(USER, event.getUserId(), event);
+    }
+
+    /**
+     * The aggregate is new in this transaction, so there is no row to lock yet.
+     */
+    private void appendFirst(String aggregateType, Long aggregateId, Object event) {
+        OutboxAggregate aggregate = OutboxAggregate.builder()
+                .id(new OutboxAggregateId(aggregateType, aggregateId))
+                .build();
+        entityManager.persist(aggregate);
+        touchedAggregates().put(aggregate.getId(), aggregate);
+        append(aggregate, event);
+    }
+
+    /**
+     * Nothing can follow the deletion of an aggregate, so its row is no longer needed.
+     */
+    private void appendLast(String aggregateType, Long aggregateId, Object event) {
+        OutboxAggregate aggregate = lock(new OutboxAggregateId(aggregateType, aggregateId));
+        append(aggregate, event);
+        touchedAggregates().remove(aggregate.getId());
+        entityManager.remove(aggregate);
+    }
+
+    private void append(String aggregateType, Long aggregateId, Object event) {
+        append(lock(new OutboxAggregateId(aggregateType, aggregateId)), event);
+    }
+
+    private void append(OutboxAggregate aggregate, Object event) {
+        aggregate.setLastSequence(aggregate.getLastSequence() + 1);
+        LocalDateTime now = LocalDateTime.now();
+        try {
+            entityManager.persist(OutboxEvent.builder()
+                    .aggregateType(aggregate.getId().getAggregateType())
+                    .aggregateId(aggregate.getId().getAggregateId())
+                    .aggregateSequence(aggregate.getLastSequence())
+                    .eventType(event.getClass().getSimpleName())
+                    .payload(objectMapper.writeValueAsString(event))
+                    .createdAt(now)
+                    .availableAt(now)
+                    .build());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot serialize " + event, e);
+        }
+    }
+
+    /**
+     * Locks the aggregate's row on its first event in the transaction and reuses it for the
+     * rest, unless the persistence context was cleared in between. A row that is missing, for
+     * an aggregate created outside the application, is started at zero.
+     * <p>
+     * The first lock of a transaction is preceded by a flush, so the change that raised the
+     * event has already locked the task or user row; every writer takes the two locks in the
+     * same order and cannot deadlock with a bulk change that locked the tasks up front.
+     */
+    private OutboxAggregate lock(OutboxAggregateId id) {
+        Map<OutboxAggregateId, OutboxAggregate> touched = touchedAggregates();
+        OutboxAggregate aggregate = touched.get(id);
+        if (aggregate != null && entityManager.contains(aggregate)) {
+            return aggregate;
+        }
+        if (touched.isEmpty()) {
+            entityManager.flush();
+        }
+        aggregate = entityManager.find(OutboxAggregate.class, id, LockModeType.PESSIMISTIC_WRITE);
+        if (aggregate == null) {
+            aggregate = OutboxAggregate.builder().id(id).build();
+            entityManager.persist(aggregate);
+        }
+        touched.put(id, aggregate);
+        return aggregate;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<OutboxAggregateId, OutboxAggregate> touchedAggregates() {
+        Map<OutboxAggregateId, OutboxAggregate> touched =
+                (Map<OutboxAggregateId, OutboxAggregate>) TransactionSynchronizationManager.getResource(this);
+        if (touched == null) {
+            touched = new HashMap<>();
+            TransactionSynchronizationManager.bindResource(this, touched);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(OutboxWriter.this);
+                }
+            });
+        }
+        return touched;
+    }
+}
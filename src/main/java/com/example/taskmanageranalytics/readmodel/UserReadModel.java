@@ -0,0 +1,231 @@
+package com.example.taskmanageranalytics.readmodel;
+
+import com.example.taskmanageranalytics.dto.UserResponse;
+import com.example.taskmanageranalytics.event.*;
+import com.example.taskmanageranalytics.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+/**
+ * Materialized {@link UserResponse} per user, sharded by id and kept current from committed
+ * user and task events. Responses are shared between readers and must not be modified.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserReadModel {
+
+    private static final int SHARDS = 16;
+
+    private final UserRepository userRepository;
+
+    private final AtomicLong version = new AtomicLong();
+    private final List<Map<Long, UserResponse>> shards = newShards();
+    private final Map<Long, Object> pendingFills = new ConcurrentHashMap<>();
+    private volatile Set<Long> touchedDuringReload;
+    private volatile Snapshot snapshot;
+    private volatile boolean loaded;
+
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    public Optional<UserResponse> findById(Long id) {
+        return Optional.ofNullable(shardOf(id).get(id));
+    }
+
+    /**
+     * Like {@link #findById(Long)}, but a miss is loaded with {@code loader} and added to the
+     * model, unless an event for the same user arrives while it is being loaded. That covers
+     * users created through another instance.
+     */
+    public Optional<UserResponse> findById(Long id, Function<Long, Optional<UserResponse>> loader) {
+        UserResponse cached = shardOf(id).get(id);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        Object fill = new Object();
+        pendingFills.put(id, fill);
+        try {
+            Optional<UserResponse> user = loader.apply(id);
+            user.ifPresent(loaded -> shardOf(id).compute(id, (key, current) -> {
+                if (current != null || !pendingFills.remove(id, fill)) {
+                    return current;
+                }
+                version.incrementAndGet();
+                return loaded;
+            }));
+            return user;
+        } finally {
+            pendingFills.remove(id, fill);
+        }
+    }
+
+    /**
+     * All users ordered by id. The sorted list is cached until the next change.
+     */
+    public List<UserResponse> findAll() {
+        long current = version.get();
+        Snapshot cached = snapshot;
+        if (cached != null && cached.version() == current) {
+            return cached.users();
+        }
+        List<UserResponse> users = shards.stream()
+                .flatMap(shard -> shard.values().stream())
+                .sorted(Comparator.comparing(UserResponse::getId))
+                .toList();
+        snapshot = new Snapshot(current, users);
+        return users;
+    }
+
+    /**
+     * Merges the database state into the live shards. Events keep applying while the users are
+     * read; the users they touch are skipped by the merge and read again afterwards, since the
+     * bulk read may predate them.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void reload() {
+        Set<Long> touched = ConcurrentHashMap.newKeySet();
+        touchedDuringReload = touched;
+        try {
+            Set<Long> ids = new HashSet<>();
+            for (UserResponse user : userRepository.findAllUserResponses(Sort.by("id"))) {
+                ids.add(user.getId());
+                if (!touched.contains(user.getId())) {
+                    shardOf(user.getId()).put(user.getId(), user);
+                }
+            }
+            for (Map<Long, UserResponse> shard : shards) {
+                shard.keySet().removeIf(id -> !ids.contains(id) && !touched.contains(id));
+            }
+        } finally {
+            touchedDuringReload = null;
+        }
+        for (Long id : touched) {
+            userRepository.findUserResponseById(id).ifPresentOrElse(
+                    user -> shardOf(id).put(id, user),
+                    () -> shardOf(id).remove(id));
+        }
+        loaded = true;
+        version.incrementAndGet();
+        log.info("User read model loaded");
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserCreated(UserCreatedEvent event) {
+        touch(event.getUserId());
+        shardOf(event.getUserId()).put(event.getUserId(), UserResponse.builder()
+                .id(event.getUserId())
+                .username(event.getUsername())
+                .email(event.getEmail())
+                .role(event.getRole())
+                .createdTasksCount(0)
+                .assignedTasksCount(0)
+                .build());
+        version.incrementAndGet();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserUpdated(UserUpdatedEvent event) {
+        touch(event.getUserId());
+        shardOf(event.getUserId()).computeIfPresent(event.getUserId(), (id, user) -> user.toBuilder()
+                .username(event.getUsername())
+                .email(event.getEmail())
+                .role(event.getRole())
+                .build());
+        version.incrementAndGet();
+    }
+
+    /**
+     * The tasks removed together with the user arrive as their own {@link TaskDeletedEvent}s,
+     * which take them off the other users' counts.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserDeleted(UserDeletedEvent event) {
+        touch(event.getUserId());
+        shardOf(event.getUserId()).remove(event.getUserId());
+        version.incrementAndGet();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCountersReconciled(CountersReconciledEvent event) {
+        if (event.getReport().hasDrift()) {
+            reload();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskCreated(TaskCreatedEvent event) {
+        adjustCounts(event.getAuthorId(), 1, 0);
+        adjustCounts(event.getAssigneeId(), 0, 1);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskDeleted(TaskDeletedEvent event) {
+        adjustCounts(event.getAuthorId(), -1, 0);
+        adjustCounts(event.getAssigneeId(), 0, -1);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskAssigned(TaskAssignedEvent event) {
+        adjustCounts(event.getPreviousAssigneeId(), 0, -1);
+        adjustCounts(event.getAssigneeId(), 0, 1);
+    }
+
+    private void adjustCounts(Long userId, int createdDelta, int assignedDelta) {
+        if (userId == null) {
+            return;
+        }
+        touch(userId);
+        shardOf(userId).computeIfPresent(userId, (id, user) -> user.toBuilder()
+                .createdTasksCount(user.getCreatedTasksCount() + createdDelta)
+                .assignedTasksCount(user.getAssignedTasksCount() + assignedDelta)
+                .build());
+        version.incrementAndGet();
+    }
+
+    /**
+     * Called before an event changes a user, so that neither a fill loaded before the event nor
+     * the reload's bulk read can overwrite it.
+     */
+    private void touch(Long userId) {
+        pendingFills.remove(userId);
+        Set<Long> touched = touchedDuringReload;
+        if (touched != null) {
+            touched.add(userId);
+        }
+    }
+
+    private Map<Long, UserResponse> shardOf(Long id) {
+        return shards.get(shardIndex(id));
+    }
+
+    private static int shardIndex(Long id) {
+        return (int) Math.floorMod(id, (long) SHARDS);
+    }
+
+    private static List<Map<Long, UserResponse>> newShards() {
+        return IntStream.range(0, SHARDS)
+                .<Map<Long, UserResponse>>mapToObj(i -> new ConcurrentHashMap<>())
+                .toList();
+    }
+
+    private record Snapshot(long version, List<UserResponse> users) {
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.taskmanageranalytics.repository;
+
+import com.example.taskmanageranalytics.entity.OutboxEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    /**
+     * Locks the lowest-numbered pending event of up to {@code batchSize} aggregates. Events
+     * behind an undelivered one of the same aggregate are left out, and rows locked by another
+     * relay are skipped, so no two relays ever hold events of the same aggregate. A committed
+     * event's predecessors are always committed too, because the aggregate's sequence number is
+     * drawn under a lock held until commit.
+     */
+    @Query(value = """
+            select o.* from outbox_events o
+            where o.dead_lettered_at is null and o.available_at <= :now
+              and not exists (select 1 from outbox_events p
+                              where p.aggregate_type = o.aggregate_type and p.aggregate_id = o.aggregate_id
+                                and p.aggregate_sequence < o.aggregate_sequence
+                                and p.dead_lettered_at is null)
+            order by o.id
+            limit :batchSize
+            for update skip locked
+            """, nativeQuery = true)
+    List<OutboxEvent> lockNextBatch(LocalDateTime now, int batchSize);
+
+    @Modifying
+    @Query("delete from OutboxEvent o where o.deadLetteredAt < :before")
+    int deleteDeadLetteredBefore(LocalDateTime before);
+}
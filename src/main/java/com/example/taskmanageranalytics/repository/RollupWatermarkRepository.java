@@ -0,0 +1,21 @@
+package com.example.taskmanageranalytics.repository;
+
+import com.example.taskmanageranalytics.entity.RollupWatermark;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface RollupWatermarkRepository extends JpaRepository<RollupWatermark, String> {
+
+    /**
+     * The row is created by the schema migrations.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select w from RollupWatermark w where w.name = :name")
+    Optional<RollupWatermark> findForUpdate(String name);
+}
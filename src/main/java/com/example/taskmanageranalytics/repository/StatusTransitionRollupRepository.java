@@ -0,0 +1,41 @@
+package com.example.taskmanageranalytics.repository;
+
+import com.example.taskmanageranalytics.dto.TransitionCount;
+import com.example.taskmanageranalytics.entity.RollupGranularity;
+import com.example.taskmanageranalytics.entity.StatusTransitionRollup;
+import com.example.taskmanageranalytics.entity.StatusTransitionRollupId;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface StatusTransitionRollupRepository extends JpaRepository<StatusTransitionRollup, StatusTransitionRollupId> {
+
+    @Query("""
+            select new com.example.taskmanageranalytics.dto.TransitionCount(
+                r.id.oldStatus, r.id.newStatus, r.id.changedById, sum(r.transitionCount))
+            from StatusTransitionRollup r
+            where r.id.granularity = :granularity and r.id.bucketStart >= :from and r.id.bucketStart < :to
+            group by r.id.oldStatus, r.id.newStatus, r.id.changedById
+            """)
+    List<TransitionCount> sumTransitions(RollupGranularity granularity, LocalDateTime from, LocalDateTime to);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "status_transition_rollups"))
+    @Query(value = """
+            insert into status_transition_rollups
+                (granularity, bucket_start, old_status, new_status, changed_by_user_id, transition_count)
+            values (:granularity, :bucketStart, :oldStatus, :newStatus, :changedById, :delta)
+            on conflict (granularity, bucket_start, old_status, new_status, changed_by_user_id)
+            do update set transition_count = status_transition_rollups.transition_count + excluded.transition_count
+            """, nativeQuery = true)
+    void addToRollup(String granularity, LocalDateTime bucketStart, String oldStatus, String newStatus,
+                     Long changedById, long delta);
+}
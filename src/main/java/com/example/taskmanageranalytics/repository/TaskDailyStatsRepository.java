@@ -0,0 +1,35 @@
+package com.example.taskmanageranalytics.repository;
+
+import com.example.taskmanageranalytics.entity.TaskDailyStats;
+import com.example.taskmanageranalytics.entity.TaskDailyStatsId;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface TaskDailyStatsRepository extends JpaRepository<TaskDailyStats, TaskDailyStatsId> {
+
+    List<TaskDailyStats> findByIdUserIdAndIdStatDateBetweenOrderByIdStatDate(Long userId, LocalDate from, LocalDate to);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "task_daily_stats"))
+    @Query(value = """
+            insert into task_daily_stats
+                (stat_date, user_id, completed_count, lead_time_seconds_sum, cycle_time_seconds_sum, cycle_count)
+            values (:statDate, :userId, :completedCount, :leadTimeSeconds, :cycleTimeSeconds, :cycleCount)
+            on conflict (stat_date, user_id) do update set
+                completed_count = task_daily_stats.completed_count + excluded.completed_count,
+                lead_time_seconds_sum = task_daily_stats.lead_time_seconds_sum + excluded.lead_time_seconds_sum,
+                cycle_time_seconds_sum = task_daily_stats.cycle_time_seconds_sum + excluded.cycle_time_seconds_sum,
+                cycle_count = task_daily_stats.cycle_count + excluded.cycle_count
+            """, nativeQuery = true)
+    void addToDailyStats(LocalDate statDate, Long userId, long completedCount,
+                         long leadTimeSeconds, long cycleTimeSeconds, long cycleCount);
+}
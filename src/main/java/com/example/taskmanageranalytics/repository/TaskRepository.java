@@ -1,9 +1,71 @@
 package com.example.taskmanageranalytics.repository;
 
+import com.example.taskmanageranalytics.dto.TaskStatusView;
 import com.example.taskmanageranalytics.entity.Task;
+import com.example.taskmanageranalytics.entity.TaskStatus;
+import com.example.taskmanageranalytics.event.TaskDeletedEvent;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
 @Repository
-public interface TaskRepository extends JpaRepository<Task, Long> {
+public interface TaskRepository extends JpaRepository<Task, Long>, JpaSpecificationExecutor<Task>, TaskRepositoryCustom {
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("select t.createdAt from Task t where t.createdAt >= :since")
+    Stream<LocalDateTime> streamCreatedAtSince(LocalDateTime since);
+
+    /**
+     * Describes the tasks that are removed together with the given user, whether as author or
+     * assignee, so their deletion can be published before the cascade runs.
+     */
+    @Query("""
+            select new com.example.taskmanageranalytics.event.TaskDeletedEvent(t.id, t.author.id, t.assignee.id, t.status)
+            from Task t
+            where t.author.id = :userId or t.assignee.id = :userId
+            """)
+    List<TaskDeletedEvent> findDeletedWithUser(Long userId);
+
+    /**
+     * Locks the given tasks that are not in {@code newStatus} yet, in id order so concurrent bulk
+     * transitions cannot deadlock, and returns what their history rows and events need.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("""
+            select t.id as id, t.status as status, t.author.id as authorId, t.assignee.id as assigneeId,
+                   t.createdAt as createdAt, t.startedAt as startedAt, t.completedAt as completedAt
+            from Task t
+            where t.id in :ids and t.status <> :newStatus
+            order by t.id
+            """)
+    List<TaskStatusView> lockForTransition(Collection<Long> ids, TaskStatus newStatus);
+
+    /**
+     * Set-based counterpart of {@link Task#transitionTo}; a {@code null} {@code startedAt} or
+     * {@code completedAt} leaves the column unchanged.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            update Task t
+            set t.status = :newStatus,
+                t.startedAt = coalesce(t.startedAt, :startedAt),
+                t.completedAt = coalesce(:completedAt, t.completedAt),
+                t.updatedAt = :updatedAt,
+                t.version = t.version + 1
+            where t.id in :ids
+            """)
+    int transitionAll(Collection<Long> ids, TaskStatus newStatus, LocalDateTime startedAt,
+                      LocalDateTime completedAt, LocalDateTime updatedAt);
 }
@@ -0,0 +1,14 @@
+package com.example.taskmanageranalytics.repository;
+
+import com.example.taskmanageranalytics.dto.TaskFilter;
+import com.example.taskmanageranalytics.entity.Task;
+
+import java.util.stream.Stream;
+
+public interface TaskRepositoryCustom {
+    /**
+     * Streams matching tasks in id order from a server-side cursor. Must be consumed and closed
+     * inside a transaction.
+     */
+    Stream<Task> streamAll(TaskFilter filter);
+}
@@ -0,0 +1,35 @@
+package com.example.taskmanageranalytics.repository;
+
+import com.example.taskmanageranalytics.dto.TaskFilter;
+import com.example.taskmanageranalytics.entity.Task;
+import org.springframework.data.jpa.domain.Specification;
+
+public final class TaskSpecifications {
+
+    private TaskSpecifications() {
+    }
+
+    public static Specification<Task> matching(TaskFilter filter) {
+        Specification<Task> specification = Specification.where(null);
+        if (filter == null) {
+            return specification;
+        }
+        if (filter.getStatus() != null) {
+            specification = specification.and((root, query, cb) -> cb.equal(root.get("status"), filter.getStatus()));
+        }
+        if (filter.getAuthorId() != null) {
+            specification = specification.and((root, query, cb) -> cb.equal(root.get("author").get("id"), filter.getAuthorId()));
+        }
+        if (filter.getAssigneeId() != null) {
+            specification = specification.and((root, query, cb) -> cb.equal(root.get("assignee").get("id"), filter.getAssigneeId()));
+        }
+        return specification;
+    }
+
+    public static Specification<Task> idGreaterThan(Long afterId) {
+        if (afterId == null) {
+            return Specification.where(null);
+        }
+        return (root, query, cb) -> cb.greaterThan(root.get("id"), afterId);
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.taskmanageranalytics.repository;
+
+import com.example.taskmanageranalytics.entity.TaskStatus;
+import com.example.taskmanageranalytics.entity.TaskStatusCount;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface TaskStatusCountRepository extends JpaRepository<TaskStatusCount, TaskStatus> {
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "task_status_counts"))
+    @Query(value = """
+            insert into task_status_counts (status, task_count) values (:status, :delta)
+            on conflict (status) do update set task_count = task_status_counts.task_count + excluded.task_count
+            """, nativeQuery = true)
+    void addToTaskCount(String status, long delta);
+}
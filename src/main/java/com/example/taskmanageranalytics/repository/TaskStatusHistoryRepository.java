@@ -1,12 +1,56 @@
 package com.example.taskmanageranalytics.repository;
 
+import com.example.taskmanageranalytics.dto.StatusTransitionView;
 import com.example.taskmanageranalytics.entity.TaskStatusHistory;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
-public interface TaskStatusHistoryRepository extends JpaRepository<TaskStatusHistory, Long> {
-    List<TaskStatusHistory> findByTaskIdOrderByChangedAtDesc(Long taskId);
+public interface TaskStatusHistoryRepository extends JpaRepository<TaskStatusHistory, Long>,
+        TaskStatusHistoryRepositoryCustom {
+    List<TaskStatusHistory> findByOrderByChangedAtDescIdDesc(Limit limit);
+
+    @Query("""
+            select h from TaskStatusHistory h
+            where (h.changedAt, h.id) < (:changedAt, :id)
+            order by h.changedAt desc, h.id desc
+            """)
+    List<TaskStatusHistory> findBefore(LocalDateTime changedAt, Long id, Limit limit);
+
+    List<TaskStatusHistory> findByTaskIdOrderByChangedAtDescIdDesc(Long taskId, Limit limit);
+
+    @Query("""
+            select h from TaskStatusHistory h
+            where h.task.id = :taskId and (h.changedAt, h.id) < (:changedAt, :id)
+            order by h.changedAt desc, h.id desc
+            """)
+    List<TaskStatusHistory> findByTaskIdBefore(Long taskId, LocalDateTime changedAt, Long id, Limit limit);
+
+    @Query("""
+            select h.id as id, h.oldStatus as oldStatus, h.newStatus as newStatus,
+                   h.changedBy.id as changedById, h.changedAt as changedAt
+            from TaskStatusHistory h
+            where (h.changedAt, h.id) > (:afterChangedAt, :afterId) and h.changedAt < :changedBefore
+            order by h.changedAt, h.id
+            """)
+    List<StatusTransitionView> findTransitionsAfter(LocalDateTime afterChangedAt, long afterId,
+                                                    LocalDateTime changedBefore, Limit limit);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("""
+            select h.id as id, h.oldStatus as oldStatus, h.newStatus as newStatus,
+                   h.changedBy.id as changedById, h.changedAt as changedAt
+            from TaskStatusHistory h
+            where h.changedAt >= :since
+            """)
+    Stream<StatusTransitionView> streamTransitionsSince(LocalDateTime since);
 }
@@ -0,0 +1,13 @@
+package com.example.taskmanageranalytics.repository;
+
+import com.example.taskmanageranalytics.dto.TaskStatusHistoryResponse;
+
+import java.util.function.Consumer;
+
+public interface TaskStatusHistoryRepositoryCustom {
+    /**
+     * Reads history oldest first from a server-side JDBC cursor, all tasks when {@code taskId}
+     * is {@code null}. Must run inside a transaction.
+     */
+    void streamHistory(Long taskId, Consumer<TaskStatusHistoryResponse> consumer);
+}
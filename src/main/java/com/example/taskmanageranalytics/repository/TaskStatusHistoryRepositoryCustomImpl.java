@@ -0,0 +1,49 @@
+package com.example.taskmanageranalytics.repository;
+
+import com.example.taskmanageranalytics.dto.TaskStatusHistoryResponse;
+import com.example.taskmanageranalytics.entity.TaskStatus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.PreparedStatement;
+import java.time.LocalDateTime;
+import java.util.function.Consumer;
+
+public class TaskStatusHistoryRepositoryCustomImpl implements TaskStatusHistoryRepositoryCustom {
+
+    private static final String SELECT = """
+            select id, task_id, old_status, new_status, changed_at, changed_by_user_id
+            from task_status_history
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int fetchSize;
+
+    public TaskStatusHistoryRepositoryCustomImpl(JdbcTemplate jdbcTemplate,
+                                                 @Value("${app.tasks.stream-fetch-size:500}") int fetchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.fetchSize = fetchSize;
+    }
+
+    @Override
+    public void streamHistory(Long taskId, Consumer<TaskStatusHistoryResponse> consumer) {
+        String sql = SELECT + (taskId != null ? "where task_id = ? " : "") + "order by changed_at, id";
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(sql);
+            statement.setFetchSize(fetchSize);
+            if (taskId != null) {
+                statement.setLong(1, taskId);
+            }
+            return statement;
+        }, rs -> {
+            consumer.accept(TaskStatusHistoryResponse.builder()
+                    .id(rs.getLong(1))
+                    .taskId(rs.getLong(2))
+                    .oldStatus(TaskStatus.valueOf(rs.getString(3)))
+                    .newStatus(TaskStatus.valueOf(rs.getString(4)))
+                    .changedAt(rs.getObject(5, LocalDateTime.class))
+                    .changedById(rs.getLong(6))
+                    .build());
+        });
+    }
+}
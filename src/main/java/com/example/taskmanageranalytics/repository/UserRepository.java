@@ -1,16 +1,50 @@
 package com.example.taskmanageranalytics.repository;
 
+import com.example.taskmanageranalytics.dto.UserResponse;
 import com.example.taskmanageranalytics.entity.User;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 @Repository
-public interface UserRepository extends JpaRepository<User, Long> {
-    boolean existsByUsername(String username);
+public interface UserRepository extends JpaRepository<User, Long>, UserRepositoryCustom {
+    String USER_RESPONSE_PROJECTION = """
+            select new com.example.taskmanageranalytics.dto.UserResponse(
+                u.id, u.username, u.email, u.role,
+                coalesce(c.createdTasksCount, 0), coalesce(c.assignedTasksCount, 0))
+            from User u
+            left join UserTaskCounters c on c.userId = u.id
+            """;
 
-    Optional<User> findByUsername(String username);
+    /**
+     * Names the fields ({@code username}, {@code email}) already taken by users other than
+     * {@code excludedId}. A {@code null} value is not checked.
+     */
+    @Query("""
+            select case when u.username = :username then 'username' else 'email' end
+            from User u
+            where (u.username = :username or u.email = :email)
+              and (:excludedId is null or u.id <> :excludedId)
+            """)
+    List<String> findConflictingFields(String username, String email, Long excludedId);
 
-    boolean existsByEmail(String email);
+    @Query("select u.id from User u where u.id in :ids")
+    Set<Long> findExistingIds(Collection<Long> ids);
+
+    @Query(USER_RESPONSE_PROJECTION + "where u.id = :id")
+    Optional<UserResponse> findUserResponseById(Long id);
+
+    @Query(value = USER_RESPONSE_PROJECTION, countQuery = "select count(u) from User u")
+    Page<UserResponse> findAllUserResponses(Pageable pageable);
+
+    @Query(USER_RESPONSE_PROJECTION)
+    List<UserResponse> findAllUserResponses(Sort sort);
 }
@@ -0,0 +1,9 @@
+package com.example.taskmanageranalytics.repository;
+
+import com.example.taskmanageranalytics.entity.User;
+
+import java.util.Optional;
+
+public interface UserRepositoryCustom {
+    Optional<User> findByUsername(String username);
+}
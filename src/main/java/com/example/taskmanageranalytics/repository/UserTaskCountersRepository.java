@@ -0,0 +1,67 @@
+package com.example.taskmanageranalytics.repository;
+
+import com.example.taskmanageranalytics.entity.UserTaskCounters;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface UserTaskCountersRepository extends JpaRepository<UserTaskCounters, Long> {
+
+    @Modifying
+    @Query("update UserTaskCounters c set c.createdTasksCount = c.createdTasksCount + :delta where c.userId = :userId")
+    int adjustCreatedTasksCount(Long userId, int delta);
+
+    @Modifying
+    @Query("update UserTaskCounters c set c.assignedTasksCount = c.assignedTasksCount + :delta where c.userId = :userId")
+    int adjustAssignedTasksCount(Long userId, int delta);
+
+    /**
+     * Takes back the assignments of tasks that are removed together with their author.
+     */
+    @Modifying
+    @Query("""
+            update UserTaskCounters c
+            set c.assignedTasksCount = c.assignedTasksCount
+                - cast((select count(t) from Task t where t.assignee.id = c.userId and t.author.id = :authorId) as Integer)
+            where c.userId in (select t.assignee.id from Task t where t.author.id = :authorId)
+            """)
+    int releaseAssignmentsOfAuthor(Long authorId);
+
+    /**
+     * Takes back the authorship of tasks that are removed together with their assignee.
+     */
+    @Modifying
+    @Query("""
+            update UserTaskCounters c
+            set c.createdTasksCount = c.createdTasksCount
+                - cast((select count(t) from Task t where t.author.id = c.userId and t.assignee.id = :assigneeId) as Integer)
+            where c.userId in (select t.author.id from Task t where t.assignee.id = :assigneeId)
+            """)
+    int releaseAuthorshipsOfAssignee(Long assigneeId);
+
+    @Modifying
+    @Query("""
+            insert into UserTaskCounters (userId, createdTasksCount, assignedTasksCount)
+            select u.id, 0, 0 from User u
+            where not exists (select 1 from UserTaskCounters c where c.userId = u.id)
+            """)
+    int insertMissingCounters();
+
+    @Modifying
+    @Query("""
+            update UserTaskCounters c
+            set c.createdTasksCount = cast((select count(t) from Task t where t.author.id = c.userId) as Integer)
+            where c.createdTasksCount <> (select count(t) from Task t where t.author.id = c.userId)
+            """)
+    int reconcileCreatedTasksCounts();
+
+    @Modifying
+    @Query("""
+            update UserTaskCounters c
+            set c.assignedTasksCount = cast((select count(t) from Task t where t.assignee.id = c.userId) as Integer)
+            where c.assignedTasksCount <> (select count(t) from Task t where t.assignee.id = c.userId)
+            """)
+    int reconcileAssignedTasksCounts();
+}
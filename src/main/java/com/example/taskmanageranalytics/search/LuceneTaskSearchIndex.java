@@ -0,0 +1,260 @@
+package com.example.taskmanageranalytics.search;
+
+import com.example.taskmanageranalytics.dto.TaskFilter;
+import com.example.taskmanageranalytics.event.TaskContentChangedEvent;
+import com.example.taskmanageranalytics.event.TaskDeletedEvent;
+import com.example.taskmanageranalytics.service.TaskService;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.*;
+import org.apache.lucene.store.FSDirectory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-process inverted index in a local Lucene directory, used instead of the database when
+ * {@code app.search.lucene.enabled} is set. It follows committed task changes and makes them
+ * searchable within {@code refresh-interval}. The index records whether it was closed cleanly;
+ * after a crash, or when the directory is new, it is rebuilt from the task table on startup.
+ * Events keep being applied during the rebuild, and the tasks they touched are left out of it,
+ * since the export may read an older version of them.
+ * <p>
+ * Like {@code UserReadModel} it listens to this instance's own transactions rather than the
+ * outbox, whose relay hands each event to only one instance; it therefore suits a single
+ * instance, and several instances should search the database instead.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.search.lucene.enabled", havingValue = "true")
+public class LuceneTaskSearchIndex implements TaskSearchIndex, DisposableBean {
+
+    static final String ID = "id";
+    static final String TITLE = "title";
+    static final String DESCRIPTION = "description";
+
+    private static final String CLEAN_SHUTDOWN = "cleanShutdown";
+    private static final float TITLE_BOOST = 2f;
+    private static final float PREFIX_BOOST = 2f;
+
+    private final TaskService taskService;
+    private final Analyzer analyzer = new StandardAnalyzer();
+    private final FSDirectory directory;
+    private final IndexWriter writer;
+    private final SearcherManager searcherManager;
+    private final AtomicLong pendingChanges = new AtomicLong();
+    private final Object rebuildLock = new Object();
+    /**
+     * Tasks changed by events since the index was opened, while a rebuild is pending or running;
+     * {@code null} otherwise. Guarded by {@link #rebuildLock}.
+     */
+    private volatile Set<Long> changedDuringRebuild;
+
+    public LuceneTaskSearchIndex(TaskService taskService,
+                                 @Value("${app.search.lucene.directory:search-index/tasks}") Path path) throws IOException {
+        this.taskService = taskService;
+        this.directory = FSDirectory.open(path);
+        this.writer = new IndexWriter(directory, new IndexWriterConfig(analyzer));
+        if (!hasCleanShutdownMarker()) {
+            writer.deleteAll();
+            changedDuringRebuild = new HashSet<>();
+        }
+        writer.setLiveCommitData(Map.of(CLEAN_SHUTDOWN, "false").entrySet());
+        writer.commit();
+        this.searcherManager = new SearcherManager(writer, null);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildIfNeeded() throws IOException {
+        if (changedDuringRebuild == null) {
+            return;
+        }
+        log.info("Rebuilding task search index");
+        AtomicLong count = new AtomicLong();
+        taskService.exportTasks(new TaskFilter(), task -> {
+            synchronized (rebuildLock) {
+                if (!changedDuringRebuild.contains(task.getId())) {
+                    index(task.getId(), task.getTitle(), task.getDescription());
+                    count.incrementAndGet();
+                }
+            }
+        });
+        synchronized (rebuildLock) {
+            changedDuringRebuild = null;
+        }
+        writer.commit();
+        refresh();
+        log.info("Task search index rebuilt with {} tasks", count.get());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskContentChanged(TaskContentChangedEvent event) {
+        apply(event.getTaskId(), () -> index(event.getTaskId(), event.getTitle(), event.getDescription()));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskDeleted(TaskDeletedEvent event) {
+        apply(event.getTaskId(), () -> delete(event.getTaskId()));
+    }
+
+    /**
+     * Makes changes since the last call visible to searches. Changes are durable only once
+     * committed, which happens on shutdown; a crash before then triggers a rebuild.
+     */
+    @Scheduled(fixedDelayString = "${app.search.lucene.refresh-interval:PT1S}")
+    public void refresh() throws IOException {
+        if (pendingChanges.getAndSet(0) > 0) {
+            searcherManager.maybeRefresh();
+        }
+    }
+
+    @Override
+    public List<Long> search(String query, int offset, int limit) {
+        Query luceneQuery = toQuery(terms(query));
+        if (luceneQuery == null) {
+            return List.of();
+        }
+        try {
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                ScoreDoc[] hits = searcher.search(luceneQuery, offset + limit).scoreDocs;
+                List<Long> ids = new ArrayList<>(Math.max(0, hits.length - offset));
+                for (int i = offset; i < hits.length; i++) {
+                    ids.add(Long.valueOf(searcher.storedFields().document(hits[i].doc).get(ID)));
+                }
+                return ids;
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void destroy() throws IOException {
+        searcherManager.close();
+        writer.setLiveCommitData(Map.of(CLEAN_SHUTDOWN, "true").entrySet());
+        writer.close();
+        directory.close();
+    }
+
+    /**
+     * Applies an event's change, first recording the task while a rebuild could still overwrite
+     * it with the exported version.
+     */
+    private void apply(Long id, Runnable change) {
+        if (changedDuringRebuild == null) {
+            change.run();
+            return;
+        }
+        synchronized (rebuildLock) {
+            if (changedDuringRebuild != null) {
+                changedDuringRebuild.add(id);
+            }
+            change.run();
+        }
+    }
+
+    private void delete(Long id) {
+        try {
+            writer.deleteDocuments(new Term(ID, id.toString()));
+            pendingChanges.incrementAndGet();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void index(Long id, String title, String description) {
+        Document document = new Document();
+        document.add(new StringField(ID, id.toString(), Field.Store.YES));
+        if (title != null) {
+            document.add(new TextField(TITLE, title, Field.Store.NO));
+        }
+        if (description != null) {
+            document.add(new TextField(DESCRIPTION, description, Field.Store.NO));
+        }
+        try {
+            writer.updateDocument(new Term(ID, id.toString()), document);
+            pendingChanges.incrementAndGet();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Every word must match in the title or the description, as a prefix of an indexed word or
+     * within one or two edits of one; prefix hits and title hits rank higher.
+     */
+    private static Query toQuery(List<String> terms) {
+        if (terms.isEmpty()) {
+            return null;
+        }
+        BooleanQuery.Builder query = new BooleanQuery.Builder();
+        for (String term : terms) {
+            BooleanQuery.Builder alternatives = new BooleanQuery.Builder();
+            for (String field : List.of(TITLE, DESCRIPTION)) {
+                float fieldBoost = TITLE.equals(field) ? TITLE_BOOST : 1f;
+                alternatives.add(new BoostQuery(new PrefixQuery(new Term(field, term)), fieldBoost * PREFIX_BOOST),
+                        BooleanClause.Occur.SHOULD);
+                if (term.length() >= 3) {
+                    int maxEdits = term.length() > 5 ? 2 : 1;
+                    alternatives.add(new BoostQuery(new FuzzyQuery(new Term(field, term), maxEdits, 1), fieldBoost),
+                            BooleanClause.Occur.SHOULD);
+                }
+            }
+            query.add(alternatives.build(), BooleanClause.Occur.MUST);
+        }
+        return query.build();
+    }
+
+    private List<String> terms(String query) {
+        Set<String> terms = new LinkedHashSet<>();
+        try (TokenStream tokens = analyzer.tokenStream(TITLE, query)) {
+            CharTermAttribute term = tokens.addAttribute(CharTermAttribute.class);
+            tokens.reset();
+            while (tokens.incrementToken() && terms.size() < PostgresTaskSearchIndex.MAX_TERMS) {
+                terms.add(term.toString());
+            }
+            tokens.end();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return List.copyOf(terms);
+    }
+
+    private boolean hasCleanShutdownMarker() {
+        for (Map.Entry<String, String> entry : writer.getLiveCommitData()) {
+            if (CLEAN_SHUTDOWN.equals(entry.getKey())) {
+                return Boolean.parseBoolean(entry.getValue());
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,145 @@
+package com.example.taskmanageranalytics.search;
+
+import com.example.taskmanageranalytics.event.TaskContentChangedEvent;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Searches the {@code task.search_vector} column through its GIN index. Query words of three or
+ * more letters are also matched against the closest known words from {@code task_search_words},
+ * which is what makes misspellings find anything. Only the newest {@code max-candidates} matches
+ * are ranked, so very common words cost about the same as rare ones and every page ranks the
+ * same candidates.
+ * <p>
+ * The words of created and edited tasks are added to {@code task_search_words} in batches after
+ * commit rather than by a trigger, so writes do not pay for it. Tasks still pending when an
+ * instance crashes only miss out on typo correction, not on being found.
+ */
+@Component
+@ConditionalOnProperty(name = "app.search.lucene.enabled", havingValue = "false", matchIfMissing = true)
+public class PostgresTaskSearchIndex implements TaskSearchIndex {
+
+    static final int MAX_TERMS = 8;
+
+    private static final String CORRECTIONS = """
+            select word from task_search_words
+            where ? <% word
+            order by word_similarity(?, word) desc, length(word)
+            limit ?""";
+
+    private static final String SEARCH = """
+            select id from (
+                select id, search_vector from task
+                where search_vector @@ to_tsquery('simple', ?)
+                order by id desc
+                limit ?
+            ) candidates
+            order by ts_rank_cd(search_vector, to_tsquery('simple', ?)) desc, id
+            offset ? limit ?""";
+
+    private static final String COLLECT_WORDS = """
+            insert into task_search_words (word)
+            select distinct words.lexeme from task t cross join unnest(t.search_vector) words
+            where t.id = any(?) and length(words.lexeme) <= 255
+            order by words.lexeme
+            on conflict do nothing""";
+
+    private static final int COLLECT_BATCH_SIZE = 1000;
+
+    private final Set<Long> changedTaskIds = ConcurrentHashMap.newKeySet();
+    private final JdbcTemplate jdbcTemplate;
+    private final int maxCandidates;
+    private final int correctionsPerTerm;
+    private final double similarityThreshold;
+
+    public PostgresTaskSearchIndex(JdbcTemplate jdbcTemplate,
+                                   @Value("${app.search.max-candidates:5000}") int maxCandidates,
+                                   @Value("${app.search.corrections-per-term:3}") int correctionsPerTerm,
+                                   @Value("${app.search.similarity-threshold:0.5}") double similarityThreshold) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.maxCandidates = maxCandidates;
+        this.correctionsPerTerm = correctionsPerTerm;
+        this.similarityThreshold = similarityThreshold;
+    }
+
+    @Override
+    public List<Long> search(String query, int offset, int limit) {
+        List<String> terms = terms(query);
+        if (terms.isEmpty()) {
+            return List.of();
+        }
+        jdbcTemplate.queryForObject("select set_config('pg_trgm.word_similarity_threshold', ?, true)",
+                String.class, Double.toString(similarityThreshold));
+
+        List<String> clauses = new ArrayList<>(terms.size());
+        for (String term : terms) {
+            List<String> alternatives = new ArrayList<>();
+            alternatives.add(quote(term) + ":*");
+            if (term.length() >= 3) {
+                for (String word : jdbcTemplate.queryForList(CORRECTIONS, String.class, term, term, correctionsPerTerm)) {
+                    if (!word.startsWith(term)) {
+                        alternatives.add(quote(word));
+                    }
+                }
+            }
+            clauses.add("(" + String.join(" | ", alternatives) + ")");
+        }
+        String tsquery = String.join(" & ", clauses);
+        return jdbcTemplate.queryForList(SEARCH, Long.class, tsquery, maxCandidates, tsquery, offset, limit);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskContentChanged(TaskContentChangedEvent event) {
+        changedTaskIds.add(event.getTaskId());
+    }
+
+    /**
+     * Adds the words of tasks changed since the last run to {@code task_search_words}. Words are
+     * inserted in order, so concurrent runs on several instances cannot deadlock.
+     */
+    @PreDestroy
+    @Scheduled(fixedDelayString = "${app.search.vocabulary-interval:PT5S}")
+    public void collectWords() {
+        List<Long> batch = new ArrayList<>(COLLECT_BATCH_SIZE);
+        for (Iterator<Long> ids = changedTaskIds.iterator(); ids.hasNext(); ) {
+            batch.add(ids.next());
+            ids.remove();
+            if (batch.size() == COLLECT_BATCH_SIZE || !ids.hasNext()) {
+                Long[] taskIds = batch.toArray(Long[]::new);
+                try {
+                    jdbcTemplate.update(COLLECT_WORDS, ps -> ps.setArray(1, ps.getConnection().createArrayOf("bigint", taskIds)));
+                } catch (DataAccessException e) {
+                    changedTaskIds.addAll(batch);
+                    throw e;
+                }
+                batch.clear();
+            }
+        }
+    }
+
+    static List<String> terms(String query) {
+        return Arrays.stream(query.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+"))
+                .filter(term -> !term.isEmpty())
+                .distinct()
+                .limit(MAX_TERMS)
+                .toList();
+    }
+
+    static String quote(String word) {
+        return "'" + word.replace("\\", "\\\\").replace("'", "''") + "'";
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.taskmanageranalytics.search;
+
+import java.util.List;
+
+/**
+ * Ranked full-text lookup over task titles and descriptions. Every word of the query has to
+ * match, either as the prefix of an indexed word or, if misspelled, a close variant of one.
+ */
+public interface TaskSearchIndex {
+    /**
+     * Ids of the matching tasks, best match first, skipping the first {@code offset}.
+     */
+    List<Long> search(String query, int offset, int limit);
+}
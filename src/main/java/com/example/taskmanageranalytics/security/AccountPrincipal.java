@@ -0,0 +1,31 @@
+package com.example.taskmanageranalytics.security;
+
+import com.example.taskmanageranalytics.entity.User.Role;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+
+import java.util.Collection;
+
+/**
+ * Authenticated account, carrying the user id so handlers can act on behalf of the caller
+ * without looking the user up again.
+ */
+public class AccountPrincipal extends User {
+    private static final String ADMIN_AUTHORITY = "ROLE_" + Role.ADMIN.name();
+
+    private final Long id;
+
+    public AccountPrincipal(Long id, String username, String password,
+                            Collection<? extends GrantedAuthority> authorities) {
+        super(username, password, authorities);
+        this.id = id;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public boolean isAdmin() {
+        return getAuthorities().stream().anyMatch(authority -> ADMIN_AUTHORITY.equals(authority.getAuthority()));
+    }
+}
@@ -0,0 +1,105 @@
+package com.example.taskmanageranalytics.security;
+
+import com.example.taskmanageranalytics.event.UserDeletedEvent;
+import com.example.taskmanageranalytics.event.UserUpdatedEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import javax.crypto.KeyGenerator;
+import javax.crypto.Mac;
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Duration;
+
+/**
+ * Remembers successful HTTP Basic logins for a short time, so a client that sends the same
+ * credentials with every request pays for the slow password hash once per {@code ttl} instead
+ * of once per request. Only a keyed MAC of the password is kept, under a key that never leaves
+ * this process; a request with a different password falls through to the full check.
+ * <p>
+ * Entries of a user are dropped when the user is updated or deleted here. Other instances
+ * keep accepting the old password until their entries expire, so {@code ttl} bounds how long
+ * a changed password stays valid cluster-wide.
+ */
+public class CachingAuthenticationProvider implements AuthenticationProvider {
+
+    private static final String MAC_ALGORITHM = "HmacSHA256";
+
+    private final AuthenticationProvider delegate;
+    private final Cache<String, VerifiedLogin> verifiedLogins;
+    private final SecretKey key;
+
+    public CachingAuthenticationProvider(AuthenticationProvider delegate, Duration ttl, long maximumSize) {
+        this.delegate = delegate;
+        this.verifiedLogins = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maximumSize)
+                .build();
+        try {
+            this.key = KeyGenerator.getInstance(MAC_ALGORITHM).generateKey();
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(MAC_ALGORITHM + " is not available", e);
+        }
+    }
+
+    @Override
+    public Authentication authenticate(Authentication authentication) {
+        String username = authentication.getName();
+        Object credentials = authentication.getCredentials();
+        if (credentials == null) {
+            return delegate.authenticate(authentication);
+        }
+        byte[] mac = mac(username, credentials.toString());
+        VerifiedLogin verified = verifiedLogins.getIfPresent(username);
+        if (verified != null && MessageDigest.isEqual(verified.mac(), mac)) {
+            return verified.authentication();
+        }
+        Authentication result = delegate.authenticate(authentication);
+        if (result != null && result.isAuthenticated()) {
+            verifiedLogins.put(username, new VerifiedLogin(mac, result));
+        }
+        return result;
+    }
+
+    @Override
+    public boolean supports(Class<?> authentication) {
+        return UsernamePasswordAuthenticationToken.class.isAssignableFrom(authentication);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserUpdated(UserUpdatedEvent event) {
+        evict(event.getUserId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserDeleted(UserDeletedEvent event) {
+        evict(event.getUserId());
+    }
+
+    private void evict(Long userId) {
+        verifiedLogins.asMap().values().removeIf(verified ->
+                verified.authentication().getPrincipal() instanceof AccountPrincipal principal
+                        && userId.equals(principal.getId()));
+    }
+
+    private byte[] mac(String username, String password) {
+        try {
+            Mac mac = Mac.getInstance(MAC_ALGORITHM);
+            mac.init(key);
+            mac.update(username.getBytes(StandardCharsets.UTF_8));
+            mac.update((byte) 0);
+            return mac.doFinal(password.getBytes(StandardCharsets.UTF_8));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(MAC_ALGORITHM + " is not available", e);
+        }
+    }
+
+    private record VerifiedLogin(byte[] mac, Authentication authentication) {
+    }
+}
@@ -1,15 +1,51 @@
 package com.example.taskmanageranalytics.security;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
+
+import java.time.Duration;
+import java.util.Map;
 
 @Configuration
 public class SecurityConfig {
 
+    /**
+     * New hashes are written with the configured algorithm and prefixed with its id, so the
+     * algorithm or its cost can change without invalidating stored passwords. Hashes written
+     * before the prefix existed are plain BCrypt.
+     */
+    @Bean
+    public PasswordEncoder passwordEncoder(@Value("${app.security.password.encoding:bcrypt}") String encodingId,
+                                           @Value("${app.security.password.bcrypt-strength:10}") int bcryptStrength) {
+        BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(bcryptStrength);
+        DelegatingPasswordEncoder encoder = new DelegatingPasswordEncoder(encodingId, Map.of(
+                "bcrypt", bcrypt,
+                "pbkdf2", Pbkdf2PasswordEncoder.defaultsForSpringSecurity_v5_8(),
+                "argon2", Argon2PasswordEncoder.defaultsForSpringSecurity_v5_8()));
+        encoder.setDefaultPasswordEncoderForMatches(bcrypt);
+        return encoder;
+    }
+
+    /**
+     * Verifies passwords on the bounded hashing pool and remembers successful logins briefly,
+     * because stateless HTTP Basic sends the credentials with every request.
+     */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public CachingAuthenticationProvider authenticationProvider(
+            UserDetailsService userDetailsService,
+            PasswordHasher passwordHasher,
+            @Value("${app.security.authentication-cache.ttl:PT1M}") Duration ttl,
+            @Value("${app.security.authentication-cache.maximum-size:10000}") long maximumSize) {
+        DaoAuthenticationProvider verifier = new DaoAuthenticationProvider(passwordHasher.asPasswordEncoder());
+        verifier.setUserDetailsService(userDetailsService);
+        return new CachingAuthenticationProvider(verifier, ttl, maximumSize);
     }
 }
@@ -0,0 +1,10 @@
+package com.example.taskmanageranalytics.service;
+
+import com.example.taskmanageranalytics.dto.LiveMetricsSnapshot;
+import com.example.taskmanageranalytics.dto.MetricsWindow;
+
+public interface LiveTaskMetricsService {
+    LiveMetricsSnapshot snapshot(MetricsWindow window);
+
+    void rebuild();
+}
@@ -0,0 +1,12 @@
+package com.example.taskmanageranalytics.service;
+
+import com.example.taskmanageranalytics.dto.TransitionCount;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface StatusTransitionRollupService {
+    int compact();
+
+    List<TransitionCount> getTransitionCounts(LocalDateTime from, LocalDateTime to);
+}
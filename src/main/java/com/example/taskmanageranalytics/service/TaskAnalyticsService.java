@@ -0,0 +1,25 @@
+package com.example.taskmanageranalytics.service;
+
+import com.example.taskmanageranalytics.dto.DurationStats;
+import com.example.taskmanageranalytics.dto.ThroughputPoint;
+import com.example.taskmanageranalytics.entity.TaskStatus;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Task analytics served from incrementally maintained aggregate tables. Every method taking a
+ * {@code userId} reports across all users when it is {@code null}.
+ */
+public interface TaskAnalyticsService {
+    Map<TaskStatus, Long> getStatusDistribution();
+
+    List<ThroughputPoint> getCompletedPerDay(LocalDate from, LocalDate to, Long userId);
+
+    List<ThroughputPoint> getCompletedPerWeek(LocalDate from, LocalDate to, Long userId);
+
+    DurationStats getLeadTime(LocalDate from, LocalDate to, Long userId);
+
+    DurationStats getCycleTime(LocalDate from, LocalDate to, Long userId);
+}
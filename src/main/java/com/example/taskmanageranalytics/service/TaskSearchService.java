@@ -0,0 +1,12 @@
+package com.example.taskmanageranalytics.service;
+
+import com.example.taskmanageranalytics.dto.CursorPage;
+import com.example.taskmanageranalytics.entity.Task;
+
+public interface TaskSearchService {
+    /**
+     * Tasks whose title or description matches every word of {@code query}, best match first.
+     * The cursor is the offset of the next page.
+     */
+    CursorPage<Task, Integer> search(String query, int offset, int limit);
+}
@@ -1,17 +1,63 @@
 package com.example.taskmanageranalytics.service;
 
+import com.example.taskmanageranalytics.dto.BulkTaskResult;
+import com.example.taskmanageranalytics.dto.CursorPage;
+import com.example.taskmanageranalytics.dto.TaskFilter;
+import com.example.taskmanageranalytics.dto.TaskRequest;
 import com.example.taskmanageranalytics.entity.Task;
+import com.example.taskmanageranalytics.entity.TaskStatus;
+import com.example.taskmanageranalytics.entity.TaskStatusHistory;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface TaskService {
     Task saveTask(String taskName, String taskDescription);
 
+    Task saveTask(String taskName, String taskDescription, Long authorId);
+
+    /**
+     * Creates the task and, if {@code assigneeId} is given, assigns it in the same transaction,
+     * so an unknown assignee leaves nothing behind.
+     */
+    Task saveTask(String taskName, String taskDescription, Long authorId, Long assigneeId);
+
+    BulkTaskResult saveTasks(List<TaskRequest> taskRequests);
+
     void deleteTask(Long taskId);
 
     Task getTask(Long taskId);
 
+    /**
+     * Returns the tasks that exist among {@code taskIds}, in no particular order.
+     */
+    List<Task> getTasks(Collection<Long> taskIds);
+
+    /**
+     * @deprecated loads the whole table at once; use {@link #getTasks} or {@link #exportTasks}.
+     */
+    @Deprecated
     List<Task> getAllTasks();
 
+    CursorPage<Task, Long> getTasks(TaskFilter filter, Long afterId, int limit);
+
+    void exportTasks(TaskFilter filter, Consumer<Task> consumer);
+
     void updateTask(Long taskId, String taskName, String taskDescription);
+
+    void assignTask(Long taskId, Long assigneeId);
+
+    /**
+     * Moves the task to {@code newStatus} on behalf of {@code userId} and records the transition.
+     * Returns the new history entry, or empty if the task already had that status.
+     */
+    Optional<TaskStatusHistory> changeStatus(Long taskId, TaskStatus newStatus, Long userId);
+
+    /**
+     * Moves all given tasks to {@code newStatus} in one transaction and returns the ids of those
+     * that changed; tasks that do not exist or already had that status are skipped.
+     */
+    List<Long> changeStatuses(Collection<Long> taskIds, TaskStatus newStatus, Long userId);
 }
@@ -0,0 +1,19 @@
+package com.example.taskmanageranalytics.service;
+
+import com.example.taskmanageranalytics.dto.TaskStatusHistoryResponse;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.function.Consumer;
+
+public interface TaskStatusHistoryArchiveService {
+    void maintainPartitions();
+
+    List<YearMonth> getArchivedMonths();
+
+    /**
+     * Reads history rows that were archived out of the database, with {@code from <= changedAt < to}.
+     */
+    void readArchivedHistory(LocalDateTime from, LocalDateTime to, Consumer<TaskStatusHistoryResponse> consumer);
+}
@@ -1,8 +1,11 @@
 package com.example.taskmanageranalytics.service;
 
+import com.example.taskmanageranalytics.dto.CursorPage;
+import com.example.taskmanageranalytics.dto.HistoryCursor;
+import com.example.taskmanageranalytics.dto.TaskStatusHistoryResponse;
 import com.example.taskmanageranalytics.entity.TaskStatusHistory;
 
-import java.util.List;
+import java.util.function.Consumer;
 
 public interface TaskStatusHistoryService {
     TaskStatusHistory saveTaskStatusHistory(TaskStatusHistory taskStatusHistory);
@@ -11,7 +14,10 @@ public interface TaskStatusHistoryService {
 
     TaskStatusHistory getTaskStatusHistoryById(long id);
 
-    List<TaskStatusHistory> getAllTaskStatusHistory();
+    /**
+     * Newest first, seeking past {@code before}; all tasks when {@code taskId} is {@code null}.
+     */
+    CursorPage<TaskStatusHistory, HistoryCursor> getHistory(Long taskId, HistoryCursor before, int limit);
 
-    List<TaskStatusHistory> getHistoryByTaskId(Long taskId);
-}
\ No newline at end of file
+    void exportHistory(Long taskId, Consumer<TaskStatusHistoryResponse> consumer);
+}
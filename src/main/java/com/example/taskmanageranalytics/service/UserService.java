@@ -2,7 +2,10 @@ package com.example.taskmanageranalytics.service;
 
 import com.example.taskmanageranalytics.dto.UserRequest;
 import com.example.taskmanageranalytics.dto.UserResponse;
+import com.example.taskmanageranalytics.dto.UserUpdateRequest;
 import com.example.taskmanageranalytics.entity.User;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 
 import java.util.List;
 
@@ -15,7 +18,9 @@ public interface UserService {
 
     List<UserResponse> getAllUsers();
 
-    UserResponse updateUser(Long id, UserRequest userRequest);
+    Page<UserResponse> getUsers(Pageable pageable);
+
+    UserResponse updateUser(Long id, UserUpdateRequest userRequest);
 
     void deleteUser(Long id);
 
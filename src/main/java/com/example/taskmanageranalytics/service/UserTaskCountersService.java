@@ -0,0 +1,7 @@
+package com.example.taskmanageranalytics.service;
+
+import com.example.taskmanageranalytics.dto.CounterReconciliationReport;
+
+public interface UserTaskCountersService {
+    CounterReconciliationReport reconcileCounters();
+}
@@ -0,0 +1,152 @@
+package com.example.taskmanageranalytics.service.impl;
+
+import com.example.taskmanageranalytics.dto.LiveMetricsSnapshot;
+import com.example.taskmanageranalytics.dto.MetricsWindow;
+import com.example.taskmanageranalytics.dto.StatusTransitionView;
+import com.example.taskmanageranalytics.entity.TaskStatus;
+import com.example.taskmanageranalytics.event.TaskCreatedEvent;
+import com.example.taskmanageranalytics.event.TaskDeletedEvent;
+import com.example.taskmanageranalytics.event.TaskStatusChangedEvent;
+import com.example.taskmanageranalytics.metrics.SlidingWindowCounters;
+import com.example.taskmanageranalytics.repository.TaskRepository;
+import com.example.taskmanageranalytics.repository.TaskStatusHistoryRepository;
+import com.example.taskmanageranalytics.service.LiveTaskMetricsService;
+import com.example.taskmanageranalytics.service.TaskAnalyticsService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.stream.Stream;
+
+@Slf4j
+@Service
+public class LiveTaskMetricsServiceImpl implements LiveTaskMetricsService {
+
+    private static final TaskStatus[] STATUSES = TaskStatus.values();
+    private static final int CREATED_COLUMN = 0;
+    private static final int COLUMNS = 1 + STATUSES.length;
+
+    private final TaskRepository taskRepository;
+    private final TaskStatusHistoryRepository taskStatusHistoryRepository;
+    private final TaskAnalyticsService taskAnalyticsService;
+    private final Clock clock;
+    /**
+     * Activity from here on is counted by the event listeners, earlier activity by {@link #rebuild}.
+     */
+    private final LocalDateTime listeningSince;
+
+    private final SlidingWindowCounters perSecond = new SlidingWindowCounters(60, 1, COLUMNS);
+    private final SlidingWindowCounters perMinute = new SlidingWindowCounters(60, 60, COLUMNS);
+    private final AtomicLongArray statusCounts = new AtomicLongArray(STATUSES.length);
+
+    public LiveTaskMetricsServiceImpl(TaskRepository taskRepository,
+                                      TaskStatusHistoryRepository taskStatusHistoryRepository,
+                                      TaskAnalyticsService taskAnalyticsService, Clock clock) {
+        this.taskRepository = taskRepository;
+        this.taskStatusHistoryRepository = taskStatusHistoryRepository;
+        this.taskAnalyticsService = taskAnalyticsService;
+        this.clock = clock;
+        this.listeningSince = LocalDateTime.now(clock);
+    }
+
+    @Override
+    public LiveMetricsSnapshot snapshot(MetricsWindow window) {
+        long now = clock.instant().getEpochSecond();
+        SlidingWindowCounters tier = window == MetricsWindow.ONE_MINUTE ? perSecond : perMinute;
+        int slots = (int) (window.getLength().toSeconds() / tier.slotSeconds());
+
+        Map<TaskStatus, Long> transitionsInto = new EnumMap<>(TaskStatus.class);
+        Map<TaskStatus, Long> currentStatusCounts = new EnumMap<>(TaskStatus.class);
+        long transitions = 0;
+        for (TaskStatus status : STATUSES) {
+            long count = tier.sum(now, columnOf(status), slots);
+            transitionsInto.put(status, count);
+            transitions += count;
+            currentStatusCounts.put(status, statusCounts.get(status.ordinal()));
+        }
+        long created = tier.sum(now, CREATED_COLUMN, slots);
+        double seconds = window.getLength().toSeconds();
+
+        return LiveMetricsSnapshot.builder()
+                .window(window)
+                .tasksCreated(created)
+                .transitions(transitions)
+                .tasksCreatedPerSecond(created / seconds)
+                .transitionsPerSecond(transitions / seconds)
+                .transitionsInto(transitionsInto)
+                .currentStatusCounts(currentStatusCounts)
+                .build();
+    }
+
+    /**
+     * Loads the state from before the listeners started, without losing events handled since:
+     * the status counts move by the difference between the database's figures and what events
+     * had applied when they were read, and only activity from before {@link #listeningSince} is
+     * replayed into the windows.
+     */
+    @Override
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        LocalDateTime since = LocalDateTime.now(clock).minusHours(1);
+
+        long[] applied = new long[STATUSES.length];
+        for (TaskStatus status : STATUSES) {
+            applied[status.ordinal()] = statusCounts.get(status.ordinal());
+        }
+        Map<TaskStatus, Long> distribution = taskAnalyticsService.getStatusDistribution();
+        for (TaskStatus status : STATUSES) {
+            long count = distribution.getOrDefault(status, 0L);
+            statusCounts.addAndGet(status.ordinal(), count - applied[status.ordinal()]);
+        }
+        try (Stream<LocalDateTime> createdAt = taskRepository.streamCreatedAtSince(since)) {
+            createdAt.filter(time -> time.isBefore(listeningSince))
+                    .forEach(time -> count(epochSecondOf(time), CREATED_COLUMN));
+        }
+        try (Stream<StatusTransitionView> transitions = taskStatusHistoryRepository.streamTransitionsSince(since)) {
+            transitions.filter(transition -> transition.getChangedAt().isBefore(listeningSince))
+                    .forEach(transition ->
+                            count(epochSecondOf(transition.getChangedAt()), columnOf(transition.getNewStatus())));
+        }
+        log.info("Live task metrics rebuilt from the last hour of activity");
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskCreated(TaskCreatedEvent event) {
+        count(clock.instant().getEpochSecond(), CREATED_COLUMN);
+        statusCounts.incrementAndGet(event.getStatus().ordinal());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskDeleted(TaskDeletedEvent event) {
+        statusCounts.decrementAndGet(event.getStatus().ordinal());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskStatusChanged(TaskStatusChangedEvent event) {
+        count(epochSecondOf(event.getChangedAt()), columnOf(event.getNewStatus()));
+        statusCounts.decrementAndGet(event.getOldStatus().ordinal());
+        statusCounts.incrementAndGet(event.getNewStatus().ordinal());
+    }
+
+    private void count(long epochSecond, int column) {
+        perSecond.add(epochSecond, column, 1);
+        perMinute.add(epochSecond, column, 1);
+    }
+
+    private long epochSecondOf(LocalDateTime time) {
+        return time.atZone(clock.getZone()).toEpochSecond();
+    }
+
+    private static int columnOf(TaskStatus status) {
+        return 1 + status.ordinal();
+    }
+}
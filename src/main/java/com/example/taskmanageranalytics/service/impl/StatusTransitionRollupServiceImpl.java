@@ -0,0 +1,156 @@
+package com.example.taskmanageranalytics.service.impl;
+
+import com.example.taskmanageranalytics.dto.StatusTransitionView;
+import com.example.taskmanageranalytics.dto.TransitionCount;
+import com.example.taskmanageranalytics.entity.RollupGranularity;
+import com.example.taskmanageranalytics.entity.RollupWatermark;
+import com.example.taskmanageranalytics.entity.StatusTransitionRollupId;
+import com.example.taskmanageranalytics.entity.TaskStatus;
+import com.example.taskmanageranalytics.repository.RollupWatermarkRepository;
+import com.example.taskmanageranalytics.repository.StatusTransitionRollupRepository;
+import com.example.taskmanageranalytics.repository.TaskStatusHistoryRepository;
+import com.example.taskmanageranalytics.service.StatusTransitionRollupService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StatusTransitionRollupServiceImpl implements StatusTransitionRollupService {
+
+    static final String WATERMARK_NAME = "status_transition_rollups";
+
+    private static final RollupGranularity[] COARSEST_FIRST = {
+            RollupGranularity.DAY, RollupGranularity.HOUR, RollupGranularity.MINUTE
+    };
+
+    private final TaskStatusHistoryRepository taskStatusHistoryRepository;
+    private final StatusTransitionRollupRepository statusTransitionRollupRepository;
+    private final RollupWatermarkRepository rollupWatermarkRepository;
+    private final TransactionOperations transactionOperations;
+    private final Clock clock;
+
+    @Value("${app.rollups.batch-size:5000}")
+    private int batchSize = 5000;
+
+    @Value("${app.rollups.grace-period:PT5M}")
+    private Duration gracePeriod = Duration.ofMinutes(5);
+
+    /**
+     * Folds raw history rows past the watermark into the minute, hour and day rollups, one
+     * batch per transaction, in {@code (changed_at, id)} order. Only rows older than the grace
+     * period are read, and the grace period is longer than any transaction that writes history,
+     * so no row below the watermark can still commit; once they are exhausted the watermark moves
+     * to the end of the window, which lets quiet periods count as compacted too.
+     */
+    @Override
+    @Scheduled(fixedDelayString = "${app.rollups.compaction-delay:PT1M}")
+    public int compact() {
+        LocalDateTime changedBefore = LocalDateTime.now(clock).minus(gracePeriod);
+        int compacted = 0;
+        int batch;
+        do {
+            batch = Objects.requireNonNull(transactionOperations.execute(status -> compactBatch(changedBefore)));
+            compacted += batch;
+        } while (batch == batchSize);
+
+        if (compacted > 0) {
+            log.debug("Compacted {} status transitions into rollups", compacted);
+        }
+        return compacted;
+    }
+
+    /**
+     * Answers the range from the coarsest buckets that fit: whole days in the middle, whole
+     * hours around them and minutes at the edges. Edges are resolved to the minute.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<TransitionCount> getTransitionCounts(LocalDateTime from, LocalDateTime to) {
+        Map<TransitionKey, Long> counts = new LinkedHashMap<>();
+        planSegments(from, to, 0, (granularity, segmentFrom, segmentTo) -> {
+            for (TransitionCount count : statusTransitionRollupRepository.sumTransitions(granularity, segmentFrom, segmentTo)) {
+                counts.merge(new TransitionKey(count.getOldStatus(), count.getNewStatus(), count.getChangedById()),
+                        count.getCount(), Long::sum);
+            }
+        });
+        return counts.entrySet().stream()
+                .map(entry -> new TransitionCount(entry.getKey().oldStatus(), entry.getKey().newStatus(),
+                        entry.getKey().changedById(), entry.getValue()))
+                .toList();
+    }
+
+    private int compactBatch(LocalDateTime changedBefore) {
+        RollupWatermark watermark = rollupWatermarkRepository.findForUpdate(WATERMARK_NAME)
+                .orElseThrow(() -> new IllegalStateException("Missing rollup watermark " + WATERMARK_NAME));
+        if (!watermark.getLastChangedAt().isBefore(changedBefore)) {
+            return 0;
+        }
+        List<StatusTransitionView> transitions = taskStatusHistoryRepository.findTransitionsAfter(
+                watermark.getLastChangedAt(), watermark.getLastHistoryId(), changedBefore, Limit.of(batchSize));
+        if (transitions.size() < batchSize) {
+            watermark.setLastChangedAt(changedBefore);
+            watermark.setLastHistoryId(0);
+        }
+        if (transitions.isEmpty()) {
+            return 0;
+        }
+
+        Map<StatusTransitionRollupId, Long> counts = new HashMap<>();
+        for (StatusTransitionView transition : transitions) {
+            for (RollupGranularity granularity : RollupGranularity.values()) {
+                counts.merge(new StatusTransitionRollupId(granularity, granularity.bucketStart(transition.getChangedAt()),
+                        transition.getOldStatus(), transition.getNewStatus(), transition.getChangedById()), 1L, Long::sum);
+            }
+        }
+        counts.forEach((id, count) -> statusTransitionRollupRepository.addToRollup(id.getGranularity().name(),
+                id.getBucketStart(), id.getOldStatus().name(), id.getNewStatus().name(), id.getChangedById(), count));
+
+        if (transitions.size() == batchSize) {
+            StatusTransitionView last = transitions.get(transitions.size() - 1);
+            watermark.setLastChangedAt(last.getChangedAt());
+            watermark.setLastHistoryId(last.getId());
+        }
+        return transitions.size();
+    }
+
+    private static void planSegments(LocalDateTime from, LocalDateTime to, int level, SegmentConsumer consumer) {
+        if (!from.isBefore(to)) {
+            return;
+        }
+        RollupGranularity granularity = COARSEST_FIRST[level];
+        if (level == COARSEST_FIRST.length - 1) {
+            consumer.accept(granularity, granularity.bucketStart(from), to);
+            return;
+        }
+
+        LocalDateTime alignedFrom = granularity.nextBucketStart(from);
+        LocalDateTime alignedTo = granularity.bucketStart(to);
+        if (alignedFrom.isBefore(alignedTo)) {
+            planSegments(from, alignedFrom, level + 1, consumer);
+            consumer.accept(granularity, alignedFrom, alignedTo);
+            planSegments(alignedTo, to, level + 1, consumer);
+        } else {
+            planSegments(from, to, level + 1, consumer);
+        }
+    }
+
+    @FunctionalInterface
+    private interface SegmentConsumer {
+        void accept(RollupGranularity granularity, LocalDateTime from, LocalDateTime to);
+    }
+
+    private record TransitionKey(TaskStatus oldStatus, TaskStatus newStatus, Long changedById) {
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.taskmanageranalytics.service.impl;
+
+import com.example.taskmanageranalytics.entity.TaskDailyStatsId;
+import com.example.taskmanageranalytics.entity.TaskStatus;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Aggregate changes collected during one transaction, so that a chunk of task writes turns
+ * into a single upsert per aggregate row.
+ */
+final class TaskAnalyticsDeltas {
+
+    static final int COMPLETED = 0;
+    static final int LEAD_TIME_SECONDS = 1;
+    static final int CYCLE_TIME_SECONDS = 2;
+    static final int CYCLES = 3;
+
+    private final Map<TaskStatus, Long> statusDeltas = new EnumMap<>(TaskStatus.class);
+    private final Map<TaskDailyStatsId, long[]> dailyDeltas = new HashMap<>();
+
+    void addStatus(TaskStatus status, long delta) {
+        if (status != null) {
+            statusDeltas.merge(status, delta, Long::sum);
+        }
+    }
+
+    void addCompletion(TaskDailyStatsId id, long leadTimeSeconds, Long cycleTimeSeconds) {
+        long[] deltas = dailyDeltas.computeIfAbsent(id, key -> new long[4]);
+        deltas[COMPLETED]++;
+        deltas[LEAD_TIME_SECONDS] += leadTimeSeconds;
+        if (cycleTimeSeconds != null) {
+            deltas[CYCLE_TIME_SECONDS] += cycleTimeSeconds;
+            deltas[CYCLES]++;
+        }
+    }
+
+    Map<TaskStatus, Long> statusDeltas() {
+        return statusDeltas;
+    }
+
+    Map<TaskDailyStatsId, long[]> dailyDeltas() {
+        return dailyDeltas;
+    }
+}
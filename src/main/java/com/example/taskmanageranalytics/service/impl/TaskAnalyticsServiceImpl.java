@@ -0,0 +1,190 @@
+package com.example.taskmanageranalytics.service.impl;
+
+import com.example.taskmanageranalytics.dto.DurationStats;
+import com.example.taskmanageranalytics.dto.ThroughputPoint;
+import com.example.taskmanageranalytics.entity.TaskDailyStats;
+import com.example.taskmanageranalytics.entity.TaskDailyStatsId;
+import com.example.taskmanageranalytics.entity.TaskStatus;
+import com.example.taskmanageranalytics.entity.TaskStatusCount;
+import com.example.taskmanageranalytics.event.TaskCreatedEvent;
+import com.example.taskmanageranalytics.event.TaskDeletedEvent;
+import com.example.taskmanageranalytics.event.TaskStatusChangedEvent;
+import com.example.taskmanageranalytics.repository.TaskDailyStatsRepository;
+import com.example.taskmanageranalytics.repository.TaskStatusCountRepository;
+import com.example.taskmanageranalytics.service.TaskAnalyticsService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.function.ToLongFunction;
+
+@Service
+@RequiredArgsConstructor
+public class TaskAnalyticsServiceImpl implements TaskAnalyticsService {
+
+    private static final Object DELTAS_KEY = new Object();
+
+    private final TaskStatusCountRepository taskStatusCountRepository;
+    private final TaskDailyStatsRepository taskDailyStatsRepository;
+    private final TransactionOperations transactionOperations;
+
+    @Override
+    @Transactional(readOnly = true)
+    public Map<TaskStatus, Long> getStatusDistribution() {
+        Map<TaskStatus, Long> distribution = new EnumMap<>(TaskStatus.class);
+        for (TaskStatus status : TaskStatus.values()) {
+            distribution.put(status, 0L);
+        }
+        for (TaskStatusCount count : taskStatusCountRepository.findAll()) {
+            distribution.put(count.getStatus(), count.getTaskCount());
+        }
+        return distribution;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ThroughputPoint> getCompletedPerDay(LocalDate from, LocalDate to, Long userId) {
+        return findDailyStats(from, to, userId).stream()
+                .map(stats -> new ThroughputPoint(stats.getId().getStatDate(), stats.getCompletedCount()))
+                .toList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ThroughputPoint> getCompletedPerWeek(LocalDate from, LocalDate to, Long userId) {
+        Map<LocalDate, Long> completedPerWeek = new TreeMap<>();
+        for (TaskDailyStats stats : findDailyStats(from, to, userId)) {
+            LocalDate weekStart = stats.getId().getStatDate().with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+            completedPerWeek.merge(weekStart, stats.getCompletedCount(), Long::sum);
+        }
+        return completedPerWeek.entrySet().stream()
+                .map(entry -> new ThroughputPoint(entry.getKey(), entry.getValue()))
+                .toList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public DurationStats getLeadTime(LocalDate from, LocalDate to, Long userId) {
+        return averageOf(findDailyStats(from, to, userId),
+                TaskDailyStats::getCompletedCount, TaskDailyStats::getLeadTimeSecondsSum);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public DurationStats getCycleTime(LocalDate from, LocalDate to, Long userId) {
+        return averageOf(findDailyStats(from, to, userId),
+                TaskDailyStats::getCycleCount, TaskDailyStats::getCycleTimeSecondsSum);
+    }
+
+    @EventListener
+    public void onTaskCreated(TaskCreatedEvent event) {
+        record(deltas -> deltas.addStatus(event.getStatus(), 1));
+    }
+
+    @EventListener
+    public void onTaskDeleted(TaskDeletedEvent event) {
+        record(deltas -> deltas.addStatus(event.getStatus(), -1));
+    }
+
+    /**
+     * Every transition into {@code DONE} counts as a completion on its day, so a task that is
+     * reopened and completed again is counted on both days, each time with its lead time measured
+     * from creation. The earlier completion stays where it was recorded.
+     */
+    @EventListener
+    public void onTaskStatusChanged(TaskStatusChangedEvent event) {
+        record(deltas -> {
+            deltas.addStatus(event.getOldStatus(), -1);
+            deltas.addStatus(event.getNewStatus(), 1);
+            if (event.getNewStatus() != TaskStatus.DONE || event.getCompletedAt() == null) {
+                return;
+            }
+
+            LocalDate completedOn = event.getCompletedAt().toLocalDate();
+            long leadTimeSeconds = event.getCreatedAt() != null
+                    ? Duration.between(event.getCreatedAt(), event.getCompletedAt()).toSeconds()
+                    : 0;
+            Long cycleTimeSeconds = event.getStartedAt() != null
+                    ? Duration.between(event.getStartedAt(), event.getCompletedAt()).toSeconds()
+                    : null;
+
+            deltas.addCompletion(new TaskDailyStatsId(completedOn, TaskDailyStatsId.GLOBAL), leadTimeSeconds, cycleTimeSeconds);
+            Long responsibleUserId = event.getAssigneeId() != null ? event.getAssigneeId() : event.getAuthorId();
+            if (responsibleUserId != null) {
+                deltas.addCompletion(new TaskDailyStatsId(completedOn, responsibleUserId), leadTimeSeconds, cycleTimeSeconds);
+            }
+        });
+    }
+
+    /**
+     * Collects the change into the current transaction's deltas, which are written just before
+     * it commits. Outside a transaction the change is written right away.
+     */
+    private void record(Consumer<TaskAnalyticsDeltas> change) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            TaskAnalyticsDeltas deltas = new TaskAnalyticsDeltas();
+            change.accept(deltas);
+            transactionOperations.executeWithoutResult(status -> apply(deltas));
+            return;
+        }
+
+        TaskAnalyticsDeltas deltas = (TaskAnalyticsDeltas) TransactionSynchronizationManager.getResource(DELTAS_KEY);
+        if (deltas == null) {
+            TaskAnalyticsDeltas transactionDeltas = new TaskAnalyticsDeltas();
+            TransactionSynchronizationManager.bindResource(DELTAS_KEY, transactionDeltas);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void beforeCommit(boolean readOnly) {
+                    apply(transactionDeltas);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(DELTAS_KEY);
+                }
+            });
+            deltas = transactionDeltas;
+        }
+        change.accept(deltas);
+    }
+
+    private void apply(TaskAnalyticsDeltas deltas) {
+        deltas.statusDeltas().forEach((status, delta) -> {
+            if (delta != 0) {
+                taskStatusCountRepository.addToTaskCount(status.name(), delta);
+            }
+        });
+        deltas.dailyDeltas().forEach((id, values) -> taskDailyStatsRepository.addToDailyStats(
+                id.getStatDate(), id.getUserId(),
+                values[TaskAnalyticsDeltas.COMPLETED],
+                values[TaskAnalyticsDeltas.LEAD_TIME_SECONDS],
+                values[TaskAnalyticsDeltas.CYCLE_TIME_SECONDS],
+                values[TaskAnalyticsDeltas.CYCLES]));
+    }
+
+    private List<TaskDailyStats> findDailyStats(LocalDate from, LocalDate to, Long userId) {
+        return taskDailyStatsRepository.findByIdUserIdAndIdStatDateBetweenOrderByIdStatDate(
+                userId != null ? userId : TaskDailyStatsId.GLOBAL, from, to);
+    }
+
+    private DurationStats averageOf(List<TaskDailyStats> dailyStats,
+                                    ToLongFunction<TaskDailyStats> count,
+                                    ToLongFunction<TaskDailyStats> secondsSum) {
+        long totalCount = dailyStats.stream().mapToLong(count).sum();
+        if (totalCount == 0) {
+            return new DurationStats(0, Duration.ZERO);
+        }
+        long totalSeconds = dailyStats.stream().mapToLong(secondsSum).sum();
+        return new DurationStats(totalCount, Duration.ofSeconds(totalSeconds / totalCount));
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.taskmanageranalytics.service.impl;
+
+import com.example.taskmanageranalytics.dto.CursorPage;
+import com.example.taskmanageranalytics.entity.Task;
+import com.example.taskmanageranalytics.repository.TaskRepository;
+import com.example.taskmanageranalytics.search.TaskSearchIndex;
+import com.example.taskmanageranalytics.service.TaskSearchService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+public class TaskSearchServiceImpl implements TaskSearchService {
+
+    static final int MAX_PAGE_SIZE = 100;
+    /**
+     * Ranked results cannot be seeked into, so each page re-ranks everything before it; deep
+     * pages are refused rather than getting slower without bound.
+     */
+    static final int MAX_RESULTS = 1000;
+
+    private final TaskSearchIndex taskSearchIndex;
+    private final TaskRepository taskRepository;
+
+    /**
+     * Tasks deleted after the index returned them are left out, so a page can come back shorter
+     * than {@code limit} even when more results follow.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<Task, Integer> search(String query, int offset, int limit) {
+        if (query == null || query.isBlank()) {
+            throw new IllegalArgumentException("Search query must not be blank");
+        }
+        if (limit < 1) {
+            throw new IllegalArgumentException("Page limit must be positive: " + limit);
+        }
+        if (offset < 0 || offset >= MAX_RESULTS) {
+            throw new IllegalArgumentException("Search offset must be between 0 and " + (MAX_RESULTS - 1) + ": " + offset);
+        }
+        int pageSize = Math.min(Math.min(limit, MAX_PAGE_SIZE), MAX_RESULTS - offset);
+        List<Long> ids = taskSearchIndex.search(query, offset, pageSize + 1);
+
+        Integer nextOffset = null;
+        if (ids.size() > pageSize) {
+            ids = ids.subList(0, pageSize);
+            nextOffset = offset + pageSize < MAX_RESULTS ? offset + pageSize : null;
+        }
+        Map<Long, Task> tasks = taskRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Task::getId, Function.identity()));
+        List<Task> ranked = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            Task task = tasks.get(id);
+            if (task != null) {
+                ranked.add(task);
+            }
+        }
+        return new CursorPage<>(ranked, nextOffset);
+    }
+}
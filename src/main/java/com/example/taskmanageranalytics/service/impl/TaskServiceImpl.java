@@ -1,19 +1,82 @@
 package com.example.taskmanageranalytics.service.impl;
 
+import com.example.taskmanageranalytics.dto.BulkTaskItemResult;
+import com.example.taskmanageranalytics.dto.BulkTaskResult;
+import com.example.taskmanageranalytics.dto.CursorPage;
+import com.example.taskmanageranalytics.dto.TaskFilter;
+import com.example.taskmanageranalytics.dto.TaskRequest;
+import com.example.taskmanageranalytics.dto.TaskStatusView;
 import com.example.taskmanageranalytics.entity.Task;
+import com.example.taskmanageranalytics.entity.TaskStatus;
+import com.example.taskmanageranalytics.entity.TaskStatusHistory;
+import com.example.taskmanageranalytics.entity.User;
+import com.example.taskmanageranalytics.event.TaskAssignedEvent;
+import com.example.taskmanageranalytics.event.TaskContentChangedEvent;
+import com.example.taskmanageranalytics.event.TaskCreatedEvent;
+import com.example.taskmanageranalytics.event.TaskDeletedEvent;
+import com.example.taskmanageranalytics.event.TaskStatusChangedEvent;
+import com.example.taskmanageranalytics.exception.TaskNotFoundException;
+import com.example.taskmanageranalytics.exception.UserNotFoundException;
 import com.example.taskmanageranalytics.repository.TaskRepository;
+import com.example.taskmanageranalytics.repository.TaskSpecifications;
+import com.example.taskmanageranalytics.repository.TaskStatusHistoryRepository;
+import com.example.taskmanageranalytics.repository.UserRepository;
+import com.example.taskmanageranalytics.repository.UserTaskCountersRepository;
 import com.example.taskmanageranalytics.service.TaskService;
-import lombok.RequiredArgsConstructor;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionOperations;
 
-import java.util.List;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
-@RequiredArgsConstructor
 public class TaskServiceImpl implements TaskService {
 
+    static final int MAX_PAGE_SIZE = 500;
+
     private final TaskRepository taskRepository;
+    private final TaskStatusHistoryRepository taskStatusHistoryRepository;
+    private final UserRepository userRepository;
+    private final UserTaskCountersRepository userTaskCountersRepository;
+    private final EntityManager entityManager;
+    private final TransactionOperations transactionOperations;
+    private final Validator validator;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int bulkBatchSize;
+
+    public TaskServiceImpl(TaskRepository taskRepository,
+                           TaskStatusHistoryRepository taskStatusHistoryRepository,
+                           UserRepository userRepository,
+                           UserTaskCountersRepository userTaskCountersRepository,
+                           EntityManager entityManager,
+                           TransactionOperations transactionOperations,
+                           Validator validator,
+                           ApplicationEventPublisher eventPublisher,
+                           @Value("${app.tasks.bulk-batch-size:500}") int bulkBatchSize) {
+        if (bulkBatchSize <= 0) {
+            throw new IllegalArgumentException("app.tasks.bulk-batch-size must be positive: " + bulkBatchSize);
+        }
+        this.taskRepository = taskRepository;
+        this.taskStatusHistoryRepository = taskStatusHistoryRepository;
+        this.userRepository = userRepository;
+        this.userTaskCountersRepository = userTaskCountersRepository;
+        this.entityManager = entityManager;
+        this.transactionOperations = transactionOperations;
+        this.validator = validator;
+        this.eventPublisher = eventPublisher;
+        this.bulkBatchSize = bulkBatchSize;
+    }
 
     @Override
     @Transactional
@@ -22,33 +85,156 @@ public class TaskServiceImpl implements TaskService {
                 .title(taskName)
                 .description(taskDescription)
                 .build();
-        return taskRepository.save(task);
+        Task savedTask = taskRepository.save(task);
+        publishCreated(savedTask);
+        return savedTask;
+    }
+
+    @Override
+    @Transactional
+    public Task saveTask(String taskName, String taskDescription, Long authorId) {
+        return saveTask(taskName, taskDescription, authorId, null);
+    }
+
+    @Override
+    @Transactional
+    public Task saveTask(String taskName, String taskDescription, Long authorId, Long assigneeId) {
+        User author = userRepository.findById(authorId)
+                .orElseThrow(() -> new UserNotFoundException(authorId));
+        User assignee = null;
+        if (assigneeId != null) {
+            assignee = userRepository.findById(assigneeId)
+                    .orElseThrow(() -> new UserNotFoundException(assigneeId));
+        }
+        Task task = Task.builder()
+                .title(taskName)
+                .description(taskDescription)
+                .author(author)
+                .assignee(assignee)
+                .build();
+        Task savedTask = taskRepository.save(task);
+        userTaskCountersRepository.adjustCreatedTasksCount(authorId, 1);
+        if (assigneeId != null) {
+            userTaskCountersRepository.adjustAssignedTasksCount(assigneeId, 1);
+        }
+        publishCreated(savedTask);
+        return savedTask;
+    }
+
+    /**
+     * Imports tasks in chunks of {@code app.tasks.bulk-batch-size}, each chunk in its own
+     * transaction that is flushed and cleared before the next one starts. Invalid items are
+     * reported up front; a chunk that fails as a whole is retried item by item so a single bad
+     * row does not roll back the rest of the import.
+     */
+    @Override
+    public BulkTaskResult saveTasks(List<TaskRequest> taskRequests) {
+        BulkTaskItemResult[] results = new BulkTaskItemResult[taskRequests.size()];
+
+        List<Integer> validIndexes = new ArrayList<>(taskRequests.size());
+        for (int i = 0; i < taskRequests.size(); i++) {
+            String violation = validate(taskRequests.get(i));
+            if (violation == null) {
+                validIndexes.add(i);
+            } else {
+                results[i] = BulkTaskItemResult.failed(i, violation);
+            }
+        }
+
+        for (int from = 0; from < validIndexes.size(); from += bulkBatchSize) {
+            List<Integer> chunk = validIndexes.subList(from, Math.min(from + bulkBatchSize, validIndexes.size()));
+            List<Integer> persistable = withKnownUsers(taskRequests, chunk, results);
+            try {
+                recordCreated(persistable, persistChunk(taskRequests, persistable), results);
+            } catch (RuntimeException chunkFailure) {
+                for (Integer index : persistable) {
+                    try {
+                        recordCreated(List.of(index), persistChunk(taskRequests, List.of(index)), results);
+                    } catch (RuntimeException itemFailure) {
+                        results[index] = BulkTaskItemResult.failed(index,
+                                NestedExceptionUtils.getMostSpecificCause(itemFailure).getMessage());
+                    }
+                }
+            }
+        }
+
+        return new BulkTaskResult(Arrays.asList(results));
     }
 
     @Override
     @Transactional
     public void deleteTask(Long taskId) {
-        taskRepository.findById(taskId).ifPresent(taskRepository::delete);
+        taskRepository.findById(taskId).ifPresent(task -> {
+            if (task.getAuthor() != null) {
+                userTaskCountersRepository.adjustCreatedTasksCount(task.getAuthor().getId(), -1);
+            }
+            if (task.getAssignee() != null) {
+                userTaskCountersRepository.adjustAssignedTasksCount(task.getAssignee().getId(), -1);
+            }
+            taskRepository.delete(task);
+            eventPublisher.publishEvent(new TaskDeletedEvent(task.getId(), idOf(task.getAuthor()),
+                    idOf(task.getAssignee()), task.getStatus()));
+        });
     }
 
     @Override
     @Transactional(readOnly = true)
     public Task getTask(Long taskId) {
         return taskRepository.findById(taskId)
-                .orElseThrow(() -> new RuntimeException("Task not found"));
+                .orElseThrow(() -> new TaskNotFoundException(taskId));
     }
 
     @Override
     @Transactional(readOnly = true)
+    public List<Task> getTasks(Collection<Long> taskIds) {
+        return taskRepository.findAllById(taskIds);
+    }
+
+    @Override
+    @Deprecated
+    @Transactional(readOnly = true)
     public List<Task> getAllTasks() {
         return taskRepository.findAll();
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<Task, Long> getTasks(TaskFilter filter, Long afterId, int limit) {
+        if (limit < 1) {
+            throw new IllegalArgumentException("Page limit must be positive: " + limit);
+        }
+        int pageSize = Math.min(limit, MAX_PAGE_SIZE);
+        List<Task> tasks = taskRepository.findBy(
+                TaskSpecifications.matching(filter).and(TaskSpecifications.idGreaterThan(afterId)),
+                query -> query.sortBy(Sort.by("id")).limit(pageSize + 1).all());
+
+        if (tasks.size() <= pageSize) {
+            return new CursorPage<>(tasks, null);
+        }
+        List<Task> page = tasks.subList(0, pageSize);
+        return new CursorPage<>(List.copyOf(page), page.get(pageSize - 1).getId());
+    }
+
+    /**
+     * Hands matching tasks to {@code consumer} one at a time, detaching each after use so the
+     * persistence context never holds more than a single task.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void exportTasks(TaskFilter filter, Consumer<Task> consumer) {
+        try (Stream<Task> tasks = taskRepository.streamAll(filter)) {
+            tasks.forEach(task -> {
+                consumer.accept(task);
+                entityManager.detach(task);
+            });
+        }
+    }
+
     @Override
     @Transactional
     public void updateTask(Long taskId, String taskName, String taskDescription) {
         Task task = taskRepository.findById(taskId)
-                .orElseThrow(() -> new RuntimeException("Task not found"));
+                .orElseThrow(() -> new TaskNotFoundException(taskId));
         if (taskName != null) {
             task.setTitle(taskName);
         }
@@ -56,5 +242,182 @@ public class TaskServiceImpl implements TaskService {
             task.setDescription(taskDescription);
         }
         taskRepository.save(task);
+        eventPublisher.publishEvent(new TaskContentChangedEvent(taskId, task.getTitle(), task.getDescription()));
+    }
+
+    @Override
+    @Transactional
+    public void assignTask(Long taskId, Long assigneeId) {
+        Task task = taskRepository.findById(taskId)
+                .orElseThrow(() -> new TaskNotFoundException(taskId));
+        Long previousAssigneeId = task.getAssignee() != null ? task.getAssignee().getId() : null;
+        if (Objects.equals(previousAssigneeId, assigneeId)) {
+            return;
+        }
+
+        User assignee = null;
+        if (assigneeId != null) {
+            assignee = userRepository.findById(assigneeId)
+                    .orElseThrow(() -> new UserNotFoundException(assigneeId));
+            userTaskCountersRepository.adjustAssignedTasksCount(assigneeId, 1);
+        }
+        if (previousAssigneeId != null) {
+            userTaskCountersRepository.adjustAssignedTasksCount(previousAssigneeId, -1);
+        }
+        task.setAssignee(assignee);
+        taskRepository.save(task);
+        eventPublisher.publishEvent(new TaskAssignedEvent(taskId, previousAssigneeId, assigneeId));
+    }
+
+    /**
+     * Persists the history row directly instead of appending it to {@link Task#getStatusHistory()},
+     * so the cost does not depend on how long the history already is. The author of the change is
+     * only referenced, not loaded; a concurrent transition of the same task fails the version check.
+     */
+    @Override
+    @Transactional
+    public Optional<TaskStatusHistory> changeStatus(Long taskId, TaskStatus newStatus, Long userId) {
+        Task task = taskRepository.findById(taskId)
+                .orElseThrow(() -> new TaskNotFoundException(taskId));
+        TaskStatusHistory history = task.transitionTo(newStatus, userRepository.getReferenceById(userId));
+        if (history == null) {
+            return Optional.empty();
+        }
+        taskStatusHistoryRepository.save(history);
+        taskRepository.save(task);
+        return Optional.of(history);
+    }
+
+    /**
+     * Works in chunks of {@code app.tasks.bulk-batch-size}: one locking select to read the old
+     * statuses, one set-based update, and batched history inserts. The bulk update invalidates the
+     * task cache region; analytics are kept current through the usual status change events.
+     */
+    @Override
+    @Transactional
+    public List<Long> changeStatuses(Collection<Long> taskIds, TaskStatus newStatus, Long userId) {
+        List<Long> ids = taskIds.stream().distinct().sorted().toList();
+        List<Long> changedTaskIds = new ArrayList<>();
+        for (int from = 0; from < ids.size(); from += bulkBatchSize) {
+            List<Long> chunk = ids.subList(from, Math.min(from + bulkBatchSize, ids.size()));
+            List<TaskStatusView> tasks = taskRepository.lockForTransition(chunk, newStatus);
+            if (tasks.isEmpty()) {
+                continue;
+            }
+
+            List<Long> lockedIds = tasks.stream().map(TaskStatusView::getId).toList();
+            LocalDateTime now = LocalDateTime.now();
+            LocalDateTime startedAt = newStatus == TaskStatus.IN_PROGRESS ? now : null;
+            LocalDateTime completedAt = newStatus == TaskStatus.DONE ? now : null;
+            taskRepository.transitionAll(lockedIds, newStatus, startedAt, completedAt, now);
+
+            User changedBy = userRepository.getReferenceById(userId);
+            List<TaskStatusHistory> history = new ArrayList<>(tasks.size());
+            for (TaskStatusView task : tasks) {
+                history.add(TaskStatusHistory.builder()
+                        .task(taskRepository.getReferenceById(task.getId()))
+                        .oldStatus(task.getStatus())
+                        .newStatus(newStatus)
+                        .changedBy(changedBy)
+                        .build());
+                eventPublisher.publishEvent(new TaskStatusChangedEvent(task.getId(), task.getAuthorId(),
+                        task.getAssigneeId(), userId, task.getStatus(), newStatus, now, task.getCreatedAt(),
+                        task.getStartedAt() != null ? task.getStartedAt() : startedAt,
+                        completedAt != null ? completedAt : task.getCompletedAt()));
+            }
+            taskStatusHistoryRepository.saveAll(history);
+            entityManager.flush();
+            entityManager.clear();
+            changedTaskIds.addAll(lockedIds);
+        }
+        return changedTaskIds;
+    }
+
+    private String validate(TaskRequest taskRequest) {
+        if (taskRequest == null) {
+            return "Task request is null";
+        }
+        Set<ConstraintViolation<TaskRequest>> violations = validator.validate(taskRequest);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(violation -> violation.getPropertyPath() + " " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.joining(", "));
+    }
+
+    private List<Integer> withKnownUsers(List<TaskRequest> taskRequests, List<Integer> chunk,
+                                         BulkTaskItemResult[] results) {
+        Set<Long> userIds = new HashSet<>();
+        for (Integer index : chunk) {
+            TaskRequest taskRequest = taskRequests.get(index);
+            userIds.add(taskRequest.getAuthorId());
+            if (taskRequest.getAssigneeId() != null) {
+                userIds.add(taskRequest.getAssigneeId());
+            }
+        }
+        Set<Long> existingUserIds = userIds.isEmpty() ? Set.of() : userRepository.findExistingIds(userIds);
+
+        List<Integer> persistable = new ArrayList<>(chunk.size());
+        for (Integer index : chunk) {
+            TaskRequest taskRequest = taskRequests.get(index);
+            if (!existingUserIds.contains(taskRequest.getAuthorId())) {
+                results[index] = BulkTaskItemResult.failed(index, new UserNotFoundException(taskRequest.getAuthorId()).getMessage());
+            } else if (taskRequest.getAssigneeId() != null && !existingUserIds.contains(taskRequest.getAssigneeId())) {
+                results[index] = BulkTaskItemResult.failed(index, new UserNotFoundException(taskRequest.getAssigneeId()).getMessage());
+            } else {
+                persistable.add(index);
+            }
+        }
+        return persistable;
+    }
+
+    private static void recordCreated(List<Integer> indexes, List<Long> taskIds, BulkTaskItemResult[] results) {
+        for (int i = 0; i < indexes.size(); i++) {
+            results[indexes.get(i)] = BulkTaskItemResult.created(indexes.get(i), taskIds.get(i));
+        }
+    }
+
+    private List<Long> persistChunk(List<TaskRequest> taskRequests, List<Integer> chunk) {
+        if (chunk.isEmpty()) {
+            return List.of();
+        }
+        return transactionOperations.execute(status -> {
+            List<Task> tasks = new ArrayList<>(chunk.size());
+            Map<Long, Integer> createdByAuthor = new HashMap<>();
+            Map<Long, Integer> assignedByAssignee = new HashMap<>();
+            for (Integer index : chunk) {
+                TaskRequest taskRequest = taskRequests.get(index);
+                Task task = Task.builder()
+                        .title(taskRequest.getTitle())
+                        .description(taskRequest.getDescription())
+                        .author(userRepository.getReferenceById(taskRequest.getAuthorId()))
+                        .build();
+                createdByAuthor.merge(taskRequest.getAuthorId(), 1, Integer::sum);
+                if (taskRequest.getAssigneeId() != null) {
+                    task.setAssignee(userRepository.getReferenceById(taskRequest.getAssigneeId()));
+                    assignedByAssignee.merge(taskRequest.getAssigneeId(), 1, Integer::sum);
+                }
+                entityManager.persist(task);
+                tasks.add(task);
+            }
+            tasks.forEach(this::publishCreated);
+            entityManager.flush();
+            createdByAuthor.forEach(userTaskCountersRepository::adjustCreatedTasksCount);
+            assignedByAssignee.forEach(userTaskCountersRepository::adjustAssignedTasksCount);
+            entityManager.clear();
+            return tasks.stream().map(Task::getId).toList();
+        });
+    }
+
+    private void publishCreated(Task task) {
+        eventPublisher.publishEvent(new TaskCreatedEvent(task.getId(), idOf(task.getAuthor()),
+                idOf(task.getAssignee()), task.getStatus()));
+        eventPublisher.publishEvent(new TaskContentChangedEvent(task.getId(), task.getTitle(), task.getDescription()));
+    }
+
+    private static Long idOf(User user) {
+        return user != null ? user.getId() : null;
     }
 }
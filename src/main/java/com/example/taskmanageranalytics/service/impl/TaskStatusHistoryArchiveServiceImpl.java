@@ -0,0 +1,166 @@
+package com.example.taskmanageranalytics.service.impl;
+
+import com.example.taskmanageranalytics.archive.TaskStatusHistoryArchive;
+import com.example.taskmanageranalytics.dto.TaskStatusHistoryResponse;
+import com.example.taskmanageranalytics.repository.RollupWatermarkRepository;
+import com.example.taskmanageranalytics.service.TaskStatusHistoryArchiveService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Keeps {@code task_status_history} partitioned by month on PostgreSQL: partitions for the
+ * coming months are created ahead of time, and months older than the retention period are
+ * archived to {@link TaskStatusHistoryArchive} files, then detached and dropped. A month is only
+ * archived once the rollups have folded in all of its rows, so rollup-based analytics keep
+ * covering it. Does nothing where the table is not partitioned.
+ * <p>
+ * A run holds a transaction-level advisory lock, so only one instance maintains the partitions
+ * at a time; the archive directory has to be shared between instances for the same reason.
+ * Partitions are detached and dropped together at the end of the run, which keeps the exclusive
+ * lock on the parent table short.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TaskStatusHistoryArchiveServiceImpl implements TaskStatusHistoryArchiveService {
+
+    static final String TABLE = "task_status_history";
+
+    private static final String LOCK_NAME = TABLE + "_maintenance";
+
+    private static final Pattern PARTITION_NAME = Pattern.compile(TABLE + "_p(\\d{4})_(\\d{2})");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionOperations transactionOperations;
+    private final RollupWatermarkRepository rollupWatermarkRepository;
+    private final TaskStatusHistoryArchive archive;
+    private final Clock clock;
+
+    @Value("${app.history.partitions.months-ahead:3}")
+    private int monthsAhead = 3;
+
+    @Value("${app.history.partitions.retention-months:12}")
+    private int retentionMonths = 12;
+
+    @Override
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${app.history.partitions.maintenance-cron:0 30 2 * * *}")
+    public void maintainPartitions() {
+        if (!isPartitioned()) {
+            log.debug("{} is not partitioned, skipping partition maintenance", TABLE);
+            return;
+        }
+        transactionOperations.executeWithoutResult(status -> {
+            if (!Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                    "select pg_try_advisory_xact_lock(hashtext(?))", Boolean.class, LOCK_NAME))) {
+                log.info("Partition maintenance is running on another instance, skipping");
+                return;
+            }
+            maintainLocked();
+        });
+    }
+
+    private void maintainLocked() {
+        YearMonth currentMonth = YearMonth.now(clock);
+        SortedSet<YearMonth> partitions = partitionMonths();
+        for (int i = 0; i <= monthsAhead; i++) {
+            YearMonth month = currentMonth.plusMonths(i);
+            if (!partitions.contains(month)) {
+                createPartition(month);
+            }
+        }
+
+        if (retentionMonths <= 0) {
+            return;
+        }
+        YearMonth oldestKept = currentMonth.minusMonths(retentionMonths);
+        List<String> archived = new ArrayList<>();
+        for (YearMonth month : partitions.headSet(oldestKept)) {
+            if (archivePartition(month)) {
+                archived.add(partitionName(month));
+            }
+        }
+        for (String partition : archived) {
+            jdbcTemplate.execute("alter table %s detach partition %s".formatted(TABLE, partition));
+            jdbcTemplate.execute("drop table " + partition);
+            log.info("Dropped archived partition {}", partition);
+        }
+    }
+
+    @Override
+    public List<YearMonth> getArchivedMonths() {
+        return archive.archivedMonths();
+    }
+
+    @Override
+    public void readArchivedHistory(LocalDateTime from, LocalDateTime to, Consumer<TaskStatusHistoryResponse> consumer) {
+        archive.read(from, to, consumer);
+    }
+
+    private boolean isPartitioned() {
+        String database = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                connection.getMetaData().getDatabaseProductName());
+        return "PostgreSQL".equals(database) && Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                "select exists (select 1 from pg_partitioned_table where partrelid = to_regclass(?))",
+                Boolean.class, TABLE));
+    }
+
+    private SortedSet<YearMonth> partitionMonths() {
+        SortedSet<YearMonth> months = new TreeSet<>();
+        for (String name : jdbcTemplate.queryForList(
+                "select c.relname from pg_inherits i join pg_class c on c.oid = i.inhrelid where i.inhparent = to_regclass(?)",
+                String.class, TABLE)) {
+            Matcher matcher = PARTITION_NAME.matcher(name);
+            if (matcher.matches()) {
+                months.add(YearMonth.of(Integer.parseInt(matcher.group(1)), Integer.parseInt(matcher.group(2))));
+            }
+        }
+        return months;
+    }
+
+    private void createPartition(YearMonth month) {
+        jdbcTemplate.execute("create table if not exists %s partition of %s for values from ('%s') to ('%s')"
+                .formatted(partitionName(month), TABLE, month.atDay(1), month.plusMonths(1).atDay(1)));
+        log.info("Created partition {}", partitionName(month));
+    }
+
+    private boolean archivePartition(YearMonth month) {
+        String partition = partitionName(month);
+        LocalDateTime monthEnd = month.plusMonths(1).atDay(1).atStartOfDay();
+        boolean compacted = rollupWatermarkRepository.findById(StatusTransitionRollupServiceImpl.WATERMARK_NAME)
+                .map(watermark -> !watermark.getLastChangedAt().isBefore(monthEnd))
+                .orElse(false);
+        if (!compacted) {
+            log.warn("Keeping {} past retention: not all of its rows are in the rollups yet", partition);
+            return false;
+        }
+
+        Path file = archive.write(partition, month);
+        log.info("Archived {} to {}", partition, file);
+        return true;
+    }
+
+    private static String partitionName(YearMonth month) {
+        return "%s_p%04d_%02d".formatted(TABLE, month.getYear(), month.getMonthValue());
+    }
+}
@@ -1,18 +1,26 @@
 package com.example.taskmanageranalytics.service.impl;
 
+import com.example.taskmanageranalytics.dto.CursorPage;
+import com.example.taskmanageranalytics.dto.HistoryCursor;
+import com.example.taskmanageranalytics.dto.TaskStatusHistoryResponse;
 import com.example.taskmanageranalytics.entity.TaskStatusHistory;
+import com.example.taskmanageranalytics.exception.TaskStatusHistoryNotFoundException;
 import com.example.taskmanageranalytics.repository.TaskStatusHistoryRepository;
 import com.example.taskmanageranalytics.service.TaskStatusHistoryService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 @Service
 @RequiredArgsConstructor
 public class TaskStatusHistoryServiceImpl implements TaskStatusHistoryService {
 
+    static final int MAX_PAGE_SIZE = 500;
+
     private final TaskStatusHistoryRepository taskStatusHistoryRepository;
 
     @Override
@@ -31,18 +39,46 @@ public class TaskStatusHistoryServiceImpl implements TaskStatusHistoryService {
     @Transactional(readOnly = true)
     public TaskStatusHistory getTaskStatusHistoryById(long id) {
         return taskStatusHistoryRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Task status history not found with id: " + id));
+                .orElseThrow(() -> new TaskStatusHistoryNotFoundException(id));
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<TaskStatusHistory> getAllTaskStatusHistory() {
-        return taskStatusHistoryRepository.findAll();
+    public CursorPage<TaskStatusHistory, HistoryCursor> getHistory(Long taskId, HistoryCursor before, int limit) {
+        if (limit < 1) {
+            throw new IllegalArgumentException("Page limit must be positive: " + limit);
+        }
+        if (before != null && (before.getChangedAt() == null || before.getId() == null)) {
+            throw new IllegalArgumentException("History cursor needs both changedAt and id");
+        }
+        int pageSize = Math.min(limit, MAX_PAGE_SIZE);
+        Limit fetch = Limit.of(pageSize + 1);
+        List<TaskStatusHistory> history;
+        if (taskId == null) {
+            history = before == null
+                    ? taskStatusHistoryRepository.findByOrderByChangedAtDescIdDesc(fetch)
+                    : taskStatusHistoryRepository.findBefore(before.getChangedAt(), before.getId(), fetch);
+        } else {
+            history = before == null
+                    ? taskStatusHistoryRepository.findByTaskIdOrderByChangedAtDescIdDesc(taskId, fetch)
+                    : taskStatusHistoryRepository.findByTaskIdBefore(taskId, before.getChangedAt(), before.getId(), fetch);
+        }
+
+        if (history.size() <= pageSize) {
+            return new CursorPage<>(history, null);
+        }
+        List<TaskStatusHistory> page = history.subList(0, pageSize);
+        TaskStatusHistory last = page.get(pageSize - 1);
+        return new CursorPage<>(List.copyOf(page), new HistoryCursor(last.getChangedAt(), last.getId()));
     }
 
+    /**
+     * Rows go straight from the JDBC cursor to {@code consumer} without entities or a persistence
+     * context, so memory stays flat however much history is exported.
+     */
     @Override
     @Transactional(readOnly = true)
-    public List<TaskStatusHistory> getHistoryByTaskId(Long taskId) {
-        return taskStatusHistoryRepository.findByTaskIdOrderByChangedAtDesc(taskId);
+    public void exportHistory(Long taskId, Consumer<TaskStatusHistoryResponse> consumer) {
+        taskStatusHistoryRepository.streamHistory(taskId, consumer);
     }
 }
@@ -2,53 +2,61 @@ package com.example.taskmanageranalytics.service.impl;
 
 import com.example.taskmanageranalytics.dto.UserRequest;
 import com.example.taskmanageranalytics.dto.UserResponse;
+import com.example.taskmanageranalytics.dto.UserUpdateRequest;
 import com.example.taskmanageranalytics.entity.User;
+import com.example.taskmanageranalytics.entity.UserTaskCounters;
+import com.example.taskmanageranalytics.event.TaskDeletedEvent;
+import com.example.taskmanageranalytics.event.UserCreatedEvent;
+import com.example.taskmanageranalytics.event.UserDeletedEvent;
+import com.example.taskmanageranalytics.event.UserUpdatedEvent;
 import com.example.taskmanageranalytics.exception.UserAlreadyExistsException;
 import com.example.taskmanageranalytics.exception.UserNotFoundException;
+import com.example.taskmanageranalytics.readmodel.UserReadModel;
+import com.example.taskmanageranalytics.repository.TaskRepository;
 import com.example.taskmanageranalytics.repository.UserRepository;
+import com.example.taskmanageranalytics.repository.UserTaskCountersRepository;
+import com.example.taskmanageranalytics.security.PasswordHasher;
 import com.example.taskmanageranalytics.service.UserService;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionOperations;
 
 import java.util.List;
+import java.util.Locale;
 
 @Service
 @RequiredArgsConstructor
 public class UserServiceImpl implements UserService {
 
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final TaskRepository taskRepository;
+    private final UserTaskCountersRepository userTaskCountersRepository;
+    private final PasswordHasher passwordHasher;
+    private final UserReadModel userReadModel;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionOperations transactionOperations;
 
     @Override
-    @Transactional
     public UserResponse createUser(UserRequest userRequest) {
-        if (userRepository.existsByUsername(userRequest.getUsername())) {
-            throw new UserAlreadyExistsException("username", userRequest.getUsername());
-        }
-
-        if (userRepository.existsByEmail(userRequest.getEmail())) {
-            throw new UserAlreadyExistsException("email", userRequest.getEmail());
-        }
-
-        User user = User.builder()
-                .username(userRequest.getUsername())
-                .password(passwordEncoder.encode(userRequest.getPassword()))
-                .email(userRequest.getEmail())
-                .role(User.Role.USER)
-                .build();
-
-        User savedUser = userRepository.save(user);
-        return mapToUserResponse(savedUser);
+        String encodedPassword = passwordHasher.encode(userRequest.getPassword());
+        return transactionOperations.execute(status -> insertUser(userRequest, encodedPassword));
     }
 
     @Override
-    @Transactional(readOnly = true)
     public UserResponse getUserById(Long id) {
-        User user = userRepository.findById(id)
+        if (userReadModel.isLoaded()) {
+            return userReadModel.findById(id, userRepository::findUserResponseById)
+                    .orElseThrow(() -> new UserNotFoundException(id));
+        }
+        return userRepository.findUserResponseById(id)
                 .orElseThrow(() -> new UserNotFoundException(id));
-        return mapToUserResponse(user);
     }
 
     @Override
@@ -60,39 +68,25 @@ public class UserServiceImpl implements UserService {
     }
 
     @Override
-    @Transactional(readOnly = true)
     public List<UserResponse> getAllUsers() {
-        return userRepository.findAll().stream()
-                .map(this::mapToUserResponse)
-                .toList();
+        if (userReadModel.isLoaded()) {
+            return userReadModel.findAll();
+        }
+        return userRepository.findAllUserResponses(Sort.by("id"));
     }
 
     @Override
-    @Transactional
-    public UserResponse updateUser(Long id, UserRequest userRequest) {
-        User user = userRepository.findById(id)
-                .orElseThrow(() -> new UserNotFoundException(id));
-
-        if (!user.getUsername().equals(userRequest.getUsername())) {
-            if (userRepository.existsByUsername(userRequest.getUsername())) {
-                throw new UserAlreadyExistsException("username", userRequest.getUsername());
-            }
-            user.setUsername(userRequest.getUsername());
-        }
-
-        if (!user.getEmail().equals(userRequest.getEmail())) {
-            if (userRepository.existsByEmail(userRequest.getEmail())) {
-                throw new UserAlreadyExistsException("email", userRequest.getEmail());
-            }
-            user.setEmail(userRequest.getEmail());
-        }
-
-        if (userRequest.getPassword() != null && !userRequest.getPassword().isEmpty()) {
-            user.setPassword(passwordEncoder.encode(userRequest.getPassword()));
-        }
+    @Transactional(readOnly = true)
+    public Page<UserResponse> getUsers(Pageable pageable) {
+        return userRepository.findAllUserResponses(pageable);
+    }
 
-        User updatedUser = userRepository.save(user);
-        return mapToUserResponse(updatedUser);
+    @Override
+    public UserResponse updateUser(Long id, UserUpdateRequest userRequest) {
+        String encodedPassword = userRequest.getPassword() != null && !userRequest.getPassword().isEmpty()
+                ? passwordHasher.encode(userRequest.getPassword())
+                : null;
+        return transactionOperations.execute(status -> applyUpdate(id, userRequest, encodedPassword));
     }
 
     @Override
@@ -101,7 +95,13 @@ public class UserServiceImpl implements UserService {
         if (!userRepository.existsById(id)) {
             throw new UserNotFoundException(id);
         }
+        List<TaskDeletedEvent> cascadedTasks = taskRepository.findDeletedWithUser(id);
+        userTaskCountersRepository.releaseAssignmentsOfAuthor(id);
+        userTaskCountersRepository.releaseAuthorshipsOfAssignee(id);
+        userTaskCountersRepository.deleteById(id);
         userRepository.deleteById(id);
+        cascadedTasks.forEach(eventPublisher::publishEvent);
+        eventPublisher.publishEvent(new UserDeletedEvent(id));
     }
 
     @Override
@@ -111,14 +111,97 @@ public class UserServiceImpl implements UserService {
                 .orElseThrow(() -> new UserNotFoundException(id));
     }
 
+    private UserResponse insertUser(UserRequest userRequest, String encodedPassword) {
+        ensureUnique(userRequest.getUsername(), userRequest.getEmail(), null);
+
+        User user = User.builder()
+                .username(userRequest.getUsername())
+                .password(encodedPassword)
+                .email(userRequest.getEmail())
+                .role(User.Role.USER)
+                .build();
+
+        User savedUser = saveUnique(user);
+        UserTaskCounters counters = UserTaskCounters.builder()
+                .user(savedUser)
+                .build();
+        userTaskCountersRepository.save(counters);
+        eventPublisher.publishEvent(new UserCreatedEvent(savedUser.getId(), savedUser.getUsername(),
+                savedUser.getEmail(), savedUser.getRole()));
+        return mapToUserResponse(savedUser, counters);
+    }
+
+    private UserResponse applyUpdate(Long id, UserUpdateRequest userRequest, String encodedPassword) {
+        User user = userRepository.findById(id)
+                .orElseThrow(() -> new UserNotFoundException(id));
+
+        String newUsername = user.getUsername().equals(userRequest.getUsername()) ? null : userRequest.getUsername();
+        String newEmail = user.getEmail().equals(userRequest.getEmail()) ? null : userRequest.getEmail();
+        if (newUsername != null || newEmail != null) {
+            ensureUnique(newUsername, newEmail, id);
+        }
+
+        if (newUsername != null) {
+            user.setUsername(newUsername);
+        }
+        if (newEmail != null) {
+            user.setEmail(newEmail);
+        }
+        if (encodedPassword != null) {
+            user.setPassword(encodedPassword);
+        }
+
+        User updatedUser = saveUnique(user);
+        eventPublisher.publishEvent(new UserUpdatedEvent(updatedUser.getId(), updatedUser.getUsername(),
+                updatedUser.getEmail(), updatedUser.getRole()));
+        return mapToUserResponse(updatedUser);
+    }
+
+    private void ensureUnique(String username, String email, Long excludedId) {
+        List<String> conflicts = userRepository.findConflictingFields(username, email, excludedId);
+        if (conflicts.contains("username")) {
+            throw new UserAlreadyExistsException("username", username);
+        }
+        if (conflicts.contains("email")) {
+            throw new UserAlreadyExistsException("email", email);
+        }
+    }
+
+    /**
+     * The unique constraints decide races between concurrent signups or renames that both
+     * passed {@link #ensureUnique}.
+     */
+    private User saveUnique(User user) {
+        try {
+            return userRepository.saveAndFlush(user);
+        } catch (DataIntegrityViolationException e) {
+            String constraint = e.getCause() instanceof ConstraintViolationException violation
+                    ? violation.getConstraintName()
+                    : null;
+            if (constraint != null && constraint.toLowerCase(Locale.ROOT).contains(User.USERNAME_CONSTRAINT)) {
+                throw new UserAlreadyExistsException("username", user.getUsername());
+            }
+            if (constraint != null && constraint.toLowerCase(Locale.ROOT).contains(User.EMAIL_CONSTRAINT)) {
+                throw new UserAlreadyExistsException("email", user.getEmail());
+            }
+            throw e;
+        }
+    }
+
     private UserResponse mapToUserResponse(User user) {
+        UserTaskCounters counters = userTaskCountersRepository.findById(user.getId())
+                .orElseGet(UserTaskCounters::new);
+        return mapToUserResponse(user, counters);
+    }
+
+    private UserResponse mapToUserResponse(User user, UserTaskCounters counters) {
         return UserResponse.builder()
                 .id(user.getId())
                 .username(user.getUsername())
                 .email(user.getEmail())
                 .role(user.getRole())
-                .createdTasksCount(user.getCreatedTasks() != null ? user.getCreatedTasks().size() : 0)
-                .assignedTasksCount(user.getAssignedTasks() != null ? user.getAssignedTasks().size() : 0)
+                .createdTasksCount(counters.getCreatedTasksCount())
+                .assignedTasksCount(counters.getAssignedTasksCount())
                 .build();
     }
 }
\ No newline at end of file
@@ -0,0 +1,14 @@
+-- Every task has a status. TaskRepository.lockForTransition filters on status <> :newStatus,
+-- which skips null, and history rows require the old status. Tasks stored without one become
+-- TODO, and the status counts take them in.
+update task_status_counts
+set task_count = task_count + (select count(*) from task where status is null)
+where status = 'TODO';
+
+insert into task_status_counts (status, task_count)
+select 'TODO', count(*) from task where status is null
+having count(*) > 0 and not exists (select 1 from task_status_counts where status = 'TODO');
+
+update task set status = 'TODO' where status is null;
+
+alter table task alter column status set not null;
@@ -0,0 +1,85 @@
+-- Schema as previously generated by Hibernate from the entity mappings.
+
+create sequence users_seq start with 1 increment by 50;
+create sequence task_seq start with 1 increment by 50;
+create sequence task_status_history_seq start with 1 increment by 50;
+
+create table users (
+    id       bigint       not null,
+    username varchar(255) not null,
+    email    varchar(255) not null,
+    password varchar(255) not null,
+    role     varchar(255) not null check (role in ('USER', 'ADMIN')),
+    primary key (id),
+    constraint uk_users_username unique (username),
+    constraint uk_users_email unique (email)
+);
+
+create table task (
+    id           bigint       not null,
+    title        varchar(255) not null,
+    description  varchar(255),
+    status       varchar(255) check (status in ('TODO', 'IN_PROGRESS', 'DONE')),
+    created_at   timestamp(6),
+    updated_at   timestamp(6),
+    started_at   timestamp(6),
+    completed_at timestamp(6),
+    author_id    bigint       not null,
+    assignee_id  bigint,
+    version      bigint       not null default 0,
+    primary key (id),
+    constraint fk_task_author foreign key (author_id) references users (id),
+    constraint fk_task_assignee foreign key (assignee_id) references users (id)
+);
+
+create table task_status_history (
+    id                 bigint       not null,
+    task_id            bigint       not null,
+    old_status         varchar(255) not null check (old_status in ('TODO', 'IN_PROGRESS', 'DONE')),
+    new_status         varchar(255) not null check (new_status in ('TODO', 'IN_PROGRESS', 'DONE')),
+    changed_at         timestamp(6) not null,
+    changed_by_user_id bigint       not null,
+    primary key (id),
+    constraint fk_task_status_history_task foreign key (task_id) references task (id),
+    constraint fk_task_status_history_changed_by foreign key (changed_by_user_id) references users (id)
+);
+
+create table user_task_counters (
+    user_id              bigint  not null,
+    created_tasks_count  integer not null,
+    assigned_tasks_count integer not null,
+    primary key (user_id),
+    constraint fk_user_task_counters_user foreign key (user_id) references users (id)
+);
+
+create table task_status_counts (
+    status     varchar(255) not null check (status in ('TODO', 'IN_PROGRESS', 'DONE')),
+    task_count bigint       not null,
+    primary key (status)
+);
+
+create table task_daily_stats (
+    stat_date              date   not null,
+    user_id                bigint not null,
+    completed_count        bigint not null,
+    lead_time_seconds_sum  bigint not null,
+    cycle_time_seconds_sum bigint not null,
+    cycle_count            bigint not null,
+    primary key (stat_date, user_id)
+);
+
+create table status_transition_rollups (
+    granularity        varchar(255) not null check (granularity in ('MINUTE', 'HOUR', 'DAY')),
+    bucket_start       timestamp(6) not null,
+    old_status         varchar(255) not null check (old_status in ('TODO', 'IN_PROGRESS', 'DONE')),
+    new_status         varchar(255) not null check (new_status in ('TODO', 'IN_PROGRESS', 'DONE')),
+    changed_by_user_id bigint       not null,
+    transition_count   bigint       not null,
+    primary key (bucket_start, changed_by_user_id, granularity, new_status, old_status)
+);
+
+create table rollup_watermarks (
+    name            varchar(255) not null,
+    last_history_id bigint       not null,
+    primary key (name)
+);
@@ -0,0 +1,15 @@
+-- Foreign keys: task lookups by author/assignee, the counter reconciliation subqueries and
+-- user deletes all filter on these columns.
+create index ix_task_author_id on task (author_id);
+create index ix_task_assignee_id on task (assignee_id);
+create index ix_task_status_history_changed_by on task_status_history (changed_by_user_id);
+
+-- TaskStatusHistoryRepository.findByTaskIdOrderByChangedAtDesc; also covers the task_id foreign key.
+create index ix_task_status_history_task_changed_at on task_status_history (task_id, changed_at desc);
+
+-- Startup rebuild of the live metrics windows (streamCreatedAtSince, streamTransitionsSince).
+create index ix_task_created_at on task (created_at);
+create index ix_task_status_history_changed_at on task_status_history (changed_at);
+
+-- Per-user analytics ranges; the primary key leads with stat_date.
+create index ix_task_daily_stats_user_date on task_daily_stats (user_id, stat_date);
@@ -0,0 +1,7 @@
+-- Keyset pagination seeks on (changed_at, id); with id as the last key column the planner can
+-- start the scan at the cursor instead of filtering rows with equal timestamps.
+drop index ix_task_status_history_task_changed_at;
+create index ix_task_status_history_task_changed_at on task_status_history (task_id, changed_at desc, id desc);
+
+drop index ix_task_status_history_changed_at;
+create index ix_task_status_history_changed_at on task_status_history (changed_at, id);
@@ -0,0 +1,17 @@
+create sequence outbox_events_seq start with 1 increment by 50;
+
+create table outbox_events (
+    id               bigint        not null,
+    aggregate_type   varchar(32)   not null,
+    aggregate_id     bigint        not null,
+    event_type       varchar(64)   not null,
+    payload          varchar(4000) not null,
+    created_at       timestamp(6)  not null,
+    attempts         integer       not null,
+    available_at     timestamp(6)  not null,
+    dead_lettered_at timestamp(6),
+    primary key (id)
+);
+
+-- The relay only takes the oldest pending event of each aggregate; this serves that lookup.
+create index ix_outbox_events_aggregate on outbox_events (aggregate_type, aggregate_id, id);
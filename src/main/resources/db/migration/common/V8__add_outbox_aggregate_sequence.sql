@@ -0,0 +1,37 @@
+-- Ids come from a pooled sequence and do not follow commit order, so the relay orders each
+-- aggregate's events by a sequence number drawn under a row lock instead.
+create table outbox_aggregates (
+    aggregate_type varchar(32) not null,
+    aggregate_id   bigint      not null,
+    last_sequence  bigint      not null,
+    primary key (aggregate_type, aggregate_id)
+);
+
+alter table outbox_events add column aggregate_sequence bigint;
+
+update outbox_events o
+set aggregate_sequence = (select count(*) from outbox_events p
+                          where p.aggregate_type = o.aggregate_type and p.aggregate_id = o.aggregate_id
+                            and p.id <= o.id);
+
+alter table outbox_events alter column aggregate_sequence set not null;
+
+insert into outbox_aggregates (aggregate_type, aggregate_id, last_sequence)
+select aggregate_type, aggregate_id, max(aggregate_sequence)
+from outbox_events
+group by aggregate_type, aggregate_id;
+
+-- Existing tasks and users get a row up front, so their first event locks it rather than
+-- racing to insert it.
+insert into outbox_aggregates (aggregate_type, aggregate_id, last_sequence)
+select 'Task', t.id, 0 from task t
+where not exists (select 1 from outbox_aggregates a where a.aggregate_type = 'Task' and a.aggregate_id = t.id);
+
+insert into outbox_aggregates (aggregate_type, aggregate_id, last_sequence)
+select 'User', u.id, 0 from users u
+where not exists (select 1 from outbox_aggregates a where a.aggregate_type = 'User' and a.aggregate_id = u.id);
+
+drop index ix_outbox_events_aggregate;
+
+-- The relay only takes the lowest-numbered pending event of each aggregate; this serves that lookup.
+create index ix_outbox_events_aggregate on outbox_events (aggregate_type, aggregate_id, aggregate_sequence);
@@ -0,0 +1,15 @@
+-- Rollup compaction seeks on (changed_at, id) behind a grace period instead of on ids alone,
+-- which do not follow commit order; the old watermark becomes the equivalent cursor.
+alter table rollup_watermarks add column last_changed_at timestamp(6);
+
+update rollup_watermarks w
+set last_changed_at = coalesce((select max(h.changed_at) from task_status_history h where h.id <= w.last_history_id),
+                               timestamp '1970-01-01 00:00:00');
+
+alter table rollup_watermarks alter column last_changed_at set not null;
+
+-- Seeded here so that the first compactions of several instances lock the same row instead of
+-- racing to insert it.
+insert into rollup_watermarks (name, last_history_id, last_changed_at)
+select 'status_transition_rollups', 0, timestamp '1970-01-01 00:00:00'
+where not exists (select 1 from rollup_watermarks where name = 'status_transition_rollups');
@@ -0,0 +1,5 @@
+-- The typo-correction vocabulary is now filled by PostgresTaskSearchIndex in batches after
+-- commit. The row trigger ran an upsert per new word inside every task insert and update,
+-- bulk imports included.
+drop trigger task_search_words_collect on task;
+drop function task_search_words_collect();
@@ -0,0 +1,3 @@
+-- The relay walks pending events in id order; dead-lettered rows stay behind for inspection
+-- until purged and are kept out of the index it scans.
+create index ix_outbox_events_pending on outbox_events (id) where dead_lettered_at is null;
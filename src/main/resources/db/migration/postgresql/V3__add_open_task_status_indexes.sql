@@ -0,0 +1,4 @@
+-- Status-filtered task listings page by id. Finished tasks are the bulk of the table and are
+-- rarely listed by status, so only open statuses get an index, kept small by the predicate.
+create index ix_task_todo_id on task (id) where status = 'TODO';
+create index ix_task_in_progress_id on task (id) where status = 'IN_PROGRESS';
@@ -0,0 +1,45 @@
+-- Monthly range partitions on changed_at. The primary key has to include the partition key;
+-- ids still come from task_status_history_seq and stay unique. Later months are created by
+-- TaskStatusHistoryArchiveService, which also archives and drops expired ones.
+
+alter table task_status_history rename to task_status_history_unpartitioned;
+alter index task_status_history_pkey rename to task_status_history_unpartitioned_pkey;
+drop index ix_task_status_history_changed_by;
+drop index ix_task_status_history_task_changed_at;
+drop index ix_task_status_history_changed_at;
+
+create table task_status_history (
+    id                 bigint       not null,
+    task_id            bigint       not null,
+    old_status         varchar(255) not null check (old_status in ('TODO', 'IN_PROGRESS', 'DONE')),
+    new_status         varchar(255) not null check (new_status in ('TODO', 'IN_PROGRESS', 'DONE')),
+    changed_at         timestamp(6) not null,
+    changed_by_user_id bigint       not null,
+    primary key (id, changed_at),
+    constraint fk_task_status_history_task foreign key (task_id) references task (id),
+    constraint fk_task_status_history_changed_by foreign key (changed_by_user_id) references users (id)
+) partition by range (changed_at);
+
+create index ix_task_status_history_changed_by on task_status_history (changed_by_user_id);
+create index ix_task_status_history_task_changed_at on task_status_history (task_id, changed_at desc);
+create index ix_task_status_history_changed_at on task_status_history (changed_at);
+
+do $$
+declare
+    partition_month date := date_trunc('month',
+            coalesce((select min(changed_at) from task_status_history_unpartitioned), localtimestamp));
+    last_month      date := date_trunc('month', localtimestamp) + interval '3 months';
+begin
+    while partition_month <= last_month loop
+        execute format('create table %I partition of task_status_history for values from (%L) to (%L)',
+                       'task_status_history_p' || to_char(partition_month, 'YYYY_MM'),
+                       partition_month, partition_month + interval '1 month');
+        partition_month := partition_month + interval '1 month';
+    end loop;
+end $$;
+
+insert into task_status_history (id, task_id, old_status, new_status, changed_at, changed_by_user_id)
+select id, task_id, old_status, new_status, changed_at, changed_by_user_id
+from task_status_history_unpartitioned;
+
+drop table task_status_history_unpartitioned;
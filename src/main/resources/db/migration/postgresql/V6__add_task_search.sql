@@ -0,0 +1,35 @@
+-- Task search. The vector is a generated column, so PostgreSQL keeps it current on every insert
+-- and update of the title or description. The 'simple' configuration leaves words unstemmed,
+-- which is what prefix matching on partially typed words needs; title words weigh more.
+alter table task add column search_vector tsvector generated always as (
+    setweight(to_tsvector('simple', coalesce(title, '')), 'A')
+        || setweight(to_tsvector('simple', coalesce(description, '')), 'B')) stored;
+
+create index ix_task_search_vector on task using gin (search_vector);
+
+-- Every word that ever appeared in a task. Misspelled query words are corrected against this
+-- much smaller table with trigram similarity before the vector index is queried.
+create extension if not exists pg_trgm;
+
+create table task_search_words (
+    word varchar(255) primary key
+);
+
+create index ix_task_search_words_trgm on task_search_words using gin (word gin_trgm_ops);
+
+create function task_search_words_collect() returns trigger language plpgsql as $$
+begin
+    insert into task_search_words (word)
+    select lexeme from unnest(new.search_vector) where length(lexeme) <= 255
+    on conflict do nothing;
+    return null;
+end
+$$;
+
+create trigger task_search_words_collect
+    after insert or update of title, description on task
+    for each row execute function task_search_words_collect();
+
+insert into task_search_words (word)
+select word from ts_stat('select search_vector from task') where length(word) <= 255
+on conflict do nothing;
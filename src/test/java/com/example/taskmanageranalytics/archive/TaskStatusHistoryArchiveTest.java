@@ -0,0 +1,107 @@
+package com.example.taskmanageranalytics.archive;
+
+import com.example.taskmanageranalytics.dto.TaskStatusHistoryResponse;
+import com.example.taskmanageranalytics.entity.Task;
+import com.example.taskmanageranalytics.entity.TaskStatus;
+import com.example.taskmanageranalytics.entity.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@Import(TaskStatusHistoryArchive.class)
+class TaskStatusHistoryArchiveTest {
+
+    @TempDir
+    static Path archiveDirectory;
+
+    @DynamicPropertySource
+    static void archiveProperties(DynamicPropertyRegistry registry) {
+        registry.add("app.history.archive.directory", () -> archiveDirectory.toString());
+    }
+
+    @Autowired
+    private TaskStatusHistoryArchive archive;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Task task;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = entityManager.persist(User.builder()
+                .username("user")
+                .email("user@example.com")
+                .password("encodedPassword")
+                .build());
+        task = entityManager.persist(Task.builder().title("Task").author(user).build());
+        entityManager.flush();
+    }
+
+    @Test
+    void write_ShouldRoundTripRowsInChangedAtOrder() {
+        insertHistory(2L, TaskStatus.IN_PROGRESS, TaskStatus.DONE, LocalDateTime.of(2025, 1, 20, 9, 30, 0, 123_456_000));
+        insertHistory(1L, TaskStatus.TODO, TaskStatus.IN_PROGRESS, LocalDateTime.of(2025, 1, 10, 8, 0));
+
+        Path file = archive.write("task_status_history", YearMonth.of(2025, 1));
+
+        assertTrue(Files.exists(file));
+        assertEquals(List.of(YearMonth.of(2025, 1)), archive.archivedMonths());
+        List<TaskStatusHistoryResponse> rows = new ArrayList<>();
+        archive.read(LocalDateTime.of(2025, 1, 1, 0, 0), LocalDateTime.of(2025, 2, 1, 0, 0), rows::add);
+        assertEquals(List.of(1L, 2L), rows.stream().map(TaskStatusHistoryResponse::getId).toList());
+        TaskStatusHistoryResponse done = rows.get(1);
+        assertEquals(task.getId(), done.getTaskId());
+        assertEquals(TaskStatus.IN_PROGRESS, done.getOldStatus());
+        assertEquals(TaskStatus.DONE, done.getNewStatus());
+        assertEquals(LocalDateTime.of(2025, 1, 20, 9, 30, 0, 123_456_000), done.getChangedAt());
+        assertEquals(user.getId(), done.getChangedById());
+    }
+
+    @Test
+    void read_ShouldOnlyReturnRowsInsideRange() {
+        insertHistory(1L, TaskStatus.TODO, TaskStatus.IN_PROGRESS, LocalDateTime.of(2025, 3, 1, 0, 0));
+        insertHistory(2L, TaskStatus.IN_PROGRESS, TaskStatus.DONE, LocalDateTime.of(2025, 3, 15, 0, 0));
+        insertHistory(3L, TaskStatus.DONE, TaskStatus.TODO, LocalDateTime.of(2025, 3, 31, 23, 59));
+        archive.write("task_status_history", YearMonth.of(2025, 3));
+
+        List<Long> ids = new ArrayList<>();
+        archive.read(LocalDateTime.of(2025, 3, 1, 0, 0), LocalDateTime.of(2025, 3, 31, 0, 0),
+                row -> ids.add(row.getId()));
+        assertEquals(List.of(1L, 2L), ids);
+
+        ids.clear();
+        archive.read(LocalDateTime.of(2025, 4, 1, 0, 0), LocalDateTime.of(2025, 5, 1, 0, 0),
+                row -> ids.add(row.getId()));
+        assertEquals(List.of(), ids);
+    }
+
+    private void insertHistory(Long id, TaskStatus oldStatus, TaskStatus newStatus, LocalDateTime changedAt) {
+        jdbcTemplate.update("""
+                insert into task_status_history (id, task_id, old_status, new_status, changed_at, changed_by_user_id)
+                values (?, ?, ?, ?, ?, ?)""",
+                id, task.getId(), oldStatus.name(), newStatus.name(), changedAt, user.getId());
+    }
+}
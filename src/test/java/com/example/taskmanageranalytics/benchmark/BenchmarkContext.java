@@ -0,0 +1,139 @@
+package com.example.taskmanageranalytics.benchmark;
+
+import com.example.taskmanageranalytics.config.CacheConfig;
+import com.example.taskmanageranalytics.dto.BulkTaskItemResult;
+import com.example.taskmanageranalytics.dto.TaskRequest;
+import com.example.taskmanageranalytics.entity.Task;
+import com.example.taskmanageranalytics.entity.User;
+import com.example.taskmanageranalytics.entity.UserTaskCounters;
+import com.example.taskmanageranalytics.outbox.OutboxWriter;
+import com.example.taskmanageranalytics.readmodel.UserReadModel;
+import com.example.taskmanageranalytics.repository.TaskRepository;
+import com.example.taskmanageranalytics.repository.UserRepository;
+import com.example.taskmanageranalytics.repository.UserTaskCountersRepository;
+import com.example.taskmanageranalytics.security.PasswordHasher;
+import com.example.taskmanageranalytics.security.SecurityConfig;
+import com.example.taskmanageranalytics.service.TaskService;
+import com.example.taskmanageranalytics.service.UserService;
+import com.example.taskmanageranalytics.service.impl.TaskServiceImpl;
+import com.example.taskmanageranalytics.service.impl.UserServiceImpl;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.Banner;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.IntStream;
+
+/**
+ * Spring context shared by the JMH benchmarks: the user and task services with their
+ * repositories and caches on an in-memory H2 database seeded with users and tasks. The
+ * analytics listeners rely on PostgreSQL upserts and are left out.
+ */
+@State(Scope.Benchmark)
+public class BenchmarkContext {
+
+    @Param("1000")
+    public int users;
+
+    @Param("1000")
+    public int tasks;
+
+    ConfigurableApplicationContext context;
+    TaskService taskService;
+    UserService userService;
+    TaskRepository taskRepository;
+    UserRepository userRepository;
+    TransactionOperations transactionOperations;
+    Long authorId;
+    List<Long> userIds;
+    List<Long> taskIds;
+
+    @Setup(Level.Trial)
+    public void start() {
+        context = new SpringApplicationBuilder(BenchmarkApplication.class)
+                .web(WebApplicationType.NONE)
+                .bannerMode(Banner.Mode.OFF)
+                .run("--spring.datasource.url=jdbc:h2:mem:benchmark;DB_CLOSE_DELAY=-1",
+                        "--spring.datasource.driver-class-name=org.h2.Driver",
+                        "--spring.datasource.username=sa",
+                        "--spring.datasource.password=",
+                        "--spring.jpa.show-sql=false",
+                        "--logging.level.root=WARN");
+        taskService = context.getBean(TaskService.class);
+        userService = context.getBean(UserService.class);
+        taskRepository = context.getBean(TaskRepository.class);
+        userRepository = context.getBean(UserRepository.class);
+        transactionOperations = context.getBean(TransactionOperations.class);
+
+        seedUsers();
+        taskIds = taskService.saveTasks(IntStream.range(0, tasks)
+                        .mapToObj(i -> TaskRequest.builder()
+                                .title("Seeded task " + i)
+                                .description("Seeded for benchmarks")
+                                .authorId(authorId)
+                                .build())
+                        .toList())
+                .getItems().stream()
+                .map(BulkTaskItemResult::getTaskId)
+                .toList();
+        context.getBean(UserReadModel.class).reload();
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        context.close();
+    }
+
+    Long randomUserId() {
+        return userIds.get(ThreadLocalRandom.current().nextInt(userIds.size()));
+    }
+
+    Long randomTaskId() {
+        return taskIds.get(ThreadLocalRandom.current().nextInt(taskIds.size()));
+    }
+
+    User author() {
+        return userRepository.getReferenceById(authorId);
+    }
+
+    Task findTask(Long taskId) {
+        return taskRepository.findById(taskId).orElseThrow();
+    }
+
+    private void seedUsers() {
+        UserTaskCountersRepository countersRepository = context.getBean(UserTaskCountersRepository.class);
+        List<User> saved = transactionOperations.execute(status -> {
+            List<User> created = userRepository.saveAll(IntStream.range(0, users)
+                    .mapToObj(i -> User.builder()
+                            .username("seeded-" + i)
+                            .email("seeded-" + i + "@example.com")
+                            .password("encodedPassword")
+                            .build())
+                    .toList());
+            countersRepository.saveAll(created.stream()
+                    .map(user -> UserTaskCounters.builder().user(user).build())
+                    .toList());
+            return created;
+        });
+        userIds = saved.stream().map(User::getId).toList();
+        authorId = userIds.get(0);
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @EnableAutoConfiguration
+    @EntityScan(basePackageClasses = Task.class)
+    @EnableJpaRepositories(basePackageClasses = TaskRepository.class)
+    @Import({TaskServiceImpl.class, UserServiceImpl.class, UserReadModel.class, SecurityConfig.class,
+            PasswordHasher.class, CacheConfig.class, OutboxWriter.class})
+    static class BenchmarkApplication {
+    }
+}
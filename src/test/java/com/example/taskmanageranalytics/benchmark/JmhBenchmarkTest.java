@@ -0,0 +1,35 @@
+package com.example.taskmanageranalytics.benchmark;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Collection;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+/**
+ * Runs the JMH benchmarks in this package and writes the results as JSON so runs can be
+ * compared. Run with {@code mvn test -Pbenchmark -Dtest=JmhBenchmarkTest}; narrow the run with
+ * {@code -Dbenchmark.jmh.include=<regex>} and move the report with {@code -Dbenchmark.jmh.result}.
+ */
+@Tag("benchmark")
+class JmhBenchmarkTest {
+
+    @Test
+    void runBenchmarks() throws RunnerException {
+        Collection<RunResult> results = new Runner(new OptionsBuilder()
+                .include(System.getProperty("benchmark.jmh.include", getClass().getPackageName() + "\\..*Benchmark\\."))
+                .resultFormat(ResultFormatType.JSON)
+                .result(System.getProperty("benchmark.jmh.result", "target/jmh-result.json"))
+                .shouldFailOnError(true)
+                .build())
+                .run();
+
+        assertFalse(results.isEmpty());
+    }
+}
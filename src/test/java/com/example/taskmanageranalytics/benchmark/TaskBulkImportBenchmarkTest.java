@@ -0,0 +1,89 @@
+package com.example.taskmanageranalytics.benchmark;
+
+import com.example.taskmanageranalytics.dto.BulkTaskResult;
+import com.example.taskmanageranalytics.dto.TaskRequest;
+import com.example.taskmanageranalytics.entity.User;
+import com.example.taskmanageranalytics.entity.UserTaskCounters;
+import com.example.taskmanageranalytics.repository.UserRepository;
+import com.example.taskmanageranalytics.repository.UserTaskCountersRepository;
+import com.example.taskmanageranalytics.service.TaskService;
+import com.example.taskmanageranalytics.service.impl.TaskServiceImpl;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.validation.ValidationAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Compares calling {@link TaskService#saveTask(String, String, Long)} in a loop with a single
+ * {@link TaskService#saveTasks(List)} import. Run with {@code mvn test -Pbenchmark}; the number
+ * of tasks can be changed with {@code -Dbenchmark.tasks}.
+ */
+@Tag("benchmark")
+@DataJpaTest
+@Import(TaskServiceImpl.class)
+@ImportAutoConfiguration(ValidationAutoConfiguration.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class TaskBulkImportBenchmarkTest {
+
+    private static final int TASKS = Integer.getInteger("benchmark.tasks", 100_000);
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserTaskCountersRepository userTaskCountersRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void bulkImportVersusSaveTaskLoop() {
+        User author = new TransactionTemplate(transactionManager).execute(status -> {
+            User user = userRepository.save(User.builder()
+                    .username("benchmark")
+                    .email("benchmark@example.com")
+                    .password("encodedPassword")
+                    .build());
+            userTaskCountersRepository.save(UserTaskCounters.builder().user(user).build());
+            return user;
+        });
+
+        assertNotNull(author);
+        long loopStart = System.nanoTime();
+        for (int i = 0; i < TASKS; i++) {
+            taskService.saveTask("Looped task " + i, "Imported one by one", author.getId());
+        }
+        double loopSeconds = (System.nanoTime() - loopStart) / 1_000_000_000.0;
+
+        List<TaskRequest> requests = IntStream.range(0, TASKS)
+                .mapToObj(i -> TaskRequest.builder()
+                        .title("Bulk task " + i)
+                        .description("Imported in bulk")
+                        .authorId(author.getId())
+                        .build())
+                .toList();
+        long bulkStart = System.nanoTime();
+        BulkTaskResult result = taskService.saveTasks(requests);
+        double bulkSeconds = (System.nanoTime() - bulkStart) / 1_000_000_000.0;
+
+        System.out.printf("Imported %d tasks: saveTask loop -> %.0f tasks/sec, saveTasks -> %.0f tasks/sec (x%.1f)%n",
+                TASKS, TASKS / loopSeconds, TASKS / bulkSeconds, loopSeconds / bulkSeconds);
+        assertTrue(result.getItems().stream().allMatch(item -> item.getTaskId() != null));
+        assertEquals(2 * TASKS, userTaskCountersRepository.findById(author.getId()).orElseThrow().getCreatedTasksCount());
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.taskmanageranalytics.benchmark;
+
+import com.example.taskmanageranalytics.entity.Task;
+import com.example.taskmanageranalytics.entity.TaskStatus;
+import com.example.taskmanageranalytics.entity.User;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Objects;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Inserts tasks together with one status history row each and reports rows/sec with JDBC
+ * batching disabled (one round-trip per row, as with IDENTITY keys) and with the configured
+ * batch size on top of pooled sequence ids. Run with {@code mvn test -Pbenchmark}; the number
+ * of tasks can be changed with {@code -Dbenchmark.tasks}.
+ */
+@Tag("benchmark")
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class TaskInsertBenchmarkTest {
+
+    private static final int TASKS = Integer.getInteger("benchmark.tasks", 100_000);
+    private static final int CHUNK_SIZE = 1_000;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size}")
+    private int batchSize;
+
+    @Test
+    void insertTasksWithHistory() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        Long authorId = Objects.requireNonNull(transactionTemplate.execute(status -> {
+            User author = User.builder()
+                    .username("benchmark")
+                    .email("benchmark@example.com")
+                    .password("encodedPassword")
+                    .build();
+            entityManager.persist(author);
+            return author.getId();
+        }));
+
+        double unbatched = insertRowsPerSecond(transactionTemplate, authorId, 1);
+        double batched = insertRowsPerSecond(transactionTemplate, authorId, batchSize);
+
+        System.out.printf("Inserted %d tasks with history: batch size 1 -> %.0f rows/sec, batch size %d -> %.0f rows/sec (x%.1f)%n",
+                TASKS, unbatched, batchSize, batched, batched / unbatched);
+        assertTrue(batched > 0 && unbatched > 0);
+    }
+
+    private double insertRowsPerSecond(TransactionTemplate transactionTemplate, Long authorId, int jdbcBatchSize) {
+        long start = System.nanoTime();
+        for (int offset = 0; offset < TASKS; offset += CHUNK_SIZE) {
+            int chunkSize = Math.min(CHUNK_SIZE, TASKS - offset);
+            transactionTemplate.executeWithoutResult(status -> {
+                entityManager.unwrap(Session.class).setJdbcBatchSize(jdbcBatchSize);
+                User author = entityManager.getReference(User.class, authorId);
+                for (int i = 0; i < chunkSize; i++) {
+                    Task task = Task.builder()
+                            .title("Benchmark task")
+                            .author(author)
+                            .build();
+                    entityManager.persist(task);
+                    task.changeStatus(TaskStatus.IN_PROGRESS, author);
+                }
+                entityManager.flush();
+                entityManager.clear();
+            });
+        }
+        double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+        return TASKS * 2 / seconds;
+    }
+}
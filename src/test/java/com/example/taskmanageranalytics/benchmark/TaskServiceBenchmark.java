@@ -0,0 +1,31 @@
+package com.example.taskmanageranalytics.benchmark;
+
+import com.example.taskmanageranalytics.entity.Task;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TaskServiceBenchmark {
+
+    @Benchmark
+    public Task saveTask(BenchmarkContext context) {
+        return context.taskService.saveTask("Benchmark task", "Created by saveTask", context.authorId);
+    }
+
+    @Benchmark
+    public Task getTask(BenchmarkContext context) {
+        return context.taskService.getTask(context.randomTaskId());
+    }
+
+    @Benchmark
+    @SuppressWarnings("deprecation")
+    public List<Task> getAllTasks(BenchmarkContext context) {
+        return context.taskService.getAllTasks();
+    }
+}
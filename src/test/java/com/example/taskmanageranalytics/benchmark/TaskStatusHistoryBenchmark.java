@@ -0,0 +1,42 @@
+package com.example.taskmanageranalytics.benchmark;
+
+import com.example.taskmanageranalytics.entity.Task;
+import com.example.taskmanageranalytics.entity.TaskStatus;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Appends status history through {@link Task#changeStatus} and through
+ * {@link com.example.taskmanageranalytics.service.TaskService#changeStatus}, cycling seeded tasks
+ * through every status so their history keeps growing for the length of the run.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TaskStatusHistoryBenchmark {
+
+    private static final TaskStatus[] STATUSES = TaskStatus.values();
+
+    @Benchmark
+    public TaskStatus changeStatus(BenchmarkContext context) {
+        Long taskId = context.randomTaskId();
+        return context.transactionOperations.execute(status -> {
+            Task task = context.findTask(taskId);
+            TaskStatus next = STATUSES[(task.getStatus().ordinal() + 1) % STATUSES.length];
+            task.changeStatus(next, context.author());
+            context.taskRepository.save(task);
+            return next;
+        });
+    }
+
+    @Benchmark
+    public TaskStatus changeStatusThroughService(BenchmarkContext context) {
+        Long taskId = context.randomTaskId();
+        TaskStatus next = STATUSES[(context.findTask(taskId).getStatus().ordinal() + 1) % STATUSES.length];
+        context.taskService.changeStatus(taskId, next, context.authorId);
+        return next;
+    }
+}
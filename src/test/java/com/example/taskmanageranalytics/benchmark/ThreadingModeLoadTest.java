@@ -0,0 +1,107 @@
+package com.example.taskmanageranalytics.benchmark;
+
+import com.example.taskmanageranalytics.dto.TaskFilter;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Drives a mix of user and task reads and writes through the service layer from many
+ * concurrent clients, on a fixed platform-thread pool sized like Tomcat's default, with a
+ * virtual thread per client, and with virtual threads behind the same kind of admission limit
+ * as {@code InFlightRequestLimitFilter}. Reports throughput, latency percentiles and failed
+ * calls. Run with {@code mvn test -Pbenchmark -Dtest=ThreadingModeLoadTest};
+ * {@code -Dbenchmark.clients} and {@code -Dbenchmark.requests} change the load.
+ */
+@Tag("benchmark")
+class ThreadingModeLoadTest {
+
+    private static final int CLIENTS = Integer.getInteger("benchmark.clients", 1_000);
+    private static final int REQUESTS_PER_CLIENT = Integer.getInteger("benchmark.requests", 20);
+    private static final int PLATFORM_THREADS = 200;
+    private static final int MAX_IN_FLIGHT = Integer.getInteger("benchmark.max-in-flight", 40);
+
+    private static BenchmarkContext context;
+
+    @BeforeAll
+    static void start() {
+        context = new BenchmarkContext();
+        context.users = 1_000;
+        context.tasks = 5_000;
+        context.start();
+    }
+
+    @AfterAll
+    static void stop() {
+        context.stop();
+    }
+
+    @Test
+    void platformVersusVirtualThreads() throws InterruptedException {
+        run("platform threads", Executors.newFixedThreadPool(PLATFORM_THREADS), null);
+        run("virtual threads", Executors.newVirtualThreadPerTaskExecutor(), null);
+        run("virtual threads with admission limit", Executors.newVirtualThreadPerTaskExecutor(),
+                new Semaphore(MAX_IN_FLIGHT, true));
+    }
+
+    private void run(String label, ExecutorService executor, Semaphore admission) throws InterruptedException {
+        int total = CLIENTS * REQUESTS_PER_CLIENT;
+        long[] latencies = new long[total];
+        AtomicInteger next = new AtomicInteger();
+        AtomicInteger failures = new AtomicInteger();
+
+        long start = System.nanoTime();
+        for (int client = 0; client < CLIENTS; client++) {
+            executor.execute(() -> {
+                for (int i = 0; i < REQUESTS_PER_CLIENT; i++) {
+                    long requestStart = System.nanoTime();
+                    try {
+                        if (admission != null) {
+                            admission.acquireUninterruptibly();
+                        }
+                        request();
+                    } catch (RuntimeException e) {
+                        failures.incrementAndGet();
+                    } finally {
+                        if (admission != null) {
+                            admission.release();
+                        }
+                    }
+                    latencies[next.getAndIncrement()] = System.nanoTime() - requestStart;
+                }
+            });
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.MINUTES));
+        double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+        Arrays.sort(latencies);
+        System.out.printf("%s: %.0f requests/sec, p50 %.1f ms, p99 %.1f ms, %d failed of %d%n",
+                label, total / seconds, percentile(latencies, 0.50), percentile(latencies, 0.99),
+                failures.get(), total);
+    }
+
+    private static void request() {
+        int kind = ThreadLocalRandom.current().nextInt(10);
+        if (kind < 3) {
+            context.userService.getUserById(context.randomUserId());
+        } else if (kind < 6) {
+            context.taskService.getTask(context.randomTaskId());
+        } else if (kind < 8) {
+            context.taskService.getTasks(TaskFilter.builder().authorId(context.randomUserId()).build(), null, 20);
+        } else {
+            context.taskService.saveTask("Load test task", "Created under load", context.randomUserId());
+        }
+    }
+
+    private static double percentile(long[] sortedNanos, double percentile) {
+        return sortedNanos[(int) Math.min(sortedNanos.length - 1, sortedNanos.length * percentile)] / 1_000_000.0;
+    }
+}
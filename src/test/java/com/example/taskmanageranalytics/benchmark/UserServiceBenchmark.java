@@ -0,0 +1,34 @@
+package com.example.taskmanageranalytics.benchmark;
+
+import com.example.taskmanageranalytics.dto.UserRequest;
+import com.example.taskmanageranalytics.dto.UserResponse;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UserServiceBenchmark {
+
+    private static final AtomicLong SEQUENCE = new AtomicLong();
+
+    @Benchmark
+    public UserResponse createUser(BenchmarkContext context) {
+        long n = SEQUENCE.incrementAndGet();
+        UserRequest request = new UserRequest();
+        request.setUsername("benchmark-" + n);
+        request.setEmail("benchmark-" + n + "@example.com");
+        request.setPassword("benchmarkPassword");
+        return context.userService.createUser(request);
+    }
+
+    @Benchmark
+    public List<UserResponse> getAllUsers(BenchmarkContext context) {
+        return context.userService.getAllUsers();
+    }
+}
@@ -0,0 +1,113 @@
+package com.example.taskmanageranalytics.benchmark;
+
+import com.example.taskmanageranalytics.dto.UserRequest;
+import com.example.taskmanageranalytics.readmodel.UserReadModel;
+import com.example.taskmanageranalytics.security.PasswordHasher;
+import com.example.taskmanageranalytics.security.SecurityConfig;
+import com.example.taskmanageranalytics.service.UserService;
+import com.example.taskmanageranalytics.service.impl.UserServiceImpl;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Registers users from many threads against a small connection pool and reports signups/sec
+ * together with pool occupancy, once with hashing inside the surrounding transaction (how
+ * createUser used to behave) and once with hashing before it. Run with
+ * {@code mvn test -Pbenchmark}; {@code -Dbenchmark.signups} and {@code -Dbenchmark.threads}
+ * change the load.
+ */
+@Tag("benchmark")
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:signups;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.hikari.maximum-pool-size=4",
+        "spring.jpa.show-sql=false"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({UserServiceImpl.class, UserReadModel.class, SecurityConfig.class, PasswordHasher.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class UserSignupBenchmarkTest {
+
+    private static final int SIGNUPS = Integer.getInteger("benchmark.signups", 200);
+    private static final int THREADS = Integer.getInteger("benchmark.threads", 32);
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void concurrentSignups() throws InterruptedException {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        run("hash inside transaction", request ->
+                transactionTemplate.executeWithoutResult(status -> userService.createUser(request)));
+        run("hash before transaction", userService::createUser);
+    }
+
+    private void run(String label, Consumer<UserRequest> signup) throws InterruptedException {
+        HikariPoolMXBean pool = ((HikariDataSource) dataSource).getHikariPoolMXBean();
+        AtomicBoolean sampling = new AtomicBoolean(true);
+        long[] samples = new long[3];
+        Thread sampler = new Thread(() -> {
+            while (sampling.get()) {
+                samples[0]++;
+                samples[1] += pool.getActiveConnections();
+                samples[2] = Math.max(samples[2], pool.getThreadsAwaitingConnection());
+                LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(1));
+            }
+        });
+        AtomicInteger failures = new AtomicInteger();
+        ExecutorService clients = Executors.newFixedThreadPool(THREADS);
+
+        sampler.start();
+        long start = System.nanoTime();
+        for (int i = 0; i < SIGNUPS; i++) {
+            UserRequest request = new UserRequest();
+            request.setUsername(label.replace(' ', '-') + "-" + i);
+            request.setEmail(label.replace(' ', '-') + "-" + i + "@example.com");
+            request.setPassword("benchmarkPassword");
+            clients.execute(() -> {
+                try {
+                    signup.accept(request);
+                } catch (RuntimeException e) {
+                    failures.incrementAndGet();
+                }
+            });
+        }
+        clients.shutdown();
+        assertTrue(clients.awaitTermination(10, TimeUnit.MINUTES));
+        double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+        sampling.set(false);
+        sampler.join();
+
+        System.out.printf("%s: %.1f signups/sec, %.2f of %d connections busy on average, up to %d threads waiting%n",
+                label, SIGNUPS / seconds, (double) samples[1] / samples[0], pool.getTotalConnections(), samples[2]);
+        assertEquals(0, failures.get());
+    }
+}
@@ -0,0 +1,166 @@
+package com.example.taskmanageranalytics.config;
+
+import com.example.taskmanageranalytics.dto.TaskFilter;
+import com.example.taskmanageranalytics.entity.RollupGranularity;
+import com.example.taskmanageranalytics.entity.TaskStatus;
+import com.example.taskmanageranalytics.repository.OutboxEventRepository;
+import com.example.taskmanageranalytics.repository.StatusTransitionRollupRepository;
+import com.example.taskmanageranalytics.repository.TaskDailyStatsRepository;
+import com.example.taskmanageranalytics.repository.TaskRepository;
+import com.example.taskmanageranalytics.repository.TaskSpecifications;
+import com.example.taskmanageranalytics.repository.TaskStatusHistoryRepository;
+import com.example.taskmanageranalytics.repository.UserTaskCountersRepository;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs the repository method behind each {@link QueryPlanCheck} entry and compares the SQL
+ * Hibernate generated with the entry. Select lists, literals, parameters and aliases are ignored;
+ * the tables, columns, keywords and operators from the {@code from} clause on have to match in
+ * order, since those are what decide the plan. The search index entries are PostgreSQL-only
+ * statements and are not covered.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.example.taskmanageranalytics.config.QueryPlanCheckQueriesTest$RecordingInspector")
+class QueryPlanCheckQueriesTest {
+
+    private static final Pattern TOKEN = Pattern.compile("[a-z_][a-z0-9_]*|<=|>=|<>|[<>=]");
+
+    private static final Set<String> KEYWORDS = Set.of("select", "from", "where", "and", "or", "not", "exists",
+            "in", "between", "is", "null", "order", "group", "by", "desc", "for", "update", "skip", "locked", "set");
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskStatusHistoryRepository taskStatusHistoryRepository;
+
+    @Autowired
+    private UserTaskCountersRepository userTaskCountersRepository;
+
+    @Autowired
+    private TaskDailyStatsRepository taskDailyStatsRepository;
+
+    @Autowired
+    private StatusTransitionRollupRepository statusTransitionRollupRepository;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        RecordingInspector.STATEMENTS.clear();
+    }
+
+    static Stream<String> repositoryQueries() {
+        return QueryPlanCheck.QUERIES.keySet().stream().filter(name -> !name.startsWith("PostgresTaskSearchIndex"));
+    }
+
+    @ParameterizedTest
+    @MethodSource("repositoryQueries")
+    void entry_ShouldMatchTheRepositoryQuery(String name) {
+        invoke(name);
+
+        assertEquals(1, RecordingInspector.STATEMENTS.size(), () -> name + " ran " + RecordingInspector.STATEMENTS);
+        Set<String> identifiers = schemaIdentifiers();
+        assertEquals(shape(RecordingInspector.STATEMENTS.get(0), identifiers),
+                shape(QueryPlanCheck.QUERIES.get(name), identifiers), name);
+    }
+
+    private void invoke(String name) {
+        LocalDateTime now = LocalDateTime.now();
+        switch (name) {
+            case "TaskStatusHistoryRepository.findByTaskIdBefore" ->
+                    taskStatusHistoryRepository.findByTaskIdBefore(1L, now, 1000L, Limit.of(51));
+            case "TaskStatusHistoryRepository.findBefore" ->
+                    taskStatusHistoryRepository.findBefore(now, 1000L, Limit.of(51));
+            case "TaskStatusHistoryRepository.streamTransitionsSince" ->
+                    taskStatusHistoryRepository.streamTransitionsSince(now).close();
+            case "TaskStatusHistoryRepository.findTransitionsAfter" ->
+                    taskStatusHistoryRepository.findTransitionsAfter(now, 1000L, now, Limit.of(5000));
+            case "TaskRepository.streamCreatedAtSince" -> taskRepository.streamCreatedAtSince(now).close();
+            case "TaskService.getTasks by author" -> findTasksPage(TaskFilter.builder().authorId(1L).build());
+            case "TaskService.getTasks by assignee" -> findTasksPage(TaskFilter.builder().assigneeId(1L).build());
+            case "TaskService.getTasks by open status" ->
+                    findTasksPage(TaskFilter.builder().status(TaskStatus.IN_PROGRESS).build());
+            case "TaskRepository.lockForTransition" -> taskRepository.lockForTransition(List.of(1L, 2L, 3L), TaskStatus.DONE);
+            case "UserTaskCountersRepository.releaseAssignmentsOfAuthor" ->
+                    userTaskCountersRepository.releaseAssignmentsOfAuthor(1L);
+            case "UserTaskCountersRepository.releaseAuthorshipsOfAssignee" ->
+                    userTaskCountersRepository.releaseAuthorshipsOfAssignee(1L);
+            case "TaskDailyStatsRepository.findByIdUserIdAndIdStatDateBetweenOrderByIdStatDate" ->
+                    taskDailyStatsRepository.findByIdUserIdAndIdStatDateBetweenOrderByIdStatDate(
+                            1L, LocalDate.now().minusDays(30), LocalDate.now());
+            case "StatusTransitionRollupRepository.sumTransitions" ->
+                    statusTransitionRollupRepository.sumTransitions(RollupGranularity.HOUR, now.minusDays(1), now);
+            case "OutboxEventRepository.lockNextBatch" -> outboxEventRepository.lockNextBatch(now, 200);
+            default -> fail("No repository call for " + name);
+        }
+    }
+
+    private void findTasksPage(TaskFilter filter) {
+        taskRepository.findBy(TaskSpecifications.matching(filter).and(TaskSpecifications.idGreaterThan(0L)),
+                query -> query.sortBy(Sort.by("id")).limit(51).all());
+    }
+
+    private Set<String> schemaIdentifiers() {
+        Set<String> identifiers = new HashSet<>();
+        jdbcTemplate.query("select table_name, column_name from information_schema.columns where table_schema = 'PUBLIC'",
+                row -> {
+                    identifiers.add(row.getString(1).toLowerCase());
+                    identifiers.add(row.getString(2).toLowerCase());
+                });
+        return identifiers;
+    }
+
+    private static List<String> shape(String sql, Set<String> identifiers) {
+        String normalized = sql.toLowerCase()
+                .replaceAll("'[^']*'", "")
+                .replaceAll("\\b[a-z_][a-z0-9_]*\\.", "");
+        List<String> tokens = new ArrayList<>();
+        Matcher matcher = TOKEN.matcher(normalized);
+        while (matcher.find()) {
+            String token = matcher.group();
+            if (identifiers.contains(token) || KEYWORDS.contains(token) || !Character.isLetter(token.charAt(0))) {
+                tokens.add(token);
+            }
+        }
+        if (!tokens.isEmpty() && tokens.get(0).equals("select")) {
+            return tokens.subList(tokens.indexOf("from"), tokens.size());
+        }
+        return tokens;
+    }
+
+    public static class RecordingInspector implements StatementInspector {
+        static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+}
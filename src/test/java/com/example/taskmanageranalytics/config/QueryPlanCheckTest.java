@@ -0,0 +1,90 @@
+package com.example.taskmanageranalytics.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.springframework.boot.DefaultApplicationArguments;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class QueryPlanCheckTest {
+
+    private static final String INDEX_PLAN = """
+            [{"Plan": {"Node Type": "Limit", "Plans": [
+                {"Node Type": "Index Scan", "Relation Name": "task", "Index Name": "task_pkey"}]}}]""";
+
+    private static final String SEQ_SCAN_PLAN = """
+            [{"Plan": {"Node Type": "Sort", "Plans": [
+                {"Node Type": "Seq Scan", "Relation Name": "task_status_history"}]}}]""";
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+
+    private final QueryPlanCheck check = new QueryPlanCheck(jdbcTemplate, new ObjectMapper(), 50_000);
+
+    @BeforeEach
+    void setUp() {
+        when(jdbcTemplate.execute(ArgumentMatchers.<ConnectionCallback<String>>any())).thenReturn("PostgreSQL");
+        when(jdbcTemplate.queryForObject(startsWith("explain"), eq(String.class))).thenReturn(INDEX_PLAN);
+    }
+
+    @Test
+    void sequentiallyScannedTables_ShouldFindNestedSeqScans() throws Exception {
+        assertEquals(List.of("task_status_history"),
+                QueryPlanCheck.sequentiallyScannedTables(new ObjectMapper().readTree(SEQ_SCAN_PLAN)));
+        assertEquals(List.of(), QueryPlanCheck.sequentiallyScannedTables(new ObjectMapper().readTree(INDEX_PLAN)));
+    }
+
+    @Test
+    void run_ShouldPass_WhenPlansUseIndexes() {
+        assertDoesNotThrow(() -> check.run(new DefaultApplicationArguments()));
+    }
+
+    @Test
+    void run_ShouldFail_WhenLargeTableIsScanned() {
+        when(jdbcTemplate.queryForObject(contains("where task_id = 1"), eq(String.class))).thenReturn(SEQ_SCAN_PLAN);
+        when(jdbcTemplate.queryForObject(startsWith("select coalesce"), eq(Long.class), eq("task_status_history")))
+                .thenReturn(2_000_000L);
+
+        IllegalStateException failure = assertThrows(IllegalStateException.class,
+                () -> check.run(new DefaultApplicationArguments()));
+        assertTrue(failure.getMessage().contains("findByTaskIdBefore scans task_status_history"));
+    }
+
+    @Test
+    void run_ShouldIgnoreScansOfSmallTables() {
+        when(jdbcTemplate.queryForObject(contains("where task_id = 1"), eq(String.class))).thenReturn(SEQ_SCAN_PLAN);
+        when(jdbcTemplate.queryForObject(startsWith("select coalesce"), eq(Long.class), eq("task_status_history")))
+                .thenReturn(1_000L);
+
+        assertDoesNotThrow(() -> check.run(new DefaultApplicationArguments()));
+    }
+
+    @Test
+    void run_ShouldOnlyExplainTheStatements() throws Exception {
+        check.run(new DefaultApplicationArguments());
+
+        verify(jdbcTemplate, times(QueryPlanCheck.QUERIES.size()))
+                .queryForObject(startsWith("explain (format json) "), eq(String.class));
+        verify(jdbcTemplate, times(2)).queryForObject(
+                argThat((String sql) -> sql.startsWith("explain (format json) update user_task_counters")),
+                eq(String.class));
+        verify(jdbcTemplate, never()).update(anyString());
+        verify(jdbcTemplate, never()).execute(anyString());
+    }
+
+    @Test
+    void run_ShouldSkipOtherDatabases() throws Exception {
+        when(jdbcTemplate.execute(ArgumentMatchers.<ConnectionCallback<String>>any())).thenReturn("H2");
+
+        check.run(new DefaultApplicationArguments());
+
+        verify(jdbcTemplate, never()).queryForObject(anyString(), eq(String.class));
+    }
+}
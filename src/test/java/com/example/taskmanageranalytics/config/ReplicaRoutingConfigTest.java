@@ -0,0 +1,87 @@
+package com.example.taskmanageranalytics.config;
+
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.transaction.TransactionManagerCustomizationAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Routes through the application's wiring: Hibernate's connections come from the lazy proxy
+ * under the JPA transaction manager, and the tracker is registered by Spring Boot's transaction
+ * manager customizer. The databases are told apart by their JDBC URL.
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.url=jdbc:h2:mem:routing-primary;DB_CLOSE_DELAY=-1",
+        "app.datasource.replicas.urls=jdbc:h2:mem:routing-replica;DB_CLOSE_DELAY=-1",
+        "app.datasource.replicas.lag-query=select 0",
+        "app.datasource.replicas.read-your-writes-window=PT1M"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(ReplicaRoutingConfig.class)
+@ImportAutoConfiguration(TransactionManagerCustomizationAutoConfiguration.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ReplicaRoutingConfigTest {
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void jpaTransactions_ShouldReadFromReplicaAndWriteToPrimary() {
+        assertTrue(readUrl().contains("routing-replica"));
+        assertTrue(writeUrl().contains("routing-primary"));
+    }
+
+    @Test
+    void jpaTransactions_ShouldReadFromPrimaryAfterTheUsersCommit() {
+        signIn("alice");
+        writeUrl();
+        assertTrue(readUrl().contains("routing-primary"));
+
+        signIn("bob");
+        assertTrue(readUrl().contains("routing-replica"));
+    }
+
+    private String readUrl() {
+        TransactionTemplate reads = new TransactionTemplate(transactionManager);
+        reads.setReadOnly(true);
+        return reads.execute(status -> currentUrl());
+    }
+
+    private String writeUrl() {
+        return new TransactionTemplate(transactionManager).execute(status -> currentUrl());
+    }
+
+    private String currentUrl() {
+        return entityManager.unwrap(Session.class).doReturningWork(connection -> connection.getMetaData().getURL());
+    }
+
+    private static void signIn(String username) {
+        SecurityContextHolder.getContext().setAuthentication(
+                UsernamePasswordAuthenticationToken.authenticated(username, null, List.of()));
+    }
+}
@@ -0,0 +1,157 @@
+package com.example.taskmanageranalytics.config;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Connection;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Uses separate in-memory H2 databases as primary and replicas; each holds its own name, so a
+ * query shows where a transaction was routed. Lag is read from a table the test updates.
+ */
+class ReplicaRoutingDataSourceTest {
+
+    private static final String LAG_QUERY = "select seconds from replica_lag";
+
+    private final List<HikariDataSource> pools = new ArrayList<>();
+    private HikariDataSource primary;
+    private ReplicaRoutingDataSource routing;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate writes;
+    private TransactionTemplate reads;
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        pools.forEach(HikariDataSource::close);
+    }
+
+    @Test
+    void readOnlyTransactions_ShouldRoundRobinOverReplicasAndWritesUsePrimary() {
+        setUp(ReplicaRoutingDataSource.Balancing.ROUND_ROBIN, Duration.ZERO, "replica-1", "replica-2");
+
+        assertEquals(List.of("replica-1", "replica-2", "replica-1"), List.of(readName(), readName(), readName()));
+        assertEquals("primary", writes.execute(status -> currentName()));
+    }
+
+    @Test
+    void readOnlyTransactions_ShouldFallBackToPrimaryWhenReplicasLag() {
+        setUp(ReplicaRoutingDataSource.Balancing.ROUND_ROBIN, Duration.ZERO, "replica-1", "replica-2");
+        setLag(pools.get(1), 30);
+        routing.checkLag();
+
+        assertEquals(List.of("replica-2", "replica-2"), List.of(readName(), readName()));
+
+        setLag(pools.get(2), 30);
+        routing.checkLag();
+        assertEquals("primary", readName());
+
+        setLag(pools.get(1), 0);
+        routing.checkLag();
+        assertEquals("replica-1", readName());
+    }
+
+    @Test
+    void readOnlyTransactions_ShouldPreferReplicaWithFewestActiveConnections() throws Exception {
+        setUp(ReplicaRoutingDataSource.Balancing.LEAST_CONNECTIONS, Duration.ZERO, "replica-1", "replica-2");
+
+        try (Connection held = pools.get(1).getConnection()) {
+            assertEquals(List.of("replica-2", "replica-2"), List.of(readName(), readName()));
+        }
+    }
+
+    @Test
+    void readOnlyTransactions_ShouldStayOnPrimaryAfterTheCallersWrite() {
+        setUp(ReplicaRoutingDataSource.Balancing.ROUND_ROBIN, Duration.ofMinutes(1), "replica-1");
+        signIn("alice");
+
+        assertEquals("replica-1", readName());
+        writes.executeWithoutResult(status -> jdbcTemplate.update("update node set name = name"));
+        assertEquals("primary", readName());
+
+        signIn("bob");
+        assertEquals("replica-1", readName());
+    }
+
+    @Test
+    void readOnlyTransactions_ShouldNotStickAnonymousCallers() {
+        setUp(ReplicaRoutingDataSource.Balancing.ROUND_ROBIN, Duration.ofMinutes(1), "replica-1");
+        SecurityContextHolder.getContext().setAuthentication(new AnonymousAuthenticationToken(
+                "key", "anonymousUser", AuthorityUtils.createAuthorityList("ROLE_ANONYMOUS")));
+
+        writes.executeWithoutResult(status -> jdbcTemplate.update("update node set name = name"));
+        assertEquals("replica-1", readName());
+
+        SecurityContextHolder.clearContext();
+        writes.executeWithoutResult(status -> jdbcTemplate.update("update node set name = name"));
+        assertEquals("replica-1", readName());
+    }
+
+    private static void signIn(String username) {
+        SecurityContextHolder.getContext().setAuthentication(
+                UsernamePasswordAuthenticationToken.authenticated(username, null, List.of()));
+    }
+
+    private void setUp(ReplicaRoutingDataSource.Balancing balancing, Duration window, String... replicaNames) {
+        primary = database("primary");
+        List<HikariDataSource> replicas = new ArrayList<>();
+        for (String name : replicaNames) {
+            replicas.add(database(name));
+        }
+        ReadYourWritesTracker tracker = new ReadYourWritesTracker(window);
+        routing = new ReplicaRoutingDataSource(primary, replicas, balancing, Duration.ofSeconds(5), LAG_QUERY, tracker);
+        routing.afterPropertiesSet();
+
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primary);
+        dataSource.setReadOnlyDataSource(routing);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        transactionManager.addListener(tracker);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        writes = new TransactionTemplate(transactionManager);
+        reads = new TransactionTemplate(transactionManager);
+        reads.setReadOnly(true);
+    }
+
+    private String readName() {
+        return reads.execute(status -> currentName());
+    }
+
+    private String currentName() {
+        return jdbcTemplate.queryForObject("select name from node", String.class);
+    }
+
+    private HikariDataSource database(String name) {
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl("jdbc:h2:mem:" + name + "-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+        config.setPoolName(name);
+        config.setMaximumPoolSize(4);
+        HikariDataSource dataSource = new HikariDataSource(config);
+        pools.add(dataSource);
+        JdbcTemplate template = new JdbcTemplate(dataSource);
+        template.execute("create table node (name varchar(32))");
+        template.update("insert into node values (?)", name);
+        template.execute("create table replica_lag (seconds double precision)");
+        template.update("insert into replica_lag values (0)");
+        return dataSource;
+    }
+
+    private static void setLag(HikariDataSource replica, double seconds) {
+        new JdbcTemplate(replica).update("update replica_lag set seconds = ?", seconds);
+    }
+}
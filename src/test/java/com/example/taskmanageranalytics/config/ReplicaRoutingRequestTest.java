@@ -0,0 +1,75 @@
+package com.example.taskmanageranalytics.config;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+import static org.hamcrest.Matchers.not;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Runs transactions inside a web request, where an entity manager held open for the whole
+ * request would pin the first transaction's connection for the ones after it. The replica is
+ * the primary's database opened with its own lock timeout, so it has the schema the startup
+ * reads need and its sessions are still told apart.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.url=jdbc:h2:mem:request-primary;DB_CLOSE_DELAY=-1",
+        "app.datasource.replicas.urls=jdbc:h2:mem:request-primary;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT="
+                + ReplicaRoutingRequestTest.REPLICA_LOCK_TIMEOUT,
+        "app.datasource.replicas.lag-query=select 0"
+})
+@AutoConfigureMockMvc
+@WithMockUser
+class ReplicaRoutingRequestTest {
+
+    static final int REPLICA_LOCK_TIMEOUT = 4321;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void request_ShouldRouteEachTransactionOnItsOwn() throws Exception {
+        mockMvc.perform(post("/test/read-then-write"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0]").value(REPLICA_LOCK_TIMEOUT))
+                .andExpect(jsonPath("$[1]").value(not(REPLICA_LOCK_TIMEOUT)));
+    }
+
+    @TestConfiguration
+    @RestController
+    static class ReadThenWriteController {
+
+        @Autowired
+        private PlatformTransactionManager transactionManager;
+
+        @Autowired
+        private EntityManager entityManager;
+
+        @PostMapping("/test/read-then-write")
+        List<Integer> readThenWrite() {
+            TransactionTemplate reads = new TransactionTemplate(transactionManager);
+            reads.setReadOnly(true);
+            Integer read = reads.execute(status -> lockTimeout());
+            Integer write = new TransactionTemplate(transactionManager).execute(status -> lockTimeout());
+            return List.of(read, write);
+        }
+
+        private Integer lockTimeout() {
+            return ((Number) entityManager.createNativeQuery("select lock_timeout()").getSingleResult()).intValue();
+        }
+    }
+}
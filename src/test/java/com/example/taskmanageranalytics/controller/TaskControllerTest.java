@@ -0,0 +1,311 @@
+package com.example.taskmanageranalytics.controller;
+
+import com.example.taskmanageranalytics.dto.CursorPage;
+import com.example.taskmanageranalytics.dto.TaskFilter;
+import com.example.taskmanageranalytics.entity.Task;
+import com.example.taskmanageranalytics.entity.TaskStatus;
+import com.example.taskmanageranalytics.entity.TaskStatusHistory;
+import com.example.taskmanageranalytics.entity.User;
+import com.example.taskmanageranalytics.exception.TaskNotFoundException;
+import com.example.taskmanageranalytics.security.AccountPrincipal;
+import com.example.taskmanageranalytics.security.WebSecurityConfig;
+import com.example.taskmanageranalytics.service.TaskSearchService;
+import com.example.taskmanageranalytics.service.TaskService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.test.context.support.WithAnonymousUser;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(TaskController.class)
+@Import(WebSecurityConfig.class)
+@WithMockUser
+class TaskControllerTest {
+
+    private static final AccountPrincipal STRANGER = new AccountPrincipal(8L, "stranger", "password", List.of());
+    private static final AccountPrincipal ASSIGNEE = new AccountPrincipal(9L, "assignee", "password", List.of());
+    private static final AccountPrincipal ADMIN = new AccountPrincipal(1L, "admin", "password",
+            List.of(new SimpleGrantedAuthority("ROLE_ADMIN")));
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private TaskService taskService;
+
+    @MockitoBean
+    private TaskSearchService taskSearchService;
+
+    @Test
+    void getTask_ShouldReturnEtagAndLastModified() throws Exception {
+        when(taskService.getTask(1L)).thenReturn(task(1L, LocalDateTime.of(2024, 3, 1, 12, 0, 0, 123_000)));
+
+        mockMvc.perform(get("/api/tasks/1"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andExpect(header().exists(HttpHeaders.LAST_MODIFIED))
+                .andExpect(jsonPath("$.title").value("Task 1"))
+                .andExpect(jsonPath("$.description").value("Long description"))
+                .andExpect(jsonPath("$.authorId").value(7));
+    }
+
+    @Test
+    void getTask_ShouldReturnNotModified_WhenEtagMatches() throws Exception {
+        when(taskService.getTask(1L)).thenReturn(task(1L, LocalDateTime.of(2024, 3, 1, 12, 0)));
+        String etag = mockMvc.perform(get("/api/tasks/1"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        MvcResult result = mockMvc.perform(get("/api/tasks/1").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andReturn();
+
+        assertEquals(0, result.getResponse().getContentLength());
+        assertEquals("", result.getResponse().getContentAsString());
+    }
+
+    @Test
+    void getTask_ShouldReturnBody_WhenTaskChangedSinceEtag() throws Exception {
+        when(taskService.getTask(1L))
+                .thenReturn(task(1L, LocalDateTime.of(2024, 3, 1, 12, 0)))
+                .thenReturn(task(1L, LocalDateTime.of(2024, 3, 1, 12, 0, 0, 1_000)));
+        String etag = mockMvc.perform(get("/api/tasks/1"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/api/tasks/1").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(1));
+    }
+
+    @Test
+    void getTask_ShouldOmitExcludedFields() throws Exception {
+        when(taskService.getTask(1L)).thenReturn(task(1L, LocalDateTime.of(2024, 3, 1, 12, 0)));
+
+        mockMvc.perform(get("/api/tasks/1").param("exclude", "description"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.title").value("Task 1"))
+                .andExpect(jsonPath("$.description").doesNotExist());
+
+        mockMvc.perform(get("/api/tasks/1").param("fields", "id,status"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(1))
+                .andExpect(jsonPath("$.status").value("TODO"))
+                .andExpect(jsonPath("$.title").doesNotExist());
+    }
+
+    @Test
+    void getTask_ShouldUseDifferentEtagPerFieldSelection() throws Exception {
+        when(taskService.getTask(1L)).thenReturn(task(1L, LocalDateTime.of(2024, 3, 1, 12, 0)));
+
+        String full = mockMvc.perform(get("/api/tasks/1"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        String partial = mockMvc.perform(get("/api/tasks/1").param("exclude", "description"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        assertNotEquals(full, partial);
+    }
+
+    @Test
+    void getTask_ShouldRejectUnknownField() throws Exception {
+        mockMvc.perform(get("/api/tasks/1").param("fields", "id,password"))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(taskService);
+    }
+
+    @Test
+    void getTask_ShouldReturnNotFound_WhenTaskMissing() throws Exception {
+        when(taskService.getTask(404L)).thenThrow(new TaskNotFoundException(404L));
+
+        mockMvc.perform(get("/api/tasks/404"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void getTasks_ShouldReturnPageAndHonourIfNoneMatch() throws Exception {
+        CursorPage<Task, Long> page = new CursorPage<>(List.of(
+                task(1L, LocalDateTime.of(2024, 3, 1, 12, 0)),
+                task(2L, LocalDateTime.of(2024, 3, 2, 12, 0))), null);
+        when(taskService.getTasks(any(TaskFilter.class), eq(null), eq(50))).thenReturn(page);
+
+        String etag = mockMvc.perform(get("/api/tasks").param("exclude", "description"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(2))
+                .andExpect(jsonPath("$.items[1].id").value(2))
+                .andExpect(jsonPath("$.items[0].description").doesNotExist())
+                .andExpect(jsonPath("$.nextCursor").value(nullValue()))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/api/tasks").param("exclude", "description").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    void changeStatus_ShouldActOnBehalfOfAuthenticatedUser() throws Exception {
+        TaskStatusHistory history = TaskStatusHistory.builder()
+                .id(10L)
+                .task(task(1L, LocalDateTime.of(2024, 3, 1, 12, 0)))
+                .oldStatus(TaskStatus.TODO)
+                .newStatus(TaskStatus.IN_PROGRESS)
+                .changedBy(User.builder().id(7L).build())
+                .build();
+        when(taskService.getTask(1L)).thenReturn(task(1L, LocalDateTime.of(2024, 3, 1, 12, 0)));
+        when(taskService.changeStatus(1L, TaskStatus.IN_PROGRESS, 7L)).thenReturn(Optional.of(history));
+
+        mockMvc.perform(put("/api/tasks/1/status")
+                        .with(user(new AccountPrincipal(7L, "author", "password", List.of())))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"status\":\"IN_PROGRESS\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.oldStatus").value("TODO"))
+                .andExpect(jsonPath("$.changedById").value(7));
+    }
+
+    @Test
+    void createTask_ShouldUseAuthenticatedUserAsAuthor() throws Exception {
+        Task created = task(5L, LocalDateTime.of(2024, 3, 1, 12, 0));
+        when(taskService.saveTask("Write docs", null, 7L, 8L)).thenReturn(created);
+
+        mockMvc.perform(post("/api/tasks")
+                        .with(user(new AccountPrincipal(7L, "author", "password", List.of())))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\":\"Write docs\",\"authorId\":99,\"assigneeId\":8}"))
+                .andExpect(status().isCreated())
+                .andExpect(header().string(HttpHeaders.LOCATION, "http://localhost/api/tasks/5"))
+                .andExpect(jsonPath("$.id").value(5));
+
+        verify(taskService).saveTask("Write docs", null, 7L, 8L);
+        verifyNoMoreInteractions(taskService);
+    }
+
+    @Test
+    void changeStatus_ShouldReturnConflict_OnConcurrentTransition() throws Exception {
+        when(taskService.getTask(1L)).thenReturn(task(1L, LocalDateTime.of(2024, 3, 1, 12, 0)));
+        when(taskService.changeStatus(1L, TaskStatus.DONE, 7L))
+                .thenThrow(new ObjectOptimisticLockingFailureException(Task.class, 1L));
+
+        mockMvc.perform(put("/api/tasks/1/status")
+                        .with(user(new AccountPrincipal(7L, "author", "password", List.of())))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"status\":\"DONE\"}"))
+                .andExpect(status().isConflict());
+    }
+
+    @Test
+    void taskWrites_ShouldBeForbidden_ForOtherUsers() throws Exception {
+        when(taskService.getTask(1L)).thenReturn(task(1L, LocalDateTime.of(2024, 3, 1, 12, 0)));
+
+        mockMvc.perform(put("/api/tasks/1").with(user(STRANGER))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\":\"Renamed\"}"))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(put("/api/tasks/1/assignee").with(user(STRANGER)).param("assigneeId", "9"))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(delete("/api/tasks/1/assignee").with(user(STRANGER)))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(put("/api/tasks/1/status").with(user(STRANGER))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"status\":\"DONE\"}"))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(delete("/api/tasks/1").with(user(STRANGER)))
+                .andExpect(status().isForbidden());
+
+        verify(taskService, times(5)).getTask(1L);
+        verifyNoMoreInteractions(taskService);
+    }
+
+    @Test
+    void changeStatuses_ShouldBeForbidden_WhenAnyTaskBelongsToOthers() throws Exception {
+        Task assigned = task(2L, LocalDateTime.of(2024, 3, 1, 12, 0));
+        assigned.setAssignee(User.builder().id(8L).build());
+        when(taskService.getTasks(List.of(1L, 2L)))
+                .thenReturn(List.of(task(1L, LocalDateTime.of(2024, 3, 1, 12, 0)), assigned));
+
+        mockMvc.perform(post("/api/tasks/status-changes").with(user(STRANGER))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"taskIds\":[1,2],\"status\":\"DONE\"}"))
+                .andExpect(status().isForbidden());
+
+        verify(taskService, never()).changeStatuses(any(), any(), any());
+    }
+
+    @Test
+    void taskWrites_ShouldBeAllowed_ForAssigneeAndAdmin() throws Exception {
+        Task assigned = task(1L, LocalDateTime.of(2024, 3, 1, 12, 0));
+        assigned.setAssignee(User.builder().id(9L).build());
+        when(taskService.getTask(1L)).thenReturn(assigned);
+        when(taskService.getTasks(List.of(1L))).thenReturn(List.of(assigned));
+        when(taskService.changeStatuses(List.of(1L), TaskStatus.DONE, 9L)).thenReturn(List.of(1L));
+
+        mockMvc.perform(put("/api/tasks/1/assignee").with(user(ASSIGNEE)).param("assigneeId", "9"))
+                .andExpect(status().isNoContent());
+        mockMvc.perform(post("/api/tasks/status-changes").with(user(ASSIGNEE))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"taskIds\":[1],\"status\":\"DONE\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0]").value(1));
+        mockMvc.perform(delete("/api/tasks/1").with(user(ADMIN)))
+                .andExpect(status().isNoContent());
+
+        verify(taskService).assignTask(1L, 9L);
+        verify(taskService).deleteTask(1L);
+    }
+
+    @Test
+    @WithAnonymousUser
+    void getTask_ShouldRequireAuthentication() throws Exception {
+        mockMvc.perform(get("/api/tasks/1"))
+                .andExpect(status().isUnauthorized());
+
+        verifyNoInteractions(taskService);
+    }
+
+    @Test
+    void searchTasks_ShouldReturnRankedPageWithNextOffset() throws Exception {
+        when(taskSearchService.search("lon desc", 0, 2)).thenReturn(new CursorPage<>(List.of(
+                task(5L, LocalDateTime.of(2024, 3, 1, 12, 0)),
+                task(3L, LocalDateTime.of(2024, 3, 1, 12, 0))), 2));
+
+        mockMvc.perform(get("/api/tasks/search").param("q", "lon desc").param("limit", "2").param("fields", "id,title"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].id").value(5))
+                .andExpect(jsonPath("$.items[1].title").value("Task 3"))
+                .andExpect(jsonPath("$.items[0].description").doesNotExist())
+                .andExpect(jsonPath("$.nextCursor").value(2));
+    }
+
+    private static Task task(Long id, LocalDateTime updatedAt) {
+        return Task.builder()
+                .id(id)
+                .title("Task " + id)
+                .description("Long description")
+                .status(TaskStatus.TODO)
+                .createdAt(LocalDateTime.of(2024, 1, 1, 0, 0))
+                .updatedAt(updatedAt)
+                .author(User.builder().id(7L).username("author").build())
+                .build();
+    }
+}
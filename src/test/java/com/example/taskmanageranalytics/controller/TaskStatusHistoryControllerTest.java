@@ -0,0 +1,174 @@
+package com.example.taskmanageranalytics.controller;
+
+import com.example.taskmanageranalytics.dto.CursorPage;
+import com.example.taskmanageranalytics.dto.HistoryCursor;
+import com.example.taskmanageranalytics.dto.TaskStatusHistoryResponse;
+import com.example.taskmanageranalytics.entity.Task;
+import com.example.taskmanageranalytics.entity.TaskStatus;
+import com.example.taskmanageranalytics.entity.TaskStatusHistory;
+import com.example.taskmanageranalytics.entity.User;
+import com.example.taskmanageranalytics.security.WebSecurityConfig;
+import com.example.taskmanageranalytics.service.TaskStatusHistoryArchiveService;
+import com.example.taskmanageranalytics.service.TaskStatusHistoryService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(TaskStatusHistoryController.class)
+@Import(WebSecurityConfig.class)
+@WithMockUser
+class TaskStatusHistoryControllerTest {
+
+    private static final LocalDateTime CHANGED_AT = LocalDateTime.of(2024, 3, 1, 12, 0);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private TaskStatusHistoryService taskStatusHistoryService;
+
+    @MockitoBean
+    private TaskStatusHistoryArchiveService taskStatusHistoryArchiveService;
+
+    @Test
+    void getTaskHistory_ShouldSeekPastCursorAndReturnNextCursor() throws Exception {
+        HistoryCursor before = new HistoryCursor(CHANGED_AT, 9L);
+        when(taskStatusHistoryService.getHistory(1L, before, 1))
+                .thenReturn(new CursorPage<>(List.of(history(8L)), new HistoryCursor(CHANGED_AT, 8L)));
+
+        mockMvc.perform(get("/api/tasks/1/history")
+                        .param("beforeChangedAt", "2024-03-01T12:00:00")
+                        .param("beforeId", "9")
+                        .param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].id").value(8))
+                .andExpect(jsonPath("$.items[0].newStatus").value("DONE"))
+                .andExpect(jsonPath("$.nextCursor.changedAt").value("2024-03-01T12:00:00"))
+                .andExpect(jsonPath("$.nextCursor.id").value(8));
+    }
+
+    @Test
+    void getHistory_ShouldRejectHalfACursor() throws Exception {
+        mockMvc.perform(get("/api/task-status-history").param("beforeId", "9"))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(taskStatusHistoryService);
+    }
+
+    @Test
+    void exportHistory_ShouldWriteCsv() throws Exception {
+        exportRows(TaskStatusHistoryResponse.from(history(8L)));
+
+        mockMvc.perform(get("/api/task-status-history/export").param("taskId", "1").param("format", "csv"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("text/csv"))
+                .andExpect(content().string(TaskStatusHistoryController.CSV_HEADER + "\n"
+                        + "8,1,IN_PROGRESS,DONE,2024-03-01T12:00,2\n"));
+    }
+
+    @Test
+    void exportHistory_ShouldWriteOneJsonObjectPerLine() throws Exception {
+        exportRows(TaskStatusHistoryResponse.from(history(8L)), TaskStatusHistoryResponse.from(history(9L)));
+
+        mockMvc.perform(get("/api/task-status-history/export"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("application/x-ndjson"))
+                .andExpect(content().string(
+                        "{\"id\":8,\"taskId\":1,\"oldStatus\":\"IN_PROGRESS\",\"newStatus\":\"DONE\","
+                                + "\"changedAt\":\"2024-03-01T12:00:00\",\"changedById\":2}\n"
+                                + "{\"id\":9,\"taskId\":1,\"oldStatus\":\"IN_PROGRESS\",\"newStatus\":\"DONE\","
+                                + "\"changedAt\":\"2024-03-01T12:00:00\",\"changedById\":2}\n"));
+    }
+
+    @Test
+    void exportHistory_ShouldRejectUnknownFormat() throws Exception {
+        mockMvc.perform(get("/api/task-status-history/export").param("format", "xml"))
+                .andExpect(status().isBadRequest())
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_DISPOSITION));
+
+        verifyNoInteractions(taskStatusHistoryService);
+    }
+
+    @Test
+    void exportArchivedHistory_ShouldRejectUnknownFormatBeforeReadingArchive() throws Exception {
+        mockMvc.perform(get("/api/task-status-history/archive")
+                        .param("from", "2024-03-01T00:00:00").param("to", "2024-04-01T00:00:00").param("format", "xml"))
+                .andExpect(status().isBadRequest())
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_DISPOSITION));
+
+        verifyNoInteractions(taskStatusHistoryArchiveService);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void exportArchivedHistory_ShouldWriteArchivedRowsOfRange() throws Exception {
+        LocalDateTime from = LocalDateTime.of(2024, 3, 1, 0, 0);
+        LocalDateTime to = LocalDateTime.of(2024, 4, 1, 0, 0);
+        doAnswer(invocation -> {
+            invocation.<Consumer<TaskStatusHistoryResponse>>getArgument(2).accept(TaskStatusHistoryResponse.from(history(8L)));
+            return null;
+        }).when(taskStatusHistoryArchiveService).readArchivedHistory(eq(from), eq(to), any(Consumer.class));
+
+        mockMvc.perform(get("/api/task-status-history/archive")
+                        .param("from", "2024-03-01T00:00:00").param("to", "2024-04-01T00:00:00").param("format", "csv"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(TaskStatusHistoryController.CSV_HEADER + "\n"
+                        + "8,1,IN_PROGRESS,DONE,2024-03-01T12:00,2\n"));
+    }
+
+    @Test
+    void exportArchivedHistory_ShouldRejectEmptyRange() throws Exception {
+        mockMvc.perform(get("/api/task-status-history/archive")
+                        .param("from", "2024-04-01T00:00:00").param("to", "2024-03-01T00:00:00"))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(taskStatusHistoryArchiveService);
+    }
+
+    @Test
+    void getArchivedMonths_ShouldListArchivedMonths() throws Exception {
+        when(taskStatusHistoryArchiveService.getArchivedMonths()).thenReturn(List.of(YearMonth.of(2024, 3)));
+
+        mockMvc.perform(get("/api/task-status-history/archive/months"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0]").value("2024-03"));
+    }
+
+    @SuppressWarnings("unchecked")
+    private void exportRows(TaskStatusHistoryResponse... rows) {
+        doAnswer(invocation -> {
+            Consumer<TaskStatusHistoryResponse> consumer = invocation.getArgument(1);
+            for (TaskStatusHistoryResponse row : rows) {
+                consumer.accept(row);
+            }
+            return null;
+        }).when(taskStatusHistoryService).exportHistory(any(), any(Consumer.class));
+    }
+
+    private static TaskStatusHistory history(Long id) {
+        TaskStatusHistory history = new TaskStatusHistory();
+        history.setId(id);
+        history.setTask(Task.builder().id(1L).build());
+        history.setChangedBy(User.builder().id(2L).build());
+        history.setOldStatus(TaskStatus.IN_PROGRESS);
+        history.setNewStatus(TaskStatus.DONE);
+        history.setChangedAt(CHANGED_AT);
+        return history;
+    }
+}
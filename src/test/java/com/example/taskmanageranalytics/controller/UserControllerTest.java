@@ -0,0 +1,95 @@
+package com.example.taskmanageranalytics.controller;
+
+import com.example.taskmanageranalytics.dto.UserResponse;
+import com.example.taskmanageranalytics.dto.UserUpdateRequest;
+import com.example.taskmanageranalytics.entity.User;
+import com.example.taskmanageranalytics.security.AccountPrincipal;
+import com.example.taskmanageranalytics.security.WebSecurityConfig;
+import com.example.taskmanageranalytics.service.UserService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(UserController.class)
+@Import(WebSecurityConfig.class)
+class UserControllerTest {
+
+    private static final AccountPrincipal ALICE = new AccountPrincipal(1L, "alice", "password",
+            List.of(new SimpleGrantedAuthority("ROLE_USER")));
+    private static final AccountPrincipal ADMIN = new AccountPrincipal(9L, "admin", "password",
+            List.of(new SimpleGrantedAuthority("ROLE_ADMIN")));
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private UserService userService;
+
+    @Test
+    void updateUser_ShouldUpdateOwnAccount() throws Exception {
+        when(userService.updateUser(eq(1L), any(UserUpdateRequest.class)))
+                .thenReturn(new UserResponse(1L, "alice2", "alice@example.com", User.Role.USER, 0, 0));
+
+        mockMvc.perform(put("/api/users/1")
+                        .with(user(ALICE))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"username\":\"alice2\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.username").value("alice2"));
+
+        verify(userService).updateUser(1L, UserUpdateRequest.builder().username("alice2").build());
+    }
+
+    @Test
+    void updateUser_ShouldForbidChangingAnotherAccount() throws Exception {
+        mockMvc.perform(put("/api/users/2")
+                        .with(user(ALICE))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"username\":\"mallory\"}"))
+                .andExpect(status().isForbidden());
+
+        verifyNoInteractions(userService);
+    }
+
+    @Test
+    void updateUser_ShouldRejectInvalidBody() throws Exception {
+        mockMvc.perform(put("/api/users/1")
+                        .with(user(ALICE))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"email\":\"not-an-email\",\"password\":\"123\"}"))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(userService);
+    }
+
+    @Test
+    void deleteUser_ShouldForbidDeletingAnotherAccount() throws Exception {
+        mockMvc.perform(delete("/api/users/2").with(user(ALICE)))
+                .andExpect(status().isForbidden());
+
+        verifyNoInteractions(userService);
+    }
+
+    @Test
+    void deleteUser_ShouldAllowAdminToDeleteAnyAccount() throws Exception {
+        mockMvc.perform(delete("/api/users/2").with(user(ADMIN)))
+                .andExpect(status().isNoContent());
+
+        verify(userService).deleteUser(2L);
+    }
+}
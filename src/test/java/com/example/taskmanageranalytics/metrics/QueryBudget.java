@@ -0,0 +1,31 @@
+package com.example.taskmanageranalytics.metrics;
+
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Fails the test when one of the transactions its test method ran on the test thread, not
+ * counting setup and teardown, exceeds the budget. A test-managed transaction counts as one of
+ * them, with only the statements of the test method itself.
+ * Needs a Spring test context with the {@link QueryDetector} bean registered as a transaction
+ * listener, for example through {@code TransactionManagerCustomizationAutoConfiguration}.
+ */
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+@ExtendWith(QueryBudgetExtension.class)
+public @interface QueryBudget {
+
+    /**
+     * Most statements a single transaction may run.
+     */
+    int value();
+
+    /**
+     * Most times a single transaction may run the same select; more is treated as an N+1.
+     */
+    int maxRepeats() default 2;
+}
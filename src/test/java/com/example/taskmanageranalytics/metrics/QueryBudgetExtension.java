@@ -0,0 +1,48 @@
+package com.example.taskmanageranalytics.metrics;
+
+import org.junit.jupiter.api.extension.AfterTestExecutionCallback;
+import org.junit.jupiter.api.extension.BeforeTestExecutionCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.platform.commons.support.AnnotationSupport;
+import org.opentest4j.AssertionFailedError;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+class QueryBudgetExtension implements BeforeTestExecutionCallback, AfterTestExecutionCallback {
+
+    @Override
+    public void beforeTestExecution(ExtensionContext context) {
+        detector(context).startRecording();
+    }
+
+    @Override
+    public void afterTestExecution(ExtensionContext context) {
+        List<TransactionQueries> transactions = detector(context).stopRecording();
+        QueryBudget budget = AnnotationSupport.findAnnotation(context.getRequiredTestMethod(), QueryBudget.class)
+                .or(() -> AnnotationSupport.findAnnotation(context.getRequiredTestClass(), QueryBudget.class))
+                .orElseThrow();
+
+        List<String> violations = new ArrayList<>();
+        for (TransactionQueries transaction : transactions) {
+            if (transaction.getStatements() > budget.value()) {
+                violations.add(transaction.getTransactionName() + " ran " + transaction.getStatements()
+                        + " statements, budget is " + budget.value());
+            }
+            Map.Entry<String, Integer> repeated = transaction.mostRepeatedSelect();
+            if (repeated != null && repeated.getValue() > budget.maxRepeats()) {
+                violations.add(transaction.getTransactionName() + " ran the same select " + repeated.getValue()
+                        + " times, at most " + budget.maxRepeats() + " allowed: " + repeated.getKey());
+            }
+        }
+        if (!violations.isEmpty() && context.getExecutionException().isEmpty()) {
+            throw new AssertionFailedError("Query budget exceeded:\n" + String.join("\n", violations));
+        }
+    }
+
+    private static QueryDetector detector(ExtensionContext context) {
+        return SpringExtension.getApplicationContext(context).getBean(QueryDetector.class);
+    }
+}
@@ -0,0 +1,158 @@
+package com.example.taskmanageranalytics.metrics;
+
+import com.example.taskmanageranalytics.config.MetricsConfig;
+import com.example.taskmanageranalytics.dto.TaskStatusHistoryResponse;
+import com.example.taskmanageranalytics.entity.Task;
+import com.example.taskmanageranalytics.entity.TaskStatus;
+import com.example.taskmanageranalytics.entity.TaskStatusHistory;
+import com.example.taskmanageranalytics.entity.User;
+import com.example.taskmanageranalytics.repository.TaskRepository;
+import com.example.taskmanageranalytics.repository.TaskStatusHistoryRepository;
+import com.example.taskmanageranalytics.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.transaction.TransactionManagerCustomizationAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.system.CapturedOutput;
+import org.springframework.boot.test.system.OutputCaptureExtension;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = {"app.query-detector.mode=log", "app.query-detector.stack-sample-rate=1"})
+@Import(MetricsConfig.class)
+@ImportAutoConfiguration(TransactionManagerCustomizationAutoConfiguration.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@ExtendWith(OutputCaptureExtension.class)
+class QueryDetectorTest {
+
+    @Autowired
+    private QueryDetector queryDetector;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskStatusHistoryRepository taskStatusHistoryRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.executeWithoutResult(status -> {
+            for (int i = 0; i < 3; i++) {
+                User author = userRepository.save(User.builder()
+                        .username("author" + i)
+                        .password("password")
+                        .email("author" + i + "@example.com")
+                        .build());
+                Task task = taskRepository.save(Task.builder().title("Task " + i).author(author).build());
+                taskStatusHistoryRepository.save(task.transitionTo(TaskStatus.IN_PROGRESS, author));
+            }
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        transactionTemplate.executeWithoutResult(status -> {
+            taskStatusHistoryRepository.deleteAll();
+            taskRepository.deleteAll();
+            userRepository.deleteAll();
+        });
+    }
+
+    @Test
+    void lazyLoadsInALoop_ShouldBeFlaggedWithTheirCallStack(CapturedOutput output) {
+        queryDetector.startRecording();
+        transactionTemplate.executeWithoutResult(status ->
+                userRepository.findAll().forEach(user -> user.getCreatedTasks().size()));
+        List<TransactionQueries> transactions = queryDetector.stopRecording();
+
+        assertEquals(1, transactions.size());
+        assertEquals(4, transactions.getFirst().getStatements());
+        Map.Entry<String, Integer> repeated = transactions.getFirst().mostRepeatedSelect();
+        assertEquals(3, repeated.getValue());
+        assertTrue(repeated.getKey().contains("author_id=?"));
+        assertTrue(output.getOut().contains("Possible N+1"));
+        assertTrue(output.getOut().contains("QueryDetectorTest.lambda$lazyLoadsInALoop"));
+    }
+
+    @Test
+    void nestedTransactions_ShouldBeCountedSeparately() {
+        TransactionTemplate requiresNew = new TransactionTemplate(transactionManager);
+        requiresNew.setPropagationBehavior(TransactionTemplate.PROPAGATION_REQUIRES_NEW);
+
+        queryDetector.startRecording();
+        transactionTemplate.executeWithoutResult(status -> {
+            taskRepository.findAll();
+            requiresNew.executeWithoutResult(inner -> userRepository.findAll());
+            taskRepository.findAll();
+        });
+        List<TransactionQueries> transactions = queryDetector.stopRecording();
+
+        assertEquals(List.of(1, 2), transactions.stream().map(TransactionQueries::getStatements).toList());
+    }
+
+    @Test
+    void recording_ShouldTallyTransactionBegunBeforeIt_FromThenOn() {
+        QueryDetector detector = new QueryDetector(QueryDetector.Mode.OFF, 3, 0);
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        try {
+            detector.inspect("select * from users");
+            detector.startRecording();
+            detector.inspect("select * from task where author_id=?");
+            detector.inspect("select * from task where author_id=?");
+            List<TransactionQueries> transactions = detector.stopRecording();
+            detector.inspect("select * from task");
+
+            assertEquals(List.of(2), transactions.stream().map(TransactionQueries::getStatements).toList());
+            assertEquals(2, transactions.getFirst().mostRepeatedSelect().getValue());
+            detector.startRecording();
+            assertEquals(List.of(0), detector.stopRecording().stream().map(TransactionQueries::getStatements).toList());
+        } finally {
+            TransactionSynchronizationManager.setActualTransactionActive(false);
+        }
+    }
+
+    @Test
+    @QueryBudget(1)
+    void historyPage_ShouldNotLoadTasksOrUsers() {
+        List<TaskStatusHistoryResponse> page = transactionTemplate.execute(status ->
+                taskStatusHistoryRepository.findByOrderByChangedAtDescIdDesc(Limit.of(50)).stream()
+                        .map(TaskStatusHistoryResponse::from)
+                        .toList());
+
+        assertEquals(3, page.size());
+    }
+
+    @Test
+    @QueryBudget(value = 2, maxRepeats = 1)
+    void taskHistory_ShouldLoadInOneSelect() {
+        Long taskId = transactionTemplate.execute(status -> taskRepository.findAll().getFirst().getId());
+
+        List<TaskStatusHistory> history = transactionTemplate.execute(status ->
+                taskStatusHistoryRepository.findByTaskIdOrderByChangedAtDescIdDesc(taskId, Limit.of(50)));
+
+        assertEquals(1, history.size());
+    }
+}
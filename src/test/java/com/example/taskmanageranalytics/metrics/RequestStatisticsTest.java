@@ -0,0 +1,75 @@
+package com.example.taskmanageranalytics.metrics;
+
+import com.example.taskmanageranalytics.config.MetricsConfig;
+import com.example.taskmanageranalytics.entity.Task;
+import com.example.taskmanageranalytics.entity.User;
+import com.example.taskmanageranalytics.repository.TaskRepository;
+import com.example.taskmanageranalytics.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import(MetricsConfig.class)
+class RequestStatisticsTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @BeforeEach
+    void setUp() {
+        User author = userRepository.save(User.builder()
+                .username("author")
+                .password("password")
+                .email("author@example.com")
+                .build());
+        for (int i = 0; i < 3; i++) {
+            taskRepository.save(Task.builder().title("Task " + i).author(author).build());
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestStatistics.stop();
+    }
+
+    @Test
+    void statistics_ShouldCountStatementsAndEntityLoadsOfTheCurrentThread() {
+        RequestStatistics statistics = RequestStatistics.start();
+
+        List<Task> tasks = taskRepository.findAll();
+        assertEquals(1, statistics.getStatements());
+        assertEquals(3, statistics.getEntityLoads());
+
+        tasks.forEach(task -> task.getAuthor().getUsername());
+        assertEquals(2, statistics.getStatements());
+        assertEquals(4, statistics.getEntityLoads());
+    }
+
+    @Test
+    void statistics_ShouldIgnoreWorkOutsideARequest() {
+        RequestStatistics statistics = RequestStatistics.start();
+        RequestStatistics.stop();
+
+        taskRepository.findAll();
+
+        assertEquals(0, statistics.getStatements());
+        assertEquals(0, statistics.getEntityLoads());
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.taskmanageranalytics.metrics;
+
+import com.example.taskmanageranalytics.exception.TaskStatusHistoryNotFoundException;
+import com.example.taskmanageranalytics.service.TaskStatusHistoryService;
+import com.example.taskmanageranalytics.service.UserService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ServiceMethodMetricsPostProcessorTest {
+
+    private MeterRegistry meterRegistry;
+    private ServiceMethodMetricsPostProcessor postProcessor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        beanFactory.registerSingleton("meterRegistry", meterRegistry);
+        postProcessor = new ServiceMethodMetricsPostProcessor(beanFactory.getBeanProvider(MeterRegistry.class),
+                List.of(TaskStatusHistoryService.class, UserService.class));
+        postProcessor.setBeanFactory(beanFactory);
+    }
+
+    @Test
+    void serviceMethods_ShouldBeTimedWithTheirOutcome() {
+        TaskStatusHistoryService target = mock(TaskStatusHistoryService.class);
+        when(target.getTaskStatusHistoryById(2L)).thenThrow(new TaskStatusHistoryNotFoundException(2L));
+        TaskStatusHistoryService service =
+                (TaskStatusHistoryService) postProcessor.postProcessAfterInitialization(target, "historyService");
+
+        service.getTaskStatusHistoryById(1L);
+        service.getTaskStatusHistoryById(1L);
+        assertThrows(TaskStatusHistoryNotFoundException.class, () -> service.getTaskStatusHistoryById(2L));
+
+        assertEquals(2, timer("getTaskStatusHistoryById", "none").count());
+        assertEquals(1, timer("getTaskStatusHistoryById", "TaskStatusHistoryNotFoundException").count());
+        verify(target, times(2)).getTaskStatusHistoryById(1L);
+    }
+
+    @Test
+    void otherBeans_ShouldNotBeProxied() {
+        Object bean = new Object();
+
+        assertSame(bean, postProcessor.postProcessAfterInitialization(bean, "other"));
+        assertFalse(AopUtils.isAopProxy(bean));
+    }
+
+    private Timer timer(String method, String exception) {
+        return meterRegistry.get(ServiceMethodMetricsPostProcessor.METRIC)
+                .tags("service", "TaskStatusHistoryService", "method", method, "exception", exception)
+                .timer();
+    }
+}
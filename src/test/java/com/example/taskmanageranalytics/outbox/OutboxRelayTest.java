@@ -0,0 +1,197 @@
+package com.example.taskmanageranalytics.outbox;
+
+import com.example.taskmanageranalytics.entity.OutboxAggregate;
+import com.example.taskmanageranalytics.entity.OutboxAggregateId;
+import com.example.taskmanageranalytics.entity.OutboxEvent;
+import com.example.taskmanageranalytics.entity.TaskStatus;
+import com.example.taskmanageranalytics.entity.User;
+import com.example.taskmanageranalytics.event.TaskContentChangedEvent;
+import com.example.taskmanageranalytics.event.TaskCreatedEvent;
+import com.example.taskmanageranalytics.event.TaskDeletedEvent;
+import com.example.taskmanageranalytics.event.UserDeletedEvent;
+import com.example.taskmanageranalytics.event.UserUpdatedEvent;
+import com.example.taskmanageranalytics.repository.OutboxEventRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@Import({OutboxWriter.class, OutboxRelay.class, OutboxRelayTest.RecordingConsumer.class, OutboxRelayTest.SettableClock.class})
+@TestPropertySource(properties = {"app.outbox.enabled=true", "app.outbox.max-attempts=2",
+        "app.outbox.retry-delay=PT1M", "app.outbox.dead-letter-retention=P1D"})
+class OutboxRelayTest {
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private OutboxRelay relay;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private RecordingConsumer consumer;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private SettableClock clock;
+
+    @BeforeEach
+    void setUp() {
+        consumer.events.clear();
+        consumer.failures.set(0);
+        clock.now = Instant.now().plusSeconds(1).truncatedTo(ChronoUnit.MILLIS);
+    }
+
+    @Test
+    void relay_ShouldDeliverEachAggregateInOrderAndDeleteDeliveredEvents() {
+        TaskCreatedEvent created = new TaskCreatedEvent(1L, 7L, null, TaskStatus.TODO);
+        TaskContentChangedEvent changed = new TaskContentChangedEvent(1L, "Title", "Description");
+        TaskDeletedEvent deleted = new TaskDeletedEvent(1L, 7L, null, TaskStatus.TODO);
+        TaskCreatedEvent other = new TaskCreatedEvent(2L, 7L, 8L, TaskStatus.TODO);
+        UserUpdatedEvent userUpdated = new UserUpdatedEvent(7L, "user", "user@example.com", User.Role.USER);
+        UserDeletedEvent userDeleted = new UserDeletedEvent(8L);
+        List.of(created, changed, other, deleted, userUpdated, userDeleted).forEach(eventPublisher::publishEvent);
+
+        assertEquals(4, relay.relayBatch());
+        assertEquals(Set.of(created, other, userUpdated, userDeleted), Set.copyOf(consumer.events));
+
+        consumer.events.clear();
+        assertEquals(1, relay.relayBatch());
+        assertEquals(1, relay.relayBatch());
+        assertEquals(0, relay.relayBatch());
+        assertEquals(List.of(changed, deleted), consumer.events);
+        assertEquals(0, outboxEventRepository.count());
+    }
+
+    @Test
+    void relay_ShouldRetryWithBackoffAndDeadLetterWithoutBlockingTheAggregate() {
+        TaskCreatedEvent created = new TaskCreatedEvent(1L, 7L, null, TaskStatus.TODO);
+        TaskContentChangedEvent changed = new TaskContentChangedEvent(1L, "Title", null);
+        eventPublisher.publishEvent(created);
+        eventPublisher.publishEvent(changed);
+        consumer.failures.set(2);
+
+        assertEquals(1, relay.relayBatch());
+        OutboxEvent failed = outboxEventRepository.findAll().getFirst();
+        assertEquals(1, failed.getAttempts());
+        assertEquals(0, relay.relayBatch(), "the failed event waits out its backoff and blocks the next one");
+
+        clock.now = clock.now.plus(Duration.ofMinutes(1));
+        assertEquals(1, relay.relayBatch());
+        assertNotNull(outboxEventRepository.findById(failed.getId()).orElseThrow().getDeadLetteredAt());
+
+        assertEquals(1, relay.relayBatch());
+        assertEquals(List.of(changed), consumer.events);
+        assertEquals(1, outboxEventRepository.count());
+    }
+
+    @Test
+    void writer_ShouldNumberEachAggregatesEventsAcrossPersistenceContexts() {
+        eventPublisher.publishEvent(new TaskCreatedEvent(1L, 7L, null, TaskStatus.TODO));
+        eventPublisher.publishEvent(new TaskContentChangedEvent(1L, "Title", null));
+        entityManager.flush();
+        entityManager.clear();
+        eventPublisher.publishEvent(new TaskContentChangedEvent(1L, "Renamed", null));
+        eventPublisher.publishEvent(new UserUpdatedEvent(7L, "user", "user@example.com", User.Role.USER));
+
+        assertEquals(List.of(1L, 2L, 3L), outboxEventRepository.findAll().stream()
+                .filter(event -> event.getAggregateType().equals(OutboxWriter.TASK))
+                .sorted(Comparator.comparing(OutboxEvent::getId))
+                .map(OutboxEvent::getAggregateSequence)
+                .toList());
+        assertEquals(3, entityManager.find(OutboxAggregate.class, new OutboxAggregateId(OutboxWriter.TASK, 1L))
+                .getLastSequence());
+
+        eventPublisher.publishEvent(new TaskDeletedEvent(1L, 7L, null, TaskStatus.TODO));
+        entityManager.flush();
+        assertNull(entityManager.find(OutboxAggregate.class, new OutboxAggregateId(OutboxWriter.TASK, 1L)));
+    }
+
+    @Test
+    void relay_ShouldFollowAggregateSequenceRatherThanIds() {
+        TaskContentChangedEvent first = new TaskContentChangedEvent(1L, "First", null);
+        TaskContentChangedEvent second = new TaskContentChangedEvent(1L, "Second", null);
+        eventPublisher.publishEvent(second);
+        eventPublisher.publishEvent(first);
+        List<OutboxEvent> events = outboxEventRepository.findAll();
+        events.forEach(event -> event.setAggregateSequence(event.getPayload().contains("First") ? 1 : 2));
+        outboxEventRepository.flush();
+
+        assertEquals(1, relay.relayBatch());
+        assertEquals(1, relay.relayBatch());
+        assertEquals(List.of(first, second), consumer.events);
+    }
+
+    @Test
+    void purgeDeadLetters_ShouldDeleteOnlyEventsDeadLetteredBeforeTheRetention() {
+        eventPublisher.publishEvent(new TaskCreatedEvent(1L, 7L, null, TaskStatus.TODO));
+        eventPublisher.publishEvent(new TaskCreatedEvent(2L, 7L, null, TaskStatus.TODO));
+        List<OutboxEvent> events = outboxEventRepository.findAll();
+        events.get(0).setDeadLetteredAt(LocalDateTime.now(clock).minusDays(2));
+        events.get(1).setDeadLetteredAt(LocalDateTime.now(clock).minusHours(1));
+        outboxEventRepository.flush();
+
+        relay.purgeDeadLetters();
+
+        assertEquals(List.of(events.get(1).getId()),
+                outboxEventRepository.findAll().stream().map(OutboxEvent::getId).toList());
+    }
+
+    static class RecordingConsumer implements OutboxConsumer {
+        final List<Object> events = new CopyOnWriteArrayList<>();
+        final AtomicInteger failures = new AtomicInteger();
+
+        @Override
+        public void consume(Object event) {
+            if (failures.getAndUpdate(remaining -> Math.max(0, remaining - 1)) > 0) {
+                throw new IllegalStateException("Consumer unavailable");
+            }
+            events.add(event);
+        }
+    }
+
+    static class SettableClock extends Clock {
+        volatile Instant now = Instant.now();
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneId.systemDefault();
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
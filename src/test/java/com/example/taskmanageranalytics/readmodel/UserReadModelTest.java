@@ -0,0 +1,141 @@
+package com.example.taskmanageranalytics.readmodel;
+
+import com.example.taskmanageranalytics.dto.CounterReconciliationReport;
+import com.example.taskmanageranalytics.dto.UserResponse;
+import com.example.taskmanageranalytics.entity.TaskStatus;
+import com.example.taskmanageranalytics.entity.User;
+import com.example.taskmanageranalytics.event.*;
+import com.example.taskmanageranalytics.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UserReadModelTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @InjectMocks
+    private UserReadModel userReadModel;
+
+    @Test
+    void reload_ShouldLoadAllUsersOrderedById() {
+        when(userRepository.findAllUserResponses(any(Sort.class))).thenReturn(List.of(
+                user(1L, "alice", 2, 0), user(17L, "bob", 0, 1), user(2L, "carol", 0, 0)));
+
+        userReadModel.reload();
+
+        assertTrue(userReadModel.isLoaded());
+        assertEquals("bob", userReadModel.findById(17L).orElseThrow().getUsername());
+        assertEquals(List.of(1L, 2L, 17L), userReadModel.findAll().stream().map(UserResponse::getId).toList());
+        assertSame(userReadModel.findAll(), userReadModel.findAll());
+    }
+
+    @Test
+    void events_ShouldKeepProfilesAndCountsCurrent() {
+        when(userRepository.findAllUserResponses(any(Sort.class))).thenReturn(List.of(user(1L, "alice", 0, 0)));
+        userReadModel.reload();
+        List<UserResponse> before = userReadModel.findAll();
+
+        userReadModel.onUserCreated(new UserCreatedEvent(2L, "bob", "bob@example.com", User.Role.USER));
+        userReadModel.onTaskCreated(new TaskCreatedEvent(10L, 1L, 2L, TaskStatus.TODO));
+        userReadModel.onTaskCreated(new TaskCreatedEvent(11L, 1L, null, TaskStatus.TODO));
+        userReadModel.onTaskAssigned(new TaskAssignedEvent(11L, null, 1L));
+        userReadModel.onTaskDeleted(new TaskDeletedEvent(10L, 1L, 2L, TaskStatus.TODO));
+        userReadModel.onUserUpdated(new UserUpdatedEvent(1L, "alice2", "alice2@example.com", User.Role.ADMIN));
+
+        UserResponse alice = userReadModel.findById(1L).orElseThrow();
+        assertEquals("alice2", alice.getUsername());
+        assertEquals(User.Role.ADMIN, alice.getRole());
+        assertEquals(1, alice.getCreatedTasksCount());
+        assertEquals(1, alice.getAssignedTasksCount());
+        assertEquals(0, userReadModel.findById(2L).orElseThrow().getAssignedTasksCount());
+        assertEquals(1, before.size());
+        assertEquals(2, userReadModel.findAll().size());
+    }
+
+    @Test
+    void findById_ShouldFillMissFromLoader() {
+        when(userRepository.findAllUserResponses(any(Sort.class))).thenReturn(List.of(user(1L, "alice", 0, 0)));
+        userReadModel.reload();
+
+        UserResponse bob = userReadModel.findById(2L, id -> Optional.of(user(id, "bob", 0, 0))).orElseThrow();
+
+        assertEquals("bob", bob.getUsername());
+        assertSame(bob, userReadModel.findById(2L).orElseThrow());
+        assertEquals(List.of(1L, 2L), userReadModel.findAll().stream().map(UserResponse::getId).toList());
+        assertTrue(userReadModel.findById(3L, id -> Optional.empty()).isEmpty());
+    }
+
+    @Test
+    void findById_ShouldNotFill_WhenUserChangesWhileLoading() {
+        when(userRepository.findAllUserResponses(any(Sort.class))).thenReturn(List.of());
+        userReadModel.reload();
+
+        UserResponse stale = userReadModel.findById(2L, id -> {
+            userReadModel.onTaskCreated(new TaskCreatedEvent(10L, 2L, null, TaskStatus.TODO));
+            return Optional.of(user(id, "bob", 0, 0));
+        }).orElseThrow();
+
+        assertEquals(0, stale.getCreatedTasksCount());
+        assertTrue(userReadModel.findById(2L).isEmpty());
+    }
+
+    @Test
+    void reload_ShouldMergeAndKeepChangesAppliedWhileReading() {
+        when(userRepository.findAllUserResponses(any(Sort.class)))
+                .thenReturn(List.of(user(1L, "alice", 0, 0), user(2L, "bob", 0, 0)))
+                .thenAnswer(invocation -> {
+                    userReadModel.onUserCreated(new UserCreatedEvent(3L, "dave", "dave@example.com", User.Role.USER));
+                    userReadModel.onTaskCreated(new TaskCreatedEvent(10L, 1L, null, TaskStatus.TODO));
+                    return List.of(user(1L, "alice", 0, 0));
+                });
+        when(userRepository.findUserResponseById(1L)).thenReturn(Optional.of(user(1L, "alice", 1, 0)));
+        when(userRepository.findUserResponseById(3L)).thenReturn(Optional.of(user(3L, "dave", 0, 0)));
+        userReadModel.reload();
+
+        userReadModel.reload();
+
+        assertEquals(1, userReadModel.findById(1L).orElseThrow().getCreatedTasksCount());
+        assertEquals("dave", userReadModel.findById(3L).orElseThrow().getUsername());
+        assertTrue(userReadModel.findById(2L).isEmpty());
+    }
+
+    @Test
+    void onUserDeleted_ShouldDropUserAndLeaveCountsToCascadedTaskEvents() {
+        when(userRepository.findAllUserResponses(any(Sort.class)))
+                .thenReturn(List.of(user(1L, "alice", 1, 0), user(2L, "bob", 0, 1)));
+        userReadModel.reload();
+
+        userReadModel.onTaskDeleted(new TaskDeletedEvent(10L, 1L, 2L, TaskStatus.TODO));
+        userReadModel.onUserDeleted(new UserDeletedEvent(2L));
+
+        assertTrue(userReadModel.findById(2L).isEmpty());
+        assertEquals(0, userReadModel.findById(1L).orElseThrow().getCreatedTasksCount());
+        assertEquals(List.of(1L), userReadModel.findAll().stream().map(UserResponse::getId).toList());
+        verify(userRepository, times(1)).findAllUserResponses(any(Sort.class));
+    }
+
+    @Test
+    void onCountersReconciled_ShouldReloadOnlyWhenCountersDrifted() {
+        userReadModel.onCountersReconciled(new CountersReconciledEvent(CounterReconciliationReport.builder().build()));
+
+        verifyNoInteractions(userRepository);
+        assertFalse(userReadModel.isLoaded());
+    }
+
+    private static UserResponse user(Long id, String username, int created, int assigned) {
+        return new UserResponse(id, username, username + "@example.com", User.Role.USER, created, assigned);
+    }
+}
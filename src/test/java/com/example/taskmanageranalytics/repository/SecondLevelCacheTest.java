@@ -0,0 +1,134 @@
+package com.example.taskmanageranalytics.repository;
+
+import com.example.taskmanageranalytics.config.CacheConfig;
+import com.example.taskmanageranalytics.entity.Task;
+import com.example.taskmanageranalytics.entity.User;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import(CacheConfig.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SecondLevelCacheTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private MeterBinder secondLevelCacheMetrics;
+
+    private TransactionTemplate transactionTemplate;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @AfterEach
+    void tearDown() {
+        transactionTemplate.executeWithoutResult(status -> {
+            taskRepository.deleteAll();
+            userRepository.deleteAll();
+        });
+    }
+
+    @Test
+    void findById_ShouldServeRepeatedLookupsFromCache() {
+        User user = saveUser("cached");
+        Task task = transactionTemplate.execute(status -> taskRepository.save(
+                Task.builder().title("Task").author(userRepository.getReferenceById(user.getId())).build()));
+        statistics.clear();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            userRepository.findById(user.getId()).orElseThrow();
+            taskRepository.findById(task.getId()).orElseThrow();
+        });
+
+        assertEquals(0, statistics.getPrepareStatementCount());
+        assertEquals(2, statistics.getSecondLevelCacheHitCount());
+    }
+
+    @Test
+    void findByUsername_ShouldResolveNaturalIdFromCacheAndFollowRenames() {
+        User user = saveUser("before");
+        statistics.clear();
+
+        User found = transactionTemplate.execute(status -> userRepository.findByUsername("before").orElseThrow());
+
+        assertEquals(user.getId(), found.getId());
+        assertEquals(0, statistics.getPrepareStatementCount());
+        assertEquals(1, statistics.getNaturalIdCacheHitCount());
+
+        transactionTemplate.executeWithoutResult(status ->
+                userRepository.findById(user.getId()).orElseThrow().setUsername("after"));
+
+        transactionTemplate.executeWithoutResult(status -> {
+            assertTrue(userRepository.findByUsername("before").isEmpty());
+            assertEquals("after", userRepository.findByUsername("after").orElseThrow().getUsername());
+            assertEquals("after", userRepository.findById(user.getId()).orElseThrow().getUsername());
+        });
+    }
+
+    @Test
+    void deleteById_ShouldEvictCachedUser() {
+        User user = saveUser("deleted");
+
+        transactionTemplate.executeWithoutResult(status -> userRepository.deleteById(user.getId()));
+
+        transactionTemplate.executeWithoutResult(status -> {
+            assertTrue(userRepository.findById(user.getId()).isEmpty());
+            assertTrue(userRepository.findByUsername("deleted").isEmpty());
+        });
+    }
+
+    @Test
+    void secondLevelCacheMetrics_ShouldExposeHitsPerRegion() {
+        User user = saveUser("measured");
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        secondLevelCacheMetrics.bindTo(registry);
+
+        transactionTemplate.executeWithoutResult(status -> userRepository.findById(user.getId()).orElseThrow());
+
+        double hits = registry.get("cache.gets")
+                .tag("cache", CacheConfig.USERS_REGION)
+                .tag("result", "hit")
+                .functionCounter()
+                .count();
+        assertTrue(hits >= 1);
+        assertNotNull(registry.find("cache.evictions").tag("cache", CacheConfig.TASKS_REGION).functionCounter());
+    }
+
+    private User saveUser(String username) {
+        return transactionTemplate.execute(status -> userRepository.save(User.builder()
+                .username(username)
+                .password("password")
+                .email(username + "@example.com")
+                .build()));
+    }
+}
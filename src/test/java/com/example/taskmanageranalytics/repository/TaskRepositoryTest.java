@@ -0,0 +1,178 @@
+package com.example.taskmanageranalytics.repository;
+
+import com.example.taskmanageranalytics.config.MetricsConfig;
+import com.example.taskmanageranalytics.dto.TaskFilter;
+import com.example.taskmanageranalytics.dto.TaskStatusView;
+import com.example.taskmanageranalytics.entity.Task;
+import com.example.taskmanageranalytics.entity.TaskStatus;
+import com.example.taskmanageranalytics.entity.User;
+import com.example.taskmanageranalytics.event.TaskDeletedEvent;
+import com.example.taskmanageranalytics.metrics.QueryBudget;
+import jakarta.persistence.PersistenceException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.transaction.TransactionManagerCustomizationAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@Import(MetricsConfig.class)
+@ImportAutoConfiguration(TransactionManagerCustomizationAutoConfiguration.class)
+class TaskRepositoryTest {
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private User author;
+
+    private User assignee;
+
+    @BeforeEach
+    void setUp() {
+        author = persistUser("author");
+        assignee = persistUser("assignee");
+        persistTask("first", TaskStatus.TODO, null);
+        persistTask("second", TaskStatus.IN_PROGRESS, assignee);
+        persistTask("third", TaskStatus.TODO, assignee);
+        persistTask("fourth", TaskStatus.DONE, assignee);
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void findBy_ShouldSeekPastCursorWithFilters() {
+        TaskFilter filter = TaskFilter.builder().assigneeId(assignee.getId()).build();
+        List<Task> firstPage = taskRepository.findBy(TaskSpecifications.matching(filter),
+                query -> query.sortBy(Sort.by("id")).limit(2).all());
+
+        assertEquals(List.of("second", "third"), firstPage.stream().map(Task::getTitle).toList());
+
+        Long cursor = firstPage.get(1).getId();
+        List<Task> secondPage = taskRepository.findBy(
+                TaskSpecifications.matching(filter).and(TaskSpecifications.idGreaterThan(cursor)),
+                query -> query.sortBy(Sort.by("id")).limit(2).all());
+
+        assertEquals(List.of("fourth"), secondPage.stream().map(Task::getTitle).toList());
+    }
+
+    @Test
+    void streamAll_ShouldStreamMatchingTasksInIdOrder() {
+        TaskFilter filter = TaskFilter.builder()
+                .status(TaskStatus.TODO)
+                .authorId(author.getId())
+                .build();
+
+        try (Stream<Task> tasks = taskRepository.streamAll(filter)) {
+            assertEquals(List.of("first", "third"), tasks.map(Task::getTitle).toList());
+        }
+    }
+
+    @Test
+    void streamAll_ShouldStreamEverything_WhenFilterIsEmpty() {
+        try (Stream<Task> tasks = taskRepository.streamAll(new TaskFilter())) {
+            assertEquals(4, tasks.count());
+        }
+    }
+
+    @Test
+    @QueryBudget(value = 2, maxRepeats = 1)
+    void lockForTransition_ShouldReturnOnlyTasksNotYetInTargetStatus() {
+        List<Long> ids = taskRepository.findAll(Sort.by("id")).stream().map(Task::getId).toList();
+
+        List<TaskStatusView> tasks = taskRepository.lockForTransition(ids, TaskStatus.DONE);
+
+        assertEquals(ids.subList(0, 3), tasks.stream().map(TaskStatusView::getId).toList());
+        assertEquals(List.of(TaskStatus.TODO, TaskStatus.IN_PROGRESS, TaskStatus.TODO),
+                tasks.stream().map(TaskStatusView::getStatus).toList());
+        assertNull(tasks.get(0).getAssigneeId());
+        assertEquals(assignee.getId(), tasks.get(1).getAssigneeId());
+        assertEquals(author.getId(), tasks.get(1).getAuthorId());
+    }
+
+    @Test
+    void findDeletedWithUser_ShouldDescribeTasksAuthoredOrAssigned() {
+        User outsider = persistUser("outsider");
+        persistTask("fifth", TaskStatus.TODO, outsider);
+        entityManager.flush();
+
+        List<TaskDeletedEvent> authored = taskRepository.findDeletedWithUser(author.getId());
+        List<TaskDeletedEvent> assigned = taskRepository.findDeletedWithUser(assignee.getId());
+
+        assertEquals(5, authored.size());
+        assertTrue(authored.stream().anyMatch(event -> event.getAssigneeId() == null
+                && event.getStatus() == TaskStatus.TODO));
+        assertEquals(3, assigned.size());
+        assertTrue(assigned.stream().allMatch(event -> author.getId().equals(event.getAuthorId())
+                && assignee.getId().equals(event.getAssigneeId())));
+    }
+
+    @Test
+    void status_ShouldBeRequired() {
+        Long id = taskRepository.findAll(Sort.by("id")).get(0).getId();
+
+        assertThrows(PersistenceException.class, () -> entityManager.getEntityManager()
+                .createNativeQuery("update task set status = null where id = :id")
+                .setParameter("id", id)
+                .executeUpdate());
+    }
+
+    @Test
+    void transitionAll_ShouldUpdateStatusTimestampsAndVersion() {
+        List<Task> before = taskRepository.findAll(Sort.by("id"));
+        entityManager.clear();
+        LocalDateTime now = LocalDateTime.now().withNano(0);
+
+        int updated = taskRepository.transitionAll(List.of(before.get(0).getId(), before.get(1).getId()),
+                TaskStatus.DONE, null, now, now);
+
+        assertEquals(2, updated);
+        List<Task> after = taskRepository.findAll(Sort.by("id"));
+        assertEquals(TaskStatus.DONE, after.get(0).getStatus());
+        assertEquals(now, after.get(0).getCompletedAt());
+        assertNull(after.get(0).getStartedAt());
+        assertEquals(before.get(0).getVersion() + 1, after.get(0).getVersion());
+        assertEquals(TaskStatus.TODO, after.get(2).getStatus());
+        assertEquals(before.get(2).getVersion(), after.get(2).getVersion());
+    }
+
+    @Test
+    void transitionAll_ShouldKeepExistingStartedAt() {
+        Long id = taskRepository.findAll(Sort.by("id")).get(0).getId();
+        LocalDateTime firstStart = LocalDateTime.now().minusDays(1).withNano(0);
+        taskRepository.transitionAll(List.of(id), TaskStatus.IN_PROGRESS, firstStart, null, firstStart);
+
+        taskRepository.transitionAll(List.of(id), TaskStatus.IN_PROGRESS, firstStart.plusDays(1), null, firstStart);
+
+        assertEquals(firstStart, taskRepository.findById(id).orElseThrow().getStartedAt());
+    }
+
+    private User persistUser(String username) {
+        return entityManager.persist(User.builder()
+                .username(username)
+                .email(username + "@example.com")
+                .password("encodedPassword")
+                .build());
+    }
+
+    private void persistTask(String title, TaskStatus status, User taskAssignee) {
+        entityManager.persist(Task.builder()
+                .title(title)
+                .status(status)
+                .author(author)
+                .assignee(taskAssignee)
+                .build());
+    }
+}
@@ -0,0 +1,125 @@
+package com.example.taskmanageranalytics.repository;
+
+import com.example.taskmanageranalytics.dto.StatusTransitionView;
+import com.example.taskmanageranalytics.dto.TaskStatusHistoryResponse;
+import com.example.taskmanageranalytics.entity.Task;
+import com.example.taskmanageranalytics.entity.TaskStatus;
+import com.example.taskmanageranalytics.entity.TaskStatusHistory;
+import com.example.taskmanageranalytics.entity.User;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+class TaskStatusHistoryRepositoryTest {
+
+    @Autowired
+    private TaskStatusHistoryRepository taskStatusHistoryRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Test
+    void findTransitionsAfter_ShouldReturnTransitionsPastWatermarkInChangedAtOrder() {
+        User user = entityManager.persist(User.builder()
+                .username("user")
+                .email("user@example.com")
+                .password("encodedPassword")
+                .build());
+        Task task = entityManager.persist(Task.builder().title("Task").author(user).build());
+        task.changeStatus(TaskStatus.IN_PROGRESS, user);
+        task.changeStatus(TaskStatus.DONE, user);
+        task.changeStatus(TaskStatus.TODO, user);
+        entityManager.flush();
+        entityManager.clear();
+
+        LocalDateTime start = LocalDateTime.of(1970, 1, 1, 0, 0);
+        List<StatusTransitionView> all = taskStatusHistoryRepository.findTransitionsAfter(
+                start, 0, LocalDateTime.now().plusMinutes(1), Limit.of(10));
+        assertEquals(3, all.size());
+        assertEquals(TaskStatus.TODO, all.get(0).getOldStatus());
+        assertEquals(user.getId(), all.get(0).getChangedById());
+
+        List<StatusTransitionView> afterFirst = taskStatusHistoryRepository.findTransitionsAfter(
+                all.get(0).getChangedAt(), all.get(0).getId(), LocalDateTime.now().plusMinutes(1), Limit.of(1));
+        assertEquals(1, afterFirst.size());
+        assertEquals(TaskStatus.DONE, afterFirst.get(0).getNewStatus());
+
+        assertTrue(taskStatusHistoryRepository.findTransitionsAfter(
+                start, 0, LocalDateTime.now().minusMinutes(1), Limit.of(10)).isEmpty());
+    }
+
+    @Test
+    void keysetQueries_ShouldPageThroughEqualTimestampsByIdDescending() {
+        User user = entityManager.persist(User.builder()
+                .username("user")
+                .email("user@example.com")
+                .password("encodedPassword")
+                .build());
+        Task task = entityManager.persist(Task.builder().title("Task").author(user).build());
+        Task other = entityManager.persist(Task.builder().title("Other").author(user).build());
+        task.changeStatus(TaskStatus.IN_PROGRESS, user);
+        task.changeStatus(TaskStatus.DONE, user);
+        task.changeStatus(TaskStatus.TODO, user);
+        other.changeStatus(TaskStatus.IN_PROGRESS, user);
+        entityManager.flush();
+        LocalDateTime changedAt = LocalDateTime.of(2024, 5, 1, 12, 0);
+        entityManager.getEntityManager()
+                .createNativeQuery("update task_status_history set changed_at = :changedAt")
+                .setParameter("changedAt", changedAt)
+                .executeUpdate();
+        entityManager.clear();
+
+        List<TaskStatusHistory> first = taskStatusHistoryRepository.findByTaskIdOrderByChangedAtDescIdDesc(
+                task.getId(), Limit.of(2));
+        assertEquals(TaskStatus.TODO, first.get(0).getNewStatus());
+        assertEquals(TaskStatus.DONE, first.get(1).getNewStatus());
+
+        List<TaskStatusHistory> rest = taskStatusHistoryRepository.findByTaskIdBefore(
+                task.getId(), changedAt, first.get(1).getId(), Limit.of(2));
+        assertEquals(1, rest.size());
+        assertEquals(TaskStatus.IN_PROGRESS, rest.get(0).getNewStatus());
+
+        List<TaskStatusHistory> all = taskStatusHistoryRepository.findByOrderByChangedAtDescIdDesc(Limit.of(10));
+        assertEquals(4, all.size());
+        assertEquals(other.getId(), all.get(0).getTask().getId());
+        assertEquals(all.subList(1, 4), taskStatusHistoryRepository.findBefore(changedAt, all.get(0).getId(), Limit.of(10)));
+    }
+
+    @Test
+    void streamHistory_ShouldReadRowsOldestFirst() {
+        User user = entityManager.persist(User.builder()
+                .username("user")
+                .email("user@example.com")
+                .password("encodedPassword")
+                .build());
+        Task task = entityManager.persist(Task.builder().title("Task").author(user).build());
+        Task other = entityManager.persist(Task.builder().title("Other").author(user).build());
+        task.changeStatus(TaskStatus.IN_PROGRESS, user);
+        task.changeStatus(TaskStatus.DONE, user);
+        other.changeStatus(TaskStatus.IN_PROGRESS, user);
+        entityManager.flush();
+
+        List<TaskStatusHistoryResponse> rows = new ArrayList<>();
+        taskStatusHistoryRepository.streamHistory(task.getId(), rows::add);
+
+        assertEquals(2, rows.size());
+        assertEquals(TaskStatus.TODO, rows.get(0).getOldStatus());
+        assertEquals(TaskStatus.DONE, rows.get(1).getNewStatus());
+        assertEquals(task.getId(), rows.get(1).getTaskId());
+        assertEquals(user.getId(), rows.get(1).getChangedById());
+        assertNotNull(rows.get(1).getChangedAt());
+
+        rows.clear();
+        taskStatusHistoryRepository.streamHistory(null, rows::add);
+        assertEquals(3, rows.size());
+    }
+}
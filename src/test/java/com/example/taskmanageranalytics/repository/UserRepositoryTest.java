@@ -0,0 +1,159 @@
+package com.example.taskmanageranalytics.repository;
+
+import com.example.taskmanageranalytics.dto.UserResponse;
+import com.example.taskmanageranalytics.entity.Task;
+import com.example.taskmanageranalytics.entity.User;
+import com.example.taskmanageranalytics.entity.UserTaskCounters;
+import org.hibernate.SessionFactory;
+import org.hibernate.exception.ConstraintViolationException;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class UserRepositoryTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private Statistics statistics;
+
+    private int userSequence;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+    }
+
+    @Test
+    void findAllUserResponses_ShouldReadTaskCounters() {
+        User author = persistUser();
+        User assignee = persistUser();
+        persistTask(author, assignee);
+        persistTask(author, null);
+        entityManager.flush();
+        entityManager.clear();
+
+        List<UserResponse> users = userRepository.findAllUserResponses(Sort.by("id"));
+
+        assertEquals(2, users.size());
+        assertEquals(author.getId(), users.get(0).getId());
+        assertEquals(2, users.get(0).getCreatedTasksCount());
+        assertEquals(0, users.get(0).getAssignedTasksCount());
+        assertEquals(0, users.get(1).getCreatedTasksCount());
+        assertEquals(1, users.get(1).getAssignedTasksCount());
+    }
+
+    @Test
+    void findAllUserResponses_ShouldIssueConstantStatementCount_WhenUsersGrow() {
+        seedUsersWithTasks(3);
+        long smallListStatements = countStatements(() -> userRepository.findAllUserResponses(Sort.by("id")));
+
+        seedUsersWithTasks(30);
+        long largeListStatements = countStatements(() -> userRepository.findAllUserResponses(Sort.by("id")));
+
+        assertEquals(1, smallListStatements);
+        assertEquals(smallListStatements, largeListStatements);
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertEquals(0, statistics.getCollectionFetchCount());
+    }
+
+    @Test
+    void findAllUserResponses_ShouldReturnPageWithoutLoadingEntities() {
+        seedUsersWithTasks(25);
+
+        long statements = countStatements(() -> {
+            Page<UserResponse> page = userRepository.findAllUserResponses(PageRequest.of(1, 10, Sort.by("id")));
+            assertEquals(10, page.getContent().size());
+            assertEquals(25, page.getTotalElements());
+            page.getContent().forEach(user -> assertEquals(1, user.getCreatedTasksCount()));
+        });
+
+        assertEquals(2, statements);
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    void findConflictingFields_ShouldNameTakenFieldsOfOtherUsers() {
+        User first = persistUser();
+        User second = persistUser();
+        entityManager.flush();
+
+        assertEquals(List.of(), userRepository.findConflictingFields("free", "free@example.com", null));
+        assertEquals(List.of("username"), userRepository.findConflictingFields(first.getUsername(), null, null));
+        assertEquals(List.of("email"), userRepository.findConflictingFields("free", second.getEmail(), null));
+        assertEquals(List.of(), userRepository.findConflictingFields(first.getUsername(), first.getEmail(), first.getId()));
+    }
+
+    @Test
+    void saveAndFlush_ShouldRejectDuplicateEmailWithNamedConstraint() {
+        User existing = persistUser();
+        entityManager.flush();
+
+        DataIntegrityViolationException exception = assertThrows(DataIntegrityViolationException.class,
+                () -> userRepository.saveAndFlush(User.builder()
+                        .username("another")
+                        .email(existing.getEmail())
+                        .password("encodedPassword")
+                        .build()));
+
+        ConstraintViolationException violation = assertInstanceOf(ConstraintViolationException.class, exception.getCause());
+        assertTrue(violation.getConstraintName().toLowerCase().contains(User.EMAIL_CONSTRAINT));
+    }
+
+    private long countStatements(Runnable query) {
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+        query.run();
+        return statistics.getPrepareStatementCount();
+    }
+
+    private void seedUsersWithTasks(int count) {
+        for (int i = 0; i < count; i++) {
+            User user = persistUser();
+            persistTask(user, user);
+        }
+    }
+
+    private User persistUser() {
+        int n = ++userSequence;
+        User user = entityManager.persist(User.builder()
+                .username("user" + n)
+                .email("user" + n + "@example.com")
+                .password("encodedPassword")
+                .build());
+        entityManager.persist(UserTaskCounters.builder().user(user).build());
+        return user;
+    }
+
+    private void persistTask(User author, User assignee) {
+        entityManager.persist(Task.builder()
+                .title("Task of " + author.getUsername())
+                .author(author)
+                .assignee(assignee)
+                .build());
+        UserTaskCounters authorCounters = entityManager.find(UserTaskCounters.class, author.getId());
+        authorCounters.setCreatedTasksCount(authorCounters.getCreatedTasksCount() + 1);
+        if (assignee != null) {
+            UserTaskCounters assigneeCounters = entityManager.find(UserTaskCounters.class, assignee.getId());
+            assigneeCounters.setAssignedTasksCount(assigneeCounters.getAssignedTasksCount() + 1);
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.taskmanageranalytics.repository;
+
+import com.example.taskmanageranalytics.entity.Task;
+import com.example.taskmanageranalytics.entity.User;
+import com.example.taskmanageranalytics.entity.UserTaskCounters;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+class UserTaskCountersRepositoryTest {
+
+    @Autowired
+    private UserTaskCountersRepository userTaskCountersRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Test
+    void adjustCounters_ShouldApplyDelta() {
+        User user = persistUser("author", true);
+
+        assertEquals(1, userTaskCountersRepository.adjustCreatedTasksCount(user.getId(), 2));
+        assertEquals(1, userTaskCountersRepository.adjustAssignedTasksCount(user.getId(), 1));
+        entityManager.clear();
+
+        UserTaskCounters counters = userTaskCountersRepository.findById(user.getId()).orElseThrow();
+        assertEquals(2, counters.getCreatedTasksCount());
+        assertEquals(1, counters.getAssignedTasksCount());
+    }
+
+    @Test
+    void reconcile_ShouldRebuildDriftedAndMissingCounters() {
+        User author = persistUser("author", true);
+        User assignee = persistUser("assignee", false);
+        persistTask(author, assignee);
+        persistTask(author, null);
+        entityManager.flush();
+
+        assertEquals(1, userTaskCountersRepository.insertMissingCounters());
+        assertEquals(1, userTaskCountersRepository.reconcileCreatedTasksCounts());
+        assertEquals(1, userTaskCountersRepository.reconcileAssignedTasksCounts());
+        entityManager.clear();
+
+        assertEquals(2, userTaskCountersRepository.findById(author.getId()).orElseThrow().getCreatedTasksCount());
+        assertEquals(1, userTaskCountersRepository.findById(assignee.getId()).orElseThrow().getAssignedTasksCount());
+        assertEquals(0, userTaskCountersRepository.reconcileCreatedTasksCounts());
+        assertEquals(0, userTaskCountersRepository.reconcileAssignedTasksCounts());
+    }
+
+    @Test
+    void releaseAssignmentsOfAuthor_ShouldDecrementAssigneesOfAuthoredTasks() {
+        User author = persistUser("author", true);
+        User assignee = persistUser("assignee", true);
+        persistTask(author, assignee);
+        persistTask(author, assignee);
+        userTaskCountersRepository.adjustAssignedTasksCount(assignee.getId(), 2);
+
+        userTaskCountersRepository.releaseAssignmentsOfAuthor(author.getId());
+        entityManager.clear();
+
+        assertEquals(0, userTaskCountersRepository.findById(assignee.getId()).orElseThrow().getAssignedTasksCount());
+    }
+
+    private User persistUser(String username, boolean withCounters) {
+        User user = entityManager.persist(User.builder()
+                .username(username)
+                .email(username + "@example.com")
+                .password("encodedPassword")
+                .build());
+        if (withCounters) {
+            entityManager.persist(UserTaskCounters.builder().user(user).build());
+        }
+        return user;
+    }
+
+    private void persistTask(User author, User assignee) {
+        entityManager.persist(Task.builder()
+                .title("Task")
+                .author(author)
+                .assignee(assignee)
+                .build());
+    }
+}
@@ -0,0 +1,100 @@
+package com.example.taskmanageranalytics.search;
+
+import com.example.taskmanageranalytics.entity.Task;
+import com.example.taskmanageranalytics.entity.TaskStatus;
+import com.example.taskmanageranalytics.event.TaskContentChangedEvent;
+import com.example.taskmanageranalytics.event.TaskDeletedEvent;
+import com.example.taskmanageranalytics.service.TaskService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class LuceneTaskSearchIndexTest {
+
+    @TempDir
+    Path directory;
+
+    private final TaskService taskService = mock(TaskService.class);
+
+    @Test
+    void search_ShouldMatchPrefixesAndTyposAndRankTitlesFirst() throws Exception {
+        LuceneTaskSearchIndex index = new LuceneTaskSearchIndex(taskService, directory);
+        index.onTaskContentChanged(new TaskContentChangedEvent(1L, "Quarterly report", "Numbers for finance"));
+        index.onTaskContentChanged(new TaskContentChangedEvent(2L, "Finance sync", "Prepare the quarterly report"));
+        index.onTaskContentChanged(new TaskContentChangedEvent(3L, "Fix login page", null));
+        index.refresh();
+
+        assertEquals(List.of(1L, 2L), index.search("repo", 0, 10));
+        assertEquals(List.of(1L, 2L), index.search("quartrely reprot", 0, 10));
+        assertEquals(List.of(2L), index.search("quarterly report", 1, 10));
+        assertEquals(List.of(3L), index.search("LOGIN", 0, 10));
+        assertEquals(List.of(), index.search("report login", 0, 10));
+        assertEquals(List.of(), index.search("  ", 0, 10));
+        index.destroy();
+    }
+
+    @Test
+    void events_ShouldReplaceAndRemoveDocuments() throws Exception {
+        LuceneTaskSearchIndex index = new LuceneTaskSearchIndex(taskService, directory);
+        index.onTaskContentChanged(new TaskContentChangedEvent(1L, "Draft", null));
+        index.onTaskContentChanged(new TaskContentChangedEvent(1L, "Release notes", null));
+        index.onTaskContentChanged(new TaskContentChangedEvent(2L, "Release build", null));
+        index.onTaskDeleted(new TaskDeletedEvent(2L, null, null, TaskStatus.TODO));
+        index.refresh();
+
+        assertEquals(List.of(), index.search("draft", 0, 10));
+        assertEquals(List.of(1L), index.search("release", 0, 10));
+        index.destroy();
+    }
+
+    @Test
+    void rebuildIfNeeded_ShouldRebuildOnlyAfterUncleanShutdown() throws Exception {
+        doAnswer(invocation -> {
+            Consumer<Task> consumer = invocation.getArgument(1);
+            consumer.accept(Task.builder().id(4L).title("Imported task").build());
+            return null;
+        }).when(taskService).exportTasks(any(), any());
+
+        LuceneTaskSearchIndex fresh = new LuceneTaskSearchIndex(taskService, directory);
+        fresh.rebuildIfNeeded();
+        assertEquals(List.of(4L), fresh.search("imported", 0, 10));
+        fresh.destroy();
+
+        LuceneTaskSearchIndex reopened = new LuceneTaskSearchIndex(taskService, directory);
+        reopened.rebuildIfNeeded();
+        assertEquals(List.of(4L), reopened.search("imported", 0, 10));
+        verify(taskService, times(1)).exportTasks(any(), any());
+        reopened.destroy();
+    }
+
+    @Test
+    void rebuildIfNeeded_ShouldKeepChangesFromEventsHandledMeanwhile() throws Exception {
+        LuceneTaskSearchIndex index = new LuceneTaskSearchIndex(taskService, directory);
+        doAnswer(invocation -> {
+            Consumer<Task> consumer = invocation.getArgument(1);
+            index.onTaskContentChanged(new TaskContentChangedEvent(1L, "Renamed task", null));
+            index.onTaskDeleted(new TaskDeletedEvent(2L, null, null, TaskStatus.TODO));
+            consumer.accept(Task.builder().id(1L).title("Original task").build());
+            consumer.accept(Task.builder().id(2L).title("Removed task").build());
+            consumer.accept(Task.builder().id(3L).title("Untouched task").build());
+            return null;
+        }).when(taskService).exportTasks(any(), any());
+
+        index.rebuildIfNeeded();
+        index.onTaskContentChanged(new TaskContentChangedEvent(3L, "Edited task", null));
+        index.refresh();
+
+        assertEquals(List.of(1L), index.search("renamed", 0, 10));
+        assertEquals(List.of(), index.search("original", 0, 10));
+        assertEquals(List.of(), index.search("removed", 0, 10));
+        assertEquals(List.of(3L), index.search("edited", 0, 10));
+        index.destroy();
+    }
+}
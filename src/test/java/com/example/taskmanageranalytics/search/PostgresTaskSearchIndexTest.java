@@ -0,0 +1,64 @@
+package com.example.taskmanageranalytics.search;
+
+import com.example.taskmanageranalytics.event.TaskContentChangedEvent;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementSetter;
+
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class PostgresTaskSearchIndexTest {
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+
+    private final PostgresTaskSearchIndex index = new PostgresTaskSearchIndex(jdbcTemplate, 5000, 3, 0.5);
+
+    @Test
+    void collectWords_ShouldAddWordsOfChangedTasksOnceAfterCommit() throws Exception {
+        index.onTaskContentChanged(new TaskContentChangedEvent(1L, "Quarterly report", null));
+        index.onTaskContentChanged(new TaskContentChangedEvent(2L, "Finance sync", null));
+        index.onTaskContentChanged(new TaskContentChangedEvent(1L, "Quarterly reports", null));
+
+        index.collectWords();
+        index.collectWords();
+
+        ArgumentCaptor<PreparedStatementSetter> setter = ArgumentCaptor.forClass(PreparedStatementSetter.class);
+        verify(jdbcTemplate, times(1)).update(contains("task_search_words"), setter.capture());
+        PreparedStatement statement = mock(PreparedStatement.class);
+        Connection connection = mock(Connection.class);
+        when(statement.getConnection()).thenReturn(connection);
+        when(connection.createArrayOf(eq("bigint"), any())).thenReturn(mock(Array.class));
+        setter.getValue().setValues(statement);
+        ArgumentCaptor<Object[]> ids = ArgumentCaptor.forClass(Object[].class);
+        verify(connection).createArrayOf(eq("bigint"), ids.capture());
+        assertEquals(2, ids.getValue().length);
+    }
+
+    @Test
+    void collectWords_ShouldKeepTasksForNextRun_WhenInsertFails() {
+        index.onTaskContentChanged(new TaskContentChangedEvent(1L, "Quarterly report", null));
+        when(jdbcTemplate.update(anyString(), any(PreparedStatementSetter.class)))
+                .thenThrow(new DataAccessResourceFailureException("down"))
+                .thenReturn(3);
+
+        assertThrows(DataAccessResourceFailureException.class, index::collectWords);
+        index.collectWords();
+
+        verify(jdbcTemplate, times(2)).update(anyString(), any(PreparedStatementSetter.class));
+    }
+
+    @Test
+    void terms_ShouldSplitLowercaseAndDeduplicate() {
+        assertEquals(List.of("quarterly", "report", "q3"), PostgresTaskSearchIndex.terms("Quarterly REPORT, report q3"));
+        assertEquals("'it''s'", PostgresTaskSearchIndex.quote("it's"));
+    }
+}
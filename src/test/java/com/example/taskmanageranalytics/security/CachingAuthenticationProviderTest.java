@@ -0,0 +1,69 @@
+package com.example.taskmanageranalytics.security;
+
+import com.example.taskmanageranalytics.entity.User;
+import com.example.taskmanageranalytics.event.UserUpdatedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class CachingAuthenticationProviderTest {
+
+    private AuthenticationProvider delegate;
+    private CachingAuthenticationProvider provider;
+    private Authentication verified;
+
+    @BeforeEach
+    void setUp() {
+        delegate = mock(AuthenticationProvider.class);
+        provider = new CachingAuthenticationProvider(delegate, Duration.ofMinutes(1), 100);
+        AccountPrincipal principal = new AccountPrincipal(1L, "alice", "hash", List.of());
+        verified = UsernamePasswordAuthenticationToken.authenticated(principal, null, List.of());
+    }
+
+    @Test
+    void authenticate_ShouldVerifyPasswordOnlyOnce_ForRepeatedLogins() {
+        when(delegate.authenticate(any())).thenReturn(verified);
+
+        assertSame(verified, provider.authenticate(login("alice", "secret")));
+        assertSame(verified, provider.authenticate(login("alice", "secret")));
+
+        verify(delegate, times(1)).authenticate(any());
+    }
+
+    @Test
+    void authenticate_ShouldFallThrough_WhenPasswordDiffers() {
+        when(delegate.authenticate(any())).thenReturn(verified);
+        provider.authenticate(login("alice", "secret"));
+        when(delegate.authenticate(any())).thenThrow(new BadCredentialsException("Bad credentials"));
+
+        assertThrows(BadCredentialsException.class, () -> provider.authenticate(login("alice", "guess")));
+
+        verify(delegate, times(2)).authenticate(any());
+    }
+
+    @Test
+    void onUserUpdated_ShouldForgetVerifiedLogins() {
+        when(delegate.authenticate(any())).thenReturn(verified);
+        provider.authenticate(login("alice", "secret"));
+
+        provider.onUserUpdated(new UserUpdatedEvent(1L, "alice", "alice@example.com", User.Role.USER));
+        provider.authenticate(login("alice", "secret"));
+
+        verify(delegate, times(2)).authenticate(any());
+    }
+
+    private static Authentication login(String username, String password) {
+        return UsernamePasswordAuthenticationToken.unauthenticated(username, password);
+    }
+}
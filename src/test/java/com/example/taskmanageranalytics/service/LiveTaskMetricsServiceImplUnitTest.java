@@ -0,0 +1,158 @@
+package com.example.taskmanageranalytics.service;
+
+import com.example.taskmanageranalytics.dto.LiveMetricsSnapshot;
+import com.example.taskmanageranalytics.dto.MetricsWindow;
+import com.example.taskmanageranalytics.dto.StatusTransitionView;
+import com.example.taskmanageranalytics.entity.TaskStatus;
+import com.example.taskmanageranalytics.event.TaskCreatedEvent;
+import com.example.taskmanageranalytics.event.TaskStatusChangedEvent;
+import com.example.taskmanageranalytics.repository.TaskRepository;
+import com.example.taskmanageranalytics.repository.TaskStatusHistoryRepository;
+import com.example.taskmanageranalytics.service.impl.LiveTaskMetricsServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.*;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class LiveTaskMetricsServiceImplUnitTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2026, 3, 4, 10, 0, 0);
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private TaskStatusHistoryRepository taskStatusHistoryRepository;
+
+    @Mock
+    private TaskAnalyticsService taskAnalyticsService;
+
+    @Mock
+    private Clock clock;
+
+    private LiveTaskMetricsServiceImpl liveTaskMetricsService;
+
+    @BeforeEach
+    void setUp() {
+        setNow(START);
+        liveTaskMetricsService = new LiveTaskMetricsServiceImpl(
+                taskRepository, taskStatusHistoryRepository, taskAnalyticsService, clock);
+    }
+
+    @Test
+    void snapshot_ShouldCountEventsWithinEachWindow() {
+        liveTaskMetricsService.onTaskCreated(new TaskCreatedEvent(1L, 1L, null, TaskStatus.TODO));
+        liveTaskMetricsService.onTaskStatusChanged(statusChanged(TaskStatus.TODO, TaskStatus.IN_PROGRESS, START));
+
+        setNow(START.plusSeconds(90));
+        liveTaskMetricsService.onTaskStatusChanged(
+                statusChanged(TaskStatus.IN_PROGRESS, TaskStatus.DONE, START.plusSeconds(90)));
+
+        LiveMetricsSnapshot lastMinute = liveTaskMetricsService.snapshot(MetricsWindow.ONE_MINUTE);
+        assertEquals(0, lastMinute.getTasksCreated());
+        assertEquals(1, lastMinute.getTransitions());
+        assertEquals(1, lastMinute.getTransitionsInto().get(TaskStatus.DONE));
+        assertEquals(1 / 60.0, lastMinute.getTransitionsPerSecond(), 1e-9);
+
+        LiveMetricsSnapshot lastFiveMinutes = liveTaskMetricsService.snapshot(MetricsWindow.FIVE_MINUTES);
+        assertEquals(1, lastFiveMinutes.getTasksCreated());
+        assertEquals(2, lastFiveMinutes.getTransitions());
+        assertEquals(Map.of(TaskStatus.TODO, 0L, TaskStatus.IN_PROGRESS, 0L, TaskStatus.DONE, 1L),
+                lastFiveMinutes.getCurrentStatusCounts());
+    }
+
+    @Test
+    void snapshot_ShouldForgetEventsOlderThanTheWindow() {
+        liveTaskMetricsService.onTaskCreated(new TaskCreatedEvent(1L, 1L, null, TaskStatus.TODO));
+
+        setNow(START.plusMinutes(61));
+
+        assertEquals(0, liveTaskMetricsService.snapshot(MetricsWindow.ONE_HOUR).getTasksCreated());
+        assertEquals(1, liveTaskMetricsService.snapshot(MetricsWindow.ONE_HOUR)
+                .getCurrentStatusCounts().get(TaskStatus.TODO));
+    }
+
+    @Test
+    void rebuild_ShouldReplayLastHourAndLoadStatusDistribution() {
+        when(taskAnalyticsService.getStatusDistribution())
+                .thenReturn(Map.of(TaskStatus.TODO, 3L, TaskStatus.IN_PROGRESS, 2L, TaskStatus.DONE, 5L));
+        when(taskRepository.streamCreatedAtSince(any(LocalDateTime.class)))
+                .thenReturn(Stream.of(START.minusMinutes(2), START.minusMinutes(30)));
+        when(taskStatusHistoryRepository.streamTransitionsSince(any(LocalDateTime.class)))
+                .thenReturn(Stream.of(transition(TaskStatus.IN_PROGRESS, START.minusSeconds(10))));
+
+        liveTaskMetricsService.rebuild();
+
+        LiveMetricsSnapshot lastMinute = liveTaskMetricsService.snapshot(MetricsWindow.ONE_MINUTE);
+        assertEquals(0, lastMinute.getTasksCreated());
+        assertEquals(1, lastMinute.getTransitionsInto().get(TaskStatus.IN_PROGRESS));
+        assertEquals(2, lastMinute.getCurrentStatusCounts().get(TaskStatus.IN_PROGRESS));
+        assertEquals(2, liveTaskMetricsService.snapshot(MetricsWindow.ONE_HOUR).getTasksCreated());
+    }
+
+    @Test
+    void rebuild_ShouldKeepEventsHandledWhileLoading() {
+        liveTaskMetricsService.onTaskCreated(new TaskCreatedEvent(1L, 1L, null, TaskStatus.TODO));
+        when(taskAnalyticsService.getStatusDistribution()).thenAnswer(invocation -> {
+            liveTaskMetricsService.onTaskCreated(new TaskCreatedEvent(2L, 1L, null, TaskStatus.TODO));
+            return Map.of(TaskStatus.TODO, 3L, TaskStatus.DONE, 5L);
+        });
+        when(taskRepository.streamCreatedAtSince(any(LocalDateTime.class))).thenReturn(Stream.of(START));
+        when(taskStatusHistoryRepository.streamTransitionsSince(any(LocalDateTime.class)))
+                .thenReturn(Stream.empty());
+
+        liveTaskMetricsService.rebuild();
+
+        LiveMetricsSnapshot lastMinute = liveTaskMetricsService.snapshot(MetricsWindow.ONE_MINUTE);
+        assertEquals(Map.of(TaskStatus.TODO, 4L, TaskStatus.IN_PROGRESS, 0L, TaskStatus.DONE, 5L),
+                lastMinute.getCurrentStatusCounts());
+        assertEquals(2, lastMinute.getTasksCreated());
+    }
+
+    private void setNow(LocalDateTime now) {
+        lenient().when(clock.instant()).thenReturn(now.toInstant(ZoneOffset.UTC));
+        lenient().when(clock.getZone()).thenReturn(ZoneOffset.UTC);
+    }
+
+    private static TaskStatusChangedEvent statusChanged(TaskStatus from, TaskStatus to, LocalDateTime changedAt) {
+        return new TaskStatusChangedEvent(1L, 1L, null, 1L, from, to, changedAt, START, null, null);
+    }
+
+    private static StatusTransitionView transition(TaskStatus newStatus, LocalDateTime changedAt) {
+        return new Transition(1L, TaskStatus.TODO, newStatus, 1L, changedAt);
+    }
+
+    private record Transition(Long id, TaskStatus oldStatus, TaskStatus newStatus, Long changedById,
+                              LocalDateTime changedAt) implements StatusTransitionView {
+        public Long getId() {
+            return id;
+        }
+
+        public TaskStatus getOldStatus() {
+            return oldStatus;
+        }
+
+        public TaskStatus getNewStatus() {
+            return newStatus;
+        }
+
+        public Long getChangedById() {
+            return changedById;
+        }
+
+        public LocalDateTime getChangedAt() {
+            return changedAt;
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package com.example.taskmanageranalytics.service;
+
+import com.example.taskmanageranalytics.dto.StatusTransitionView;
+import com.example.taskmanageranalytics.dto.TransitionCount;
+import com.example.taskmanageranalytics.entity.RollupGranularity;
+import com.example.taskmanageranalytics.entity.RollupWatermark;
+import com.example.taskmanageranalytics.entity.TaskStatus;
+import com.example.taskmanageranalytics.repository.RollupWatermarkRepository;
+import com.example.taskmanageranalytics.repository.StatusTransitionRollupRepository;
+import com.example.taskmanageranalytics.repository.TaskStatusHistoryRepository;
+import com.example.taskmanageranalytics.service.impl.StatusTransitionRollupServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class StatusTransitionRollupServiceImplUnitTest {
+
+    @Mock
+    private TaskStatusHistoryRepository taskStatusHistoryRepository;
+
+    @Mock
+    private StatusTransitionRollupRepository statusTransitionRollupRepository;
+
+    @Mock
+    private RollupWatermarkRepository rollupWatermarkRepository;
+
+    @Spy
+    private TransactionOperations transactionOperations = TransactionOperations.withoutTransaction();
+
+    private StatusTransitionRollupServiceImpl statusTransitionRollupService;
+
+    @BeforeEach
+    void setUp() {
+        statusTransitionRollupService = new StatusTransitionRollupServiceImpl(taskStatusHistoryRepository,
+                statusTransitionRollupRepository, rollupWatermarkRepository, transactionOperations,
+                Clock.fixed(Instant.parse("2026-03-04T12:00:00Z"), ZoneOffset.UTC));
+    }
+
+    @Test
+    void compact_ShouldFoldTransitionsIntoEveryGranularityAndMoveWatermarkToWindowEnd() {
+        LocalDateTime changedAt = LocalDateTime.of(2026, 3, 4, 10, 15, 30);
+        RollupWatermark watermark = new RollupWatermark("status_transition_rollups", changedAt.minusHours(1), 10);
+
+        when(rollupWatermarkRepository.findForUpdate("status_transition_rollups")).thenReturn(Optional.of(watermark));
+        when(taskStatusHistoryRepository.findTransitionsAfter(eq(changedAt.minusHours(1)), eq(10L),
+                eq(LocalDateTime.of(2026, 3, 4, 11, 55)), any(Limit.class)))
+                .thenReturn(List.of(transition(12L, changedAt), transition(11L, changedAt.plusSeconds(10))));
+
+        int compacted = statusTransitionRollupService.compact();
+
+        assertEquals(2, compacted);
+        assertEquals(LocalDateTime.of(2026, 3, 4, 11, 55), watermark.getLastChangedAt(),
+                "an exhausted window is fully compacted");
+        assertEquals(0L, watermark.getLastHistoryId());
+        verify(statusTransitionRollupRepository).addToRollup("MINUTE", LocalDateTime.of(2026, 3, 4, 10, 15),
+                "TODO", "IN_PROGRESS", 7L, 2);
+        verify(statusTransitionRollupRepository).addToRollup("HOUR", LocalDateTime.of(2026, 3, 4, 10, 0),
+                "TODO", "IN_PROGRESS", 7L, 2);
+        verify(statusTransitionRollupRepository).addToRollup("DAY", LocalDateTime.of(2026, 3, 4, 0, 0),
+                "TODO", "IN_PROGRESS", 7L, 2);
+    }
+
+    @Test
+    void compact_ShouldContinueFromLastRowOfFullBatch() {
+        ReflectionTestUtils.setField(statusTransitionRollupService, "batchSize", 2);
+        LocalDateTime changedAt = LocalDateTime.of(2026, 3, 4, 10, 15, 30);
+        RollupWatermark watermark = new RollupWatermark("status_transition_rollups", changedAt.minusHours(1), 0);
+
+        when(rollupWatermarkRepository.findForUpdate("status_transition_rollups")).thenReturn(Optional.of(watermark));
+        when(taskStatusHistoryRepository.findTransitionsAfter(eq(changedAt.minusHours(1)), eq(0L),
+                any(LocalDateTime.class), any(Limit.class)))
+                .thenReturn(List.of(transition(20L, changedAt), transition(15L, changedAt.plusSeconds(1))));
+        when(taskStatusHistoryRepository.findTransitionsAfter(eq(changedAt.plusSeconds(1)), eq(15L),
+                any(LocalDateTime.class), any(Limit.class)))
+                .thenReturn(List.of(transition(9L, changedAt.plusSeconds(2))));
+
+        assertEquals(3, statusTransitionRollupService.compact());
+        assertEquals(0L, watermark.getLastHistoryId());
+    }
+
+    @Test
+    void compact_ShouldDoNothing_WhenNoNewTransitions() {
+        when(rollupWatermarkRepository.findForUpdate("status_transition_rollups"))
+                .thenReturn(Optional.of(new RollupWatermark("status_transition_rollups", LocalDateTime.of(2026, 1, 1, 0, 0), 10)));
+
+        assertEquals(0, statusTransitionRollupService.compact());
+        verifyNoInteractions(statusTransitionRollupRepository);
+    }
+
+    @Test
+    void compact_ShouldFail_WhenWatermarkWasNotSeeded() {
+        when(rollupWatermarkRepository.findForUpdate("status_transition_rollups")).thenReturn(Optional.empty());
+
+        assertThrows(IllegalStateException.class, () -> statusTransitionRollupService.compact());
+        verify(rollupWatermarkRepository, never()).save(any());
+    }
+
+    @Test
+    void getTransitionCounts_ShouldReadCoarsestBucketsThatFit() {
+        LocalDateTime from = LocalDateTime.of(2026, 3, 1, 22, 30);
+        LocalDateTime to = LocalDateTime.of(2026, 3, 4, 1, 15);
+
+        when(statusTransitionRollupRepository.sumTransitions(any(), any(), any())).thenAnswer(invocation -> {
+            long count = switch (invocation.<RollupGranularity>getArgument(0)) {
+                case DAY -> 40;
+                case HOUR -> 0;
+                case MINUTE -> 1;
+            };
+            return count == 0 ? List.of() : List.of(new TransitionCount(TaskStatus.TODO, TaskStatus.IN_PROGRESS, 7L, count));
+        });
+
+        List<TransitionCount> counts = statusTransitionRollupService.getTransitionCounts(from, to);
+
+        assertEquals(List.of(new TransitionCount(TaskStatus.TODO, TaskStatus.IN_PROGRESS, 7L, 42)), counts);
+        InOrder inOrder = inOrder(statusTransitionRollupRepository);
+        inOrder.verify(statusTransitionRollupRepository).sumTransitions(RollupGranularity.MINUTE,
+                from, LocalDateTime.of(2026, 3, 1, 23, 0));
+        inOrder.verify(statusTransitionRollupRepository).sumTransitions(RollupGranularity.HOUR,
+                LocalDateTime.of(2026, 3, 1, 23, 0), LocalDateTime.of(2026, 3, 2, 0, 0));
+        inOrder.verify(statusTransitionRollupRepository).sumTransitions(RollupGranularity.DAY,
+                LocalDateTime.of(2026, 3, 2, 0, 0), LocalDateTime.of(2026, 3, 4, 0, 0));
+        inOrder.verify(statusTransitionRollupRepository).sumTransitions(RollupGranularity.HOUR,
+                LocalDateTime.of(2026, 3, 4, 0, 0), LocalDateTime.of(2026, 3, 4, 1, 0));
+        inOrder.verify(statusTransitionRollupRepository).sumTransitions(RollupGranularity.MINUTE,
+                LocalDateTime.of(2026, 3, 4, 1, 0), to);
+        verifyNoMoreInteractions(statusTransitionRollupRepository);
+    }
+
+    private StatusTransitionView transition(Long id, LocalDateTime changedAt) {
+        return new Transition(id, TaskStatus.TODO, TaskStatus.IN_PROGRESS, 7L, changedAt);
+    }
+
+    private record Transition(Long getId, TaskStatus getOldStatus, TaskStatus getNewStatus,
+                              Long getChangedById, LocalDateTime getChangedAt) implements StatusTransitionView {
+    }
+}
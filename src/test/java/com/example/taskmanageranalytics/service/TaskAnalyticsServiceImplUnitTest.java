@@ -0,0 +1,151 @@
+package com.example.taskmanageranalytics.service;
+
+import com.example.taskmanageranalytics.dto.DurationStats;
+import com.example.taskmanageranalytics.dto.ThroughputPoint;
+import com.example.taskmanageranalytics.entity.TaskDailyStats;
+import com.example.taskmanageranalytics.entity.TaskDailyStatsId;
+import com.example.taskmanageranalytics.entity.TaskStatus;
+import com.example.taskmanageranalytics.entity.TaskStatusCount;
+import com.example.taskmanageranalytics.event.TaskCreatedEvent;
+import com.example.taskmanageranalytics.event.TaskStatusChangedEvent;
+import com.example.taskmanageranalytics.repository.TaskDailyStatsRepository;
+import com.example.taskmanageranalytics.repository.TaskStatusCountRepository;
+import com.example.taskmanageranalytics.service.impl.TaskAnalyticsServiceImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TaskAnalyticsServiceImplUnitTest {
+
+    private static final LocalDate DAY = LocalDate.of(2026, 3, 4);
+
+    @Mock
+    private TaskStatusCountRepository taskStatusCountRepository;
+
+    @Mock
+    private TaskDailyStatsRepository taskDailyStatsRepository;
+
+    @Spy
+    private TransactionOperations transactionOperations = TransactionOperations.withoutTransaction();
+
+    @InjectMocks
+    private TaskAnalyticsServiceImpl taskAnalyticsService;
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void getStatusDistribution_ShouldFillMissingStatusesWithZero() {
+        when(taskStatusCountRepository.findAll()).thenReturn(List.of(new TaskStatusCount(TaskStatus.TODO, 5)));
+
+        Map<TaskStatus, Long> distribution = taskAnalyticsService.getStatusDistribution();
+
+        assertEquals(Map.of(TaskStatus.TODO, 5L, TaskStatus.IN_PROGRESS, 0L, TaskStatus.DONE, 0L), distribution);
+    }
+
+    @Test
+    void getCompletedPerWeek_ShouldSumDaysOfSameWeek() {
+        when(taskDailyStatsRepository.findByIdUserIdAndIdStatDateBetweenOrderByIdStatDate(
+                TaskDailyStatsId.GLOBAL, DAY, DAY.plusDays(7)))
+                .thenReturn(List.of(dailyStats(DAY, 2, 0, 0, 0),
+                        dailyStats(DAY.plusDays(1), 3, 0, 0, 0),
+                        dailyStats(DAY.plusDays(6), 1, 0, 0, 0)));
+
+        List<ThroughputPoint> weeks = taskAnalyticsService.getCompletedPerWeek(DAY, DAY.plusDays(7), null);
+
+        assertEquals(List.of(new ThroughputPoint(LocalDate.of(2026, 3, 2), 5),
+                new ThroughputPoint(LocalDate.of(2026, 3, 9), 1)), weeks);
+    }
+
+    @Test
+    void getCycleTime_ShouldAverageOverStartedTasksOnly() {
+        when(taskDailyStatsRepository.findByIdUserIdAndIdStatDateBetweenOrderByIdStatDate(7L, DAY, DAY))
+                .thenReturn(List.of(dailyStats(DAY, 3, 900, 600, 2)));
+
+        DurationStats cycleTime = taskAnalyticsService.getCycleTime(DAY, DAY, 7L);
+        DurationStats leadTime = taskAnalyticsService.getLeadTime(DAY, DAY, 7L);
+
+        assertEquals(new DurationStats(2, Duration.ofSeconds(300)), cycleTime);
+        assertEquals(new DurationStats(3, Duration.ofSeconds(300)), leadTime);
+    }
+
+    @Test
+    void onTaskStatusChanged_ShouldWriteImmediately_WhenNoTransactionIsActive() {
+        LocalDateTime completedAt = DAY.atTime(12, 0);
+        taskAnalyticsService.onTaskStatusChanged(new TaskStatusChangedEvent(1L, 2L, 3L, 3L,
+                TaskStatus.IN_PROGRESS, TaskStatus.DONE, completedAt,
+                completedAt.minusHours(2), completedAt.minusHours(1), completedAt));
+
+        verify(taskStatusCountRepository).addToTaskCount("IN_PROGRESS", -1);
+        verify(taskStatusCountRepository).addToTaskCount("DONE", 1);
+        verify(taskDailyStatsRepository).addToDailyStats(DAY, TaskDailyStatsId.GLOBAL, 1, 7200, 3600, 1);
+        verify(taskDailyStatsRepository).addToDailyStats(DAY, 3L, 1, 7200, 3600, 1);
+    }
+
+    @Test
+    void onTaskStatusChanged_ShouldCountEachCompletion_WhenTaskIsReopened() {
+        LocalDateTime createdAt = DAY.atTime(8, 0);
+        LocalDateTime firstCompletion = DAY.atTime(10, 0);
+        LocalDateTime secondCompletion = DAY.plusDays(1).atTime(8, 0);
+
+        taskAnalyticsService.onTaskStatusChanged(new TaskStatusChangedEvent(1L, 2L, null, 2L,
+                TaskStatus.TODO, TaskStatus.DONE, firstCompletion, createdAt, null, firstCompletion));
+        taskAnalyticsService.onTaskStatusChanged(new TaskStatusChangedEvent(1L, 2L, null, 2L,
+                TaskStatus.DONE, TaskStatus.IN_PROGRESS, firstCompletion.plusHours(1), createdAt,
+                firstCompletion.plusHours(1), firstCompletion));
+        taskAnalyticsService.onTaskStatusChanged(new TaskStatusChangedEvent(1L, 2L, null, 2L,
+                TaskStatus.IN_PROGRESS, TaskStatus.DONE, secondCompletion, createdAt,
+                firstCompletion.plusHours(1), secondCompletion));
+
+        verify(taskDailyStatsRepository).addToDailyStats(DAY, TaskDailyStatsId.GLOBAL, 1, 7200, 0, 0);
+        verify(taskDailyStatsRepository).addToDailyStats(DAY.plusDays(1), TaskDailyStatsId.GLOBAL, 1, 86400, 75600, 1);
+        verify(taskDailyStatsRepository).addToDailyStats(DAY, 2L, 1, 7200, 0, 0);
+        verify(taskDailyStatsRepository).addToDailyStats(DAY.plusDays(1), 2L, 1, 86400, 75600, 1);
+        verifyNoMoreInteractions(taskDailyStatsRepository);
+    }
+
+    @Test
+    void events_ShouldBeFoldedIntoOneUpsertPerRow_BeforeCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        for (long taskId = 1; taskId <= 3; taskId++) {
+            taskAnalyticsService.onTaskCreated(new TaskCreatedEvent(taskId, 1L, null, TaskStatus.TODO));
+        }
+        verifyNoInteractions(taskStatusCountRepository);
+
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        assertEquals(1, synchronizations.size());
+        synchronizations.get(0).beforeCommit(false);
+        synchronizations.get(0).afterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+
+        verify(taskStatusCountRepository, times(1)).addToTaskCount("TODO", 3);
+        verify(taskStatusCountRepository, times(1)).addToTaskCount(anyString(), anyLong());
+    }
+
+    private TaskDailyStats dailyStats(LocalDate day, long completed, long leadSeconds, long cycleSeconds, long cycles) {
+        return new TaskDailyStats(new TaskDailyStatsId(day, TaskDailyStatsId.GLOBAL),
+                completed, leadSeconds, cycleSeconds, cycles);
+    }
+}
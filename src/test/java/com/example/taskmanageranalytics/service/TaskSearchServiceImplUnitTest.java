@@ -0,0 +1,74 @@
+package com.example.taskmanageranalytics.service;
+
+import com.example.taskmanageranalytics.dto.CursorPage;
+import com.example.taskmanageranalytics.entity.Task;
+import com.example.taskmanageranalytics.repository.TaskRepository;
+import com.example.taskmanageranalytics.search.TaskSearchIndex;
+import com.example.taskmanageranalytics.service.impl.TaskSearchServiceImpl;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class TaskSearchServiceImplUnitTest {
+
+    @Mock
+    private TaskSearchIndex taskSearchIndex;
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @InjectMocks
+    private TaskSearchServiceImpl taskSearchService;
+
+    @Test
+    void search_ShouldKeepIndexRankingAndSkipDeletedTasks() {
+        when(taskSearchIndex.search("report", 0, 4)).thenReturn(List.of(3L, 1L, 2L));
+        when(taskRepository.findAllById(List.of(3L, 1L, 2L))).thenReturn(List.of(task(1L), task(3L)));
+
+        CursorPage<Task, Integer> page = taskSearchService.search("report", 0, 3);
+
+        assertEquals(List.of(3L, 1L), page.getItems().stream().map(Task::getId).toList());
+        assertFalse(page.hasNext());
+    }
+
+    @Test
+    void search_ShouldReturnOffsetOfNextPage() {
+        when(taskSearchIndex.search("report", 10, 3)).thenReturn(List.of(3L, 1L, 2L));
+        when(taskRepository.findAllById(List.of(3L, 1L))).thenReturn(List.of(task(1L), task(3L)));
+
+        CursorPage<Task, Integer> page = taskSearchService.search("report", 10, 2);
+
+        assertEquals(2, page.getItems().size());
+        assertEquals(12, page.getNextCursor());
+    }
+
+    @Test
+    void search_ShouldStopAtResultDepthLimit() {
+        when(taskSearchIndex.search("report", 990, 11)).thenReturn(List.of(1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L, 10L, 11L));
+        when(taskRepository.findAllById(anyList())).thenReturn(List.of());
+
+        CursorPage<Task, Integer> page = taskSearchService.search("report", 990, 50);
+
+        assertFalse(page.hasNext());
+        assertThrows(IllegalArgumentException.class, () -> taskSearchService.search("report", 1000, 10));
+    }
+
+    @Test
+    void search_ShouldRejectBlankQueryAndInvalidLimit() {
+        assertThrows(IllegalArgumentException.class, () -> taskSearchService.search(" ", 0, 10));
+        assertThrows(IllegalArgumentException.class, () -> taskSearchService.search("report", 0, 0));
+        verifyNoInteractions(taskSearchIndex, taskRepository);
+    }
+
+    private static Task task(Long id) {
+        return Task.builder().id(id).title("Task " + id).build();
+    }
+}
@@ -1,15 +1,47 @@
 package com.example.taskmanageranalytics.service;
 
+import com.example.taskmanageranalytics.dto.BulkTaskItemResult;
+import com.example.taskmanageranalytics.dto.BulkTaskResult;
+import com.example.taskmanageranalytics.dto.CursorPage;
+import com.example.taskmanageranalytics.dto.TaskFilter;
+import com.example.taskmanageranalytics.dto.TaskRequest;
+import com.example.taskmanageranalytics.dto.TaskStatusView;
 import com.example.taskmanageranalytics.entity.Task;
+import com.example.taskmanageranalytics.entity.TaskStatus;
+import com.example.taskmanageranalytics.entity.TaskStatusHistory;
+import com.example.taskmanageranalytics.entity.User;
+import com.example.taskmanageranalytics.event.TaskContentChangedEvent;
+import com.example.taskmanageranalytics.event.TaskCreatedEvent;
+import com.example.taskmanageranalytics.event.TaskDeletedEvent;
+import com.example.taskmanageranalytics.event.TaskStatusChangedEvent;
+import com.example.taskmanageranalytics.exception.TaskNotFoundException;
+import com.example.taskmanageranalytics.exception.UserNotFoundException;
 import com.example.taskmanageranalytics.repository.TaskRepository;
+import com.example.taskmanageranalytics.repository.TaskStatusHistoryRepository;
+import com.example.taskmanageranalytics.repository.UserRepository;
+import com.example.taskmanageranalytics.repository.UserTaskCountersRepository;
 import com.example.taskmanageranalytics.service.impl.TaskServiceImpl;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.transaction.support.TransactionOperations;
 
+import java.time.LocalDateTime;
 import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -20,9 +52,34 @@ public class TaskServiceImplUnitTest {
     @Mock
     private TaskRepository taskRepository;
 
-    @InjectMocks
+    @Mock
+    private TaskStatusHistoryRepository taskStatusHistoryRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private UserTaskCountersRepository userTaskCountersRepository;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Spy
+    private TransactionOperations transactionOperations = TransactionOperations.withoutTransaction();
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Spy
+    private Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+
     private TaskServiceImpl taskService;
 
+    @BeforeEach
+    void setUp() {
+        taskService = taskServiceWithBulkBatchSize(500);
+    }
+
     @Test
     public void shouldCreateTaskTest() {
         String taskName = "taskName";
@@ -63,6 +120,7 @@ public class TaskServiceImplUnitTest {
 
         verify(taskRepository, times(1)).findById(taskId);
         verify(taskRepository, times(1)).save(existingTask);
+        verify(eventPublisher).publishEvent(new TaskContentChangedEvent(taskId, newTitle, newDescription));
     }
 
     @Test
@@ -141,7 +199,7 @@ public class TaskServiceImplUnitTest {
         assertDoesNotThrow(() -> taskService.deleteTask(taskId));
 
         verify(taskRepository, times(1)).findById(taskId);
-        verify(taskRepository, never()).delete(any());
+        verify(taskRepository, never()).delete(any(Task.class));
     }
 
     @Test
@@ -159,6 +217,7 @@ public class TaskServiceImplUnitTest {
     }
 
     @Test
+    @SuppressWarnings("deprecation")
     public void shouldReturnAllTasks() {
         List<Task> expectedTasks = new ArrayList<>();
         Task task1 = Task.builder()
@@ -182,6 +241,7 @@ public class TaskServiceImplUnitTest {
     }
 
     @Test
+    @SuppressWarnings("deprecation")
     public void shouldReturnEmptyListWhenNoTasks() {
         when(taskRepository.findAll()).thenReturn(Collections.emptyList());
 
@@ -191,5 +251,363 @@ public class TaskServiceImplUnitTest {
         verify(taskRepository, times(1)).findAll();
     }
 
+    @Test
+    public void shouldCreateTaskWithAuthorAndIncrementCounter() {
+        User author = User.builder().id(1L).username("author").build();
+
+        when(userRepository.findById(1L)).thenReturn(Optional.of(author));
+        when(taskRepository.save(any(Task.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        Task createdTask = taskService.saveTask("taskName", "taskDescription", 1L);
+
+        assertEquals(author, createdTask.getAuthor());
+        verify(userTaskCountersRepository, times(1)).adjustCreatedTasksCount(1L, 1);
+        verify(eventPublisher, times(1)).publishEvent(new TaskCreatedEvent(null, 1L, null, TaskStatus.TODO));
+    }
+
+    @Test
+    public void shouldNotCreateTaskWhenAuthorNotFound() {
+        when(userRepository.findById(99L)).thenReturn(Optional.empty());
+
+        assertThrows(UserNotFoundException.class, () -> taskService.saveTask("taskName", "taskDescription", 99L));
+
+        verify(taskRepository, never()).save(any());
+        verifyNoInteractions(userTaskCountersRepository);
+    }
+
+    @Test
+    public void shouldCreateAndAssignTaskInOneCall() {
+        User author = User.builder().id(1L).username("author").build();
+        User assignee = User.builder().id(2L).username("assignee").build();
+
+        when(userRepository.findById(1L)).thenReturn(Optional.of(author));
+        when(userRepository.findById(2L)).thenReturn(Optional.of(assignee));
+        when(taskRepository.save(any(Task.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        Task createdTask = taskService.saveTask("taskName", "taskDescription", 1L, 2L);
+
+        assertEquals(assignee, createdTask.getAssignee());
+        verify(userTaskCountersRepository, times(1)).adjustCreatedTasksCount(1L, 1);
+        verify(userTaskCountersRepository, times(1)).adjustAssignedTasksCount(2L, 1);
+        verify(eventPublisher, times(1)).publishEvent(new TaskCreatedEvent(null, 1L, 2L, TaskStatus.TODO));
+    }
+
+    @Test
+    public void shouldNotCreateTaskWhenAssigneeNotFound() {
+        when(userRepository.findById(1L)).thenReturn(Optional.of(User.builder().id(1L).build()));
+        when(userRepository.findById(99L)).thenReturn(Optional.empty());
+
+        assertThrows(UserNotFoundException.class,
+                () -> taskService.saveTask("taskName", "taskDescription", 1L, 99L));
+
+        verify(taskRepository, never()).save(any());
+        verifyNoInteractions(userTaskCountersRepository, eventPublisher);
+    }
+
+    @Test
+    public void shouldDecrementCountersWhenDeletingTask() {
+        Task existingTask = Task.builder()
+                .id(1L)
+                .title("Task")
+                .author(User.builder().id(1L).build())
+                .assignee(User.builder().id(2L).build())
+                .build();
+
+        when(taskRepository.findById(1L)).thenReturn(Optional.of(existingTask));
+
+        taskService.deleteTask(1L);
+
+        verify(userTaskCountersRepository, times(1)).adjustCreatedTasksCount(1L, -1);
+        verify(userTaskCountersRepository, times(1)).adjustAssignedTasksCount(2L, -1);
+        verify(taskRepository, times(1)).delete(existingTask);
+        verify(eventPublisher, times(1)).publishEvent(new TaskDeletedEvent(1L, 1L, 2L, TaskStatus.TODO));
+    }
+
+    @Test
+    public void shouldMoveAssignedCounterWhenReassigningTask() {
+        User newAssignee = User.builder().id(3L).build();
+        Task existingTask = Task.builder()
+                .id(1L)
+                .title("Task")
+                .assignee(User.builder().id(2L).build())
+                .build();
+
+        when(taskRepository.findById(1L)).thenReturn(Optional.of(existingTask));
+        when(userRepository.findById(3L)).thenReturn(Optional.of(newAssignee));
+
+        taskService.assignTask(1L, 3L);
+
+        assertEquals(newAssignee, existingTask.getAssignee());
+        verify(userTaskCountersRepository, times(1)).adjustAssignedTasksCount(3L, 1);
+        verify(userTaskCountersRepository, times(1)).adjustAssignedTasksCount(2L, -1);
+        verify(taskRepository, times(1)).save(existingTask);
+    }
+
+    @Test
+    public void shouldSkipCountersWhenAssigneeIsUnchanged() {
+        Task existingTask = Task.builder()
+                .id(1L)
+                .title("Task")
+                .assignee(User.builder().id(2L).build())
+                .build();
+
+        when(taskRepository.findById(1L)).thenReturn(Optional.of(existingTask));
+
+        taskService.assignTask(1L, 2L);
 
+        verifyNoInteractions(userTaskCountersRepository);
+        verify(taskRepository, never()).save(any());
+    }
+
+    @Test
+    public void shouldPersistHistoryWithoutTouchingHistoryCollection() {
+        List<TaskStatusHistory> statusHistory = mock();
+        Task task = Task.builder()
+                .id(1L)
+                .title("Task")
+                .status(TaskStatus.TODO)
+                .statusHistory(statusHistory)
+                .build();
+        User changedBy = User.builder().id(5L).build();
+
+        when(taskRepository.findById(1L)).thenReturn(Optional.of(task));
+        when(userRepository.getReferenceById(5L)).thenReturn(changedBy);
+
+        Optional<TaskStatusHistory> result = taskService.changeStatus(1L, TaskStatus.IN_PROGRESS, 5L);
+
+        assertTrue(result.isPresent());
+        assertEquals(TaskStatus.TODO, result.get().getOldStatus());
+        assertEquals(TaskStatus.IN_PROGRESS, result.get().getNewStatus());
+        assertSame(changedBy, result.get().getChangedBy());
+        assertSame(task, result.get().getTask());
+        assertEquals(TaskStatus.IN_PROGRESS, task.getStatus());
+        assertNotNull(task.getStartedAt());
+        verify(taskStatusHistoryRepository).save(result.get());
+        verify(taskRepository).save(task);
+        verify(userRepository, never()).findById(any());
+        verifyNoInteractions(statusHistory);
+    }
+
+    @Test
+    public void shouldSkipHistoryWhenStatusIsUnchanged() {
+        Task task = Task.builder().id(1L).title("Task").status(TaskStatus.DONE).build();
+
+        when(taskRepository.findById(1L)).thenReturn(Optional.of(task));
+
+        assertTrue(taskService.changeStatus(1L, TaskStatus.DONE, 5L).isEmpty());
+        verifyNoInteractions(taskStatusHistoryRepository);
+        verify(taskRepository, never()).save(any());
+    }
+
+    @Test
+    public void shouldThrowWhenChangingStatusOfMissingTask() {
+        when(taskRepository.findById(1L)).thenReturn(Optional.empty());
+
+        assertThrows(TaskNotFoundException.class, () -> taskService.changeStatus(1L, TaskStatus.DONE, 5L));
+        verifyNoInteractions(taskStatusHistoryRepository);
+    }
+
+    @Test
+    public void shouldTransitionTasksInBulkWithOldStatuses() {
+        TaskStatusView todo = statusView(1L, TaskStatus.TODO, null);
+        TaskStatusView inProgress = statusView(2L, TaskStatus.IN_PROGRESS, LocalDateTime.now().minusHours(1));
+        when(taskRepository.lockForTransition(List.of(1L, 2L, 3L), TaskStatus.DONE)).thenReturn(List.of(todo, inProgress));
+
+        List<Long> changed = taskService.changeStatuses(List.of(3L, 1L, 2L, 1L), TaskStatus.DONE, 5L);
+
+        assertEquals(List.of(1L, 2L), changed);
+        verify(taskRepository).transitionAll(eq(List.of(1L, 2L)), eq(TaskStatus.DONE), isNull(), notNull(), notNull());
+
+        ArgumentCaptor<List<TaskStatusHistory>> history = ArgumentCaptor.captor();
+        verify(taskStatusHistoryRepository).saveAll(history.capture());
+        assertEquals(List.of(TaskStatus.TODO, TaskStatus.IN_PROGRESS),
+                history.getValue().stream().map(TaskStatusHistory::getOldStatus).toList());
+        assertTrue(history.getValue().stream().allMatch(row -> row.getNewStatus() == TaskStatus.DONE));
+
+        ArgumentCaptor<TaskStatusChangedEvent> events = ArgumentCaptor.forClass(TaskStatusChangedEvent.class);
+        verify(eventPublisher, times(2)).publishEvent(events.capture());
+        TaskStatusChangedEvent second = events.getAllValues().get(1);
+        assertEquals(TaskStatus.IN_PROGRESS, second.getOldStatus());
+        assertEquals(inProgress.getStartedAt(), second.getStartedAt());
+        assertEquals(second.getChangedAt(), second.getCompletedAt());
+        verify(taskRepository, never()).findById(any());
+    }
+
+    @Test
+    public void shouldTransitionInChunksOfBulkBatchSize() {
+        taskService = taskServiceWithBulkBatchSize(2);
+        when(taskRepository.lockForTransition(anyCollection(), eq(TaskStatus.DONE)))
+                .thenAnswer(invocation -> invocation.<Collection<Long>>getArgument(0).stream()
+                        .map(id -> statusView(id, TaskStatus.TODO, null))
+                        .toList());
+
+        List<Long> changed = taskService.changeStatuses(List.of(1L, 2L, 3L), TaskStatus.DONE, 5L);
+
+        assertEquals(List.of(1L, 2L, 3L), changed);
+        verify(taskRepository).lockForTransition(List.of(1L, 2L), TaskStatus.DONE);
+        verify(taskRepository).lockForTransition(List.of(3L), TaskStatus.DONE);
+        verify(entityManager, times(2)).clear();
+    }
+
+    @Test
+    public void shouldSkipBulkWritesWhenNothingChanges() {
+        when(taskRepository.lockForTransition(List.of(1L), TaskStatus.DONE)).thenReturn(List.of());
+
+        assertEquals(List.of(), taskService.changeStatuses(List.of(1L), TaskStatus.DONE, 5L));
+        verify(taskRepository, never()).transitionAll(any(), any(), any(), any(), any());
+        verifyNoInteractions(taskStatusHistoryRepository, eventPublisher);
+    }
+
+    @Test
+    public void shouldReturnCursorWhenMoreTasksRemain() {
+        List<Task> tasks = LongStream.rangeClosed(11, 14)
+                .mapToObj(id -> Task.builder().id(id).title("Task " + id).build())
+                .toList();
+
+        when(taskRepository.findBy(Mockito.<Specification<Task>>any(), any())).thenReturn(tasks);
+
+        CursorPage<Task, Long> page = taskService.getTasks(new TaskFilter(), 10L, 3);
+
+        assertEquals(3, page.getItems().size());
+        assertEquals(13L, page.getNextCursor());
+        assertTrue(page.hasNext());
+    }
+
+    @Test
+    public void shouldReturnLastPageWithoutCursor() {
+        List<Task> tasks = List.of(Task.builder().id(11L).title("Task").build());
+
+        when(taskRepository.findBy(Mockito.<Specification<Task>>any(), any())).thenReturn(tasks);
+
+        CursorPage<Task, Long> page = taskService.getTasks(
+                TaskFilter.builder().status(TaskStatus.TODO).build(), 10L, 3);
+
+        assertEquals(1, page.getItems().size());
+        assertNull(page.getNextCursor());
+        assertFalse(page.hasNext());
+    }
+
+    @Test
+    public void shouldRejectNonPositivePageLimit() {
+        assertThrows(IllegalArgumentException.class, () -> taskService.getTasks(null, null, 0));
+
+        verify(taskRepository, never()).findBy(Mockito.<Specification<Task>>any(), any());
+    }
+
+    @Test
+    public void shouldDetachEachTaskAfterExport() {
+        Task task1 = Task.builder().id(1L).title("First Task").build();
+        Task task2 = Task.builder().id(2L).title("Second Task").build();
+        TaskFilter filter = new TaskFilter();
+        List<Task> exported = new ArrayList<>();
+
+        when(taskRepository.streamAll(filter)).thenReturn(Stream.of(task1, task2));
+
+        taskService.exportTasks(filter, exported::add);
+
+        assertEquals(List.of(task1, task2), exported);
+        verify(entityManager, times(1)).detach(task1);
+        verify(entityManager, times(1)).detach(task2);
+    }
+
+    @Test
+    public void shouldImportTasksInChunksAndAdjustCounters() {
+        taskService = taskServiceWithBulkBatchSize(2);
+        AtomicLong ids = new AtomicLong();
+        List<TaskRequest> requests = List.of(
+                taskRequest("First", 1L, 2L),
+                taskRequest("Second", 1L, null),
+                taskRequest("Third", 2L, null));
+
+        when(userRepository.findExistingIds(anyCollection())).thenReturn(Set.of(1L, 2L));
+        doAnswer(invocation -> {
+            invocation.<Task>getArgument(0).setId(ids.incrementAndGet());
+            return null;
+        }).when(entityManager).persist(any(Task.class));
+
+        BulkTaskResult result = taskService.saveTasks(requests);
+
+        assertEquals(List.of(BulkTaskItemResult.created(0, 1L), BulkTaskItemResult.created(1, 2L),
+                BulkTaskItemResult.created(2, 3L)), result.getItems());
+        verify(entityManager, times(2)).flush();
+        verify(entityManager, times(2)).clear();
+        verify(userTaskCountersRepository, times(1)).adjustCreatedTasksCount(1L, 2);
+        verify(userTaskCountersRepository, times(1)).adjustAssignedTasksCount(2L, 1);
+        verify(userTaskCountersRepository, times(1)).adjustCreatedTasksCount(2L, 1);
+        verify(eventPublisher, times(3)).publishEvent(any(TaskCreatedEvent.class));
+    }
+
+    @Test
+    public void shouldReportInvalidItemsWithoutRejectingImport() {
+        List<TaskRequest> requests = List.of(
+                taskRequest("", 1L, null),
+                taskRequest("Valid", 1L, null),
+                taskRequest("Unknown author", 99L, null));
+
+        when(userRepository.findExistingIds(anyCollection())).thenReturn(Set.of(1L));
+        doAnswer(invocation -> {
+            invocation.<Task>getArgument(0).setId(10L);
+            return null;
+        }).when(entityManager).persist(any(Task.class));
+
+        BulkTaskResult result = taskService.saveTasks(requests);
+
+        assertEquals(3, result.getItems().size());
+        assertNull(result.getItems().get(0).getTaskId());
+        assertTrue(result.getItems().get(0).getError().startsWith("title"));
+        assertEquals(BulkTaskItemResult.created(1, 10L), result.getItems().get(1));
+        assertEquals(BulkTaskItemResult.failed(2, "User not found with id: 99"), result.getItems().get(2));
+    }
+
+    @Test
+    public void shouldRetryFailedChunkItemByItem() {
+        List<TaskRequest> requests = List.of(
+                taskRequest("Good", 1L, null),
+                taskRequest("Bad", 1L, null));
+        AtomicLong ids = new AtomicLong();
+
+        when(userRepository.findExistingIds(anyCollection())).thenReturn(Set.of(1L));
+        doAnswer(invocation -> {
+            Task task = invocation.getArgument(0);
+            if (task.getTitle().equals("Bad")) {
+                throw new PersistenceException("value too long");
+            }
+            task.setId(ids.incrementAndGet());
+            return null;
+        }).when(entityManager).persist(any(Task.class));
+
+        BulkTaskResult result = taskService.saveTasks(requests);
+
+        assertEquals(List.of(BulkTaskItemResult.created(0, 2L), BulkTaskItemResult.failed(1, "value too long")),
+                result.getItems());
+        verify(userTaskCountersRepository, times(1)).adjustCreatedTasksCount(1L, 1);
+    }
+
+    @Test
+    public void shouldRejectNonPositiveBulkBatchSize() {
+        assertThrows(IllegalArgumentException.class, () -> taskServiceWithBulkBatchSize(0));
+    }
+
+    private TaskServiceImpl taskServiceWithBulkBatchSize(int bulkBatchSize) {
+        return new TaskServiceImpl(taskRepository, taskStatusHistoryRepository, userRepository,
+                userTaskCountersRepository, entityManager, transactionOperations, validator, eventPublisher,
+                bulkBatchSize);
+    }
+
+    private TaskRequest taskRequest(String title, Long authorId, Long assigneeId) {
+        return TaskRequest.builder()
+                .title(title)
+                .authorId(authorId)
+                .assigneeId(assigneeId)
+                .build();
+    }
+
+    private static TaskStatusView statusView(Long id, TaskStatus status, LocalDateTime startedAt) {
+        TaskStatusView view = mock(TaskStatusView.class);
+        lenient().when(view.getId()).thenReturn(id);
+        lenient().when(view.getStatus()).thenReturn(status);
+        lenient().when(view.getAuthorId()).thenReturn(7L);
+        lenient().when(view.getStartedAt()).thenReturn(startedAt);
+        return view;
+    }
 }
@@ -0,0 +1,122 @@
+package com.example.taskmanageranalytics.service;
+
+import com.example.taskmanageranalytics.archive.TaskStatusHistoryArchive;
+import com.example.taskmanageranalytics.entity.RollupWatermark;
+import com.example.taskmanageranalytics.repository.RollupWatermarkRepository;
+import com.example.taskmanageranalytics.service.impl.TaskStatusHistoryArchiveServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class TaskStatusHistoryArchiveServiceImplUnitTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Spy
+    private TransactionOperations transactionOperations = TransactionOperations.withoutTransaction();
+
+    @Mock
+    private RollupWatermarkRepository rollupWatermarkRepository;
+
+    @Mock
+    private TaskStatusHistoryArchive archive;
+
+    private TaskStatusHistoryArchiveServiceImpl archiveService;
+
+    @BeforeEach
+    void setUp() {
+        archiveService = new TaskStatusHistoryArchiveServiceImpl(jdbcTemplate, transactionOperations,
+                rollupWatermarkRepository, archive, Clock.fixed(Instant.parse("2026-10-18T12:00:00Z"), ZoneOffset.UTC));
+        when(jdbcTemplate.execute(ArgumentMatchers.<ConnectionCallback<String>>any())).thenReturn("PostgreSQL");
+        when(jdbcTemplate.queryForObject(contains("pg_partitioned_table"), eq(Boolean.class), eq("task_status_history")))
+                .thenReturn(true);
+        lenient().when(jdbcTemplate.queryForObject(contains("pg_try_advisory_xact_lock"), eq(Boolean.class), eq("task_status_history_maintenance")))
+                .thenReturn(true);
+        lenient().when(jdbcTemplate.queryForList(contains("pg_inherits"), eq(String.class), eq("task_status_history")))
+                .thenReturn(List.of("task_status_history_p2025_08", "task_status_history_p2025_10",
+                        "task_status_history_p2026_10", "task_status_history_p2026_11"));
+    }
+
+    @Test
+    void maintainPartitions_ShouldCreateMissingFuturePartitions() {
+        archiveService.maintainPartitions();
+
+        verify(jdbcTemplate).execute("create table if not exists task_status_history_p2026_12 partition of "
+                + "task_status_history for values from ('2026-12-01') to ('2027-01-01')");
+        verify(jdbcTemplate).execute("create table if not exists task_status_history_p2027_01 partition of "
+                + "task_status_history for values from ('2027-01-01') to ('2027-02-01')");
+        verify(jdbcTemplate, never()).execute(contains("task_status_history_p2026_11 partition of"));
+    }
+
+    @Test
+    void maintainPartitions_ShouldArchiveAndDropExpiredPartitions() {
+        when(rollupWatermarkRepository.findById("status_transition_rollups"))
+                .thenReturn(Optional.of(new RollupWatermark("status_transition_rollups",
+                        LocalDateTime.of(2025, 9, 1, 0, 0), 0L)));
+        when(archive.write("task_status_history_p2025_08", YearMonth.of(2025, 8))).thenReturn(Path.of("archive"));
+
+        archiveService.maintainPartitions();
+
+        verify(archive).write("task_status_history_p2025_08", YearMonth.of(2025, 8));
+        verify(jdbcTemplate).execute("alter table task_status_history detach partition task_status_history_p2025_08");
+        verify(jdbcTemplate).execute("drop table task_status_history_p2025_08");
+        verify(archive, never()).write(eq("task_status_history_p2025_10"), any());
+    }
+
+    @Test
+    void maintainPartitions_ShouldKeepPartitionsNotYetInRollups() {
+        when(rollupWatermarkRepository.findById("status_transition_rollups"))
+                .thenReturn(Optional.of(new RollupWatermark("status_transition_rollups",
+                        LocalDateTime.of(2025, 8, 31, 23, 59), 499L)));
+
+        archiveService.maintainPartitions();
+
+        verifyNoInteractions(archive);
+        verify(jdbcTemplate, never()).execute(startsWith("drop table"));
+    }
+
+    @Test
+    void maintainPartitions_ShouldSkipRun_WhenAnotherInstanceHoldsTheLock() {
+        when(jdbcTemplate.queryForObject(contains("pg_try_advisory_xact_lock"), eq(Boolean.class), eq("task_status_history_maintenance")))
+                .thenReturn(false);
+
+        archiveService.maintainPartitions();
+
+        verify(transactionOperations).executeWithoutResult(any());
+        verify(jdbcTemplate, never()).queryForList(contains("pg_inherits"), eq(String.class), any());
+        verify(jdbcTemplate, never()).execute(anyString());
+        verifyNoInteractions(archive, rollupWatermarkRepository);
+    }
+
+    @Test
+    void maintainPartitions_ShouldDoNothing_WhenTableIsNotPartitioned() {
+        reset(jdbcTemplate);
+        when(jdbcTemplate.execute(ArgumentMatchers.<ConnectionCallback<String>>any())).thenReturn("H2");
+
+        archiveService.maintainPartitions();
+
+        verify(jdbcTemplate, never()).execute(anyString());
+        verifyNoInteractions(archive, rollupWatermarkRepository);
+    }
+}
@@ -1,5 +1,7 @@
 package com.example.taskmanageranalytics.service;
 
+import com.example.taskmanageranalytics.dto.CursorPage;
+import com.example.taskmanageranalytics.dto.HistoryCursor;
 import com.example.taskmanageranalytics.entity.TaskStatusHistory;
 import com.example.taskmanageranalytics.repository.TaskStatusHistoryRepository;
 import com.example.taskmanageranalytics.service.impl.TaskStatusHistoryServiceImpl;
@@ -8,6 +10,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 
 import java.time.LocalDateTime;
 import java.util.Collections;
@@ -70,56 +73,58 @@ public class TaskStatusHistoryServiceImplUnitTest {
     }
 
     @Test
-    void getAllTaskStatusHistory_ShouldReturnAllHistories() {
-        List<TaskStatusHistory> expected = List.of(
-                createTestHistory(1L),
-                createTestHistory(2L)
-        );
-        when(taskStatusHistoryRepository.findAll()).thenReturn(expected);
-
-        List<TaskStatusHistory> result = taskStatusHistoryService.getAllTaskStatusHistory();
-
-        assertEquals(2, result.size());
-        assertEquals(expected, result);
-        verify(taskStatusHistoryRepository).findAll();
+    void getHistory_ShouldReturnFirstPageWithCursorOfLastEntry() {
+        LocalDateTime now = LocalDateTime.now();
+        List<TaskStatusHistory> fetched = List.of(
+                createTestHistory(3L, now),
+                createTestHistory(2L, now),
+                createTestHistory(1L, now.minusMinutes(1)));
+        when(taskStatusHistoryRepository.findByTaskIdOrderByChangedAtDescIdDesc(7L, Limit.of(3))).thenReturn(fetched);
+
+        CursorPage<TaskStatusHistory, HistoryCursor> page = taskStatusHistoryService.getHistory(7L, null, 2);
+
+        assertEquals(fetched.subList(0, 2), page.getItems());
+        assertEquals(new HistoryCursor(now, 2L), page.getNextCursor());
     }
 
     @Test
-    void getAllTaskStatusHistory_ShouldReturnEmptyListWhenNoData() {
-        when(taskStatusHistoryRepository.findAll()).thenReturn(Collections.emptyList());
+    void getHistory_ShouldSeekPastCursor() {
+        LocalDateTime changedAt = LocalDateTime.now();
+        List<TaskStatusHistory> fetched = List.of(createTestHistory(1L, changedAt.minusMinutes(1)));
+        when(taskStatusHistoryRepository.findByTaskIdBefore(7L, changedAt, 2L, Limit.of(3))).thenReturn(fetched);
 
-        List<TaskStatusHistory> result = taskStatusHistoryService.getAllTaskStatusHistory();
+        CursorPage<TaskStatusHistory, HistoryCursor> page =
+                taskStatusHistoryService.getHistory(7L, new HistoryCursor(changedAt, 2L), 2);
 
-        assertTrue(result.isEmpty());
-        verify(taskStatusHistoryRepository).findAll();
+        assertEquals(fetched, page.getItems());
+        assertFalse(page.hasNext());
     }
 
     @Test
-    void getHistoryByTaskId_ShouldReturnOrderedList() {
-        Long taskId = 1L;
-        List<TaskStatusHistory> expected = List.of(
-                createTestHistory(1L, LocalDateTime.now().minusDays(1)),
-                createTestHistory(2L, LocalDateTime.now())
-        );
-        when(taskStatusHistoryRepository.findByTaskIdOrderByChangedAtDesc(taskId)).thenReturn(expected);
-
-        List<TaskStatusHistory> result = taskStatusHistoryService.getHistoryByTaskId(taskId);
+    void getHistory_ShouldPageAllTasksWhenTaskIdIsNull() {
+        LocalDateTime changedAt = LocalDateTime.now();
+        when(taskStatusHistoryRepository.findByOrderByChangedAtDescIdDesc(Limit.of(51))).thenReturn(Collections.emptyList());
+        when(taskStatusHistoryRepository.findBefore(changedAt, 5L, Limit.of(51))).thenReturn(Collections.emptyList());
 
-        assertEquals(2, result.size());
-        assertEquals(expected, result);
-        verify(taskStatusHistoryRepository).findByTaskIdOrderByChangedAtDesc(taskId);
+        assertTrue(taskStatusHistoryService.getHistory(null, null, 50).getItems().isEmpty());
+        assertTrue(taskStatusHistoryService.getHistory(null, new HistoryCursor(changedAt, 5L), 50).getItems().isEmpty());
     }
 
     @Test
-    void getHistoryByTaskId_ShouldReturnEmptyListWhenNoData() {
-        Long taskId = 999L;
-        when(taskStatusHistoryRepository.findByTaskIdOrderByChangedAtDesc(taskId))
-                .thenReturn(Collections.emptyList());
+    void getHistory_ShouldCapPageSize() {
+        when(taskStatusHistoryRepository.findByOrderByChangedAtDescIdDesc(any())).thenReturn(Collections.emptyList());
+
+        taskStatusHistoryService.getHistory(null, null, 100_000);
 
-        List<TaskStatusHistory> result = taskStatusHistoryService.getHistoryByTaskId(taskId);
+        verify(taskStatusHistoryRepository).findByOrderByChangedAtDescIdDesc(Limit.of(501));
+    }
 
-        assertTrue(result.isEmpty());
-        verify(taskStatusHistoryRepository).findByTaskIdOrderByChangedAtDesc(taskId);
+    @Test
+    void getHistory_ShouldRejectInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> taskStatusHistoryService.getHistory(1L, null, 0));
+        assertThrows(IllegalArgumentException.class,
+                () -> taskStatusHistoryService.getHistory(1L, new HistoryCursor(null, 2L), 10));
+        verifyNoInteractions(taskStatusHistoryRepository);
     }
 
     private TaskStatusHistory createTestHistory(Long id) {
@@ -2,23 +2,44 @@ package com.example.taskmanageranalytics.service;
 
 import com.example.taskmanageranalytics.dto.UserRequest;
 import com.example.taskmanageranalytics.dto.UserResponse;
+import com.example.taskmanageranalytics.dto.UserUpdateRequest;
+import com.example.taskmanageranalytics.entity.TaskStatus;
 import com.example.taskmanageranalytics.entity.User;
+import com.example.taskmanageranalytics.event.TaskDeletedEvent;
+import com.example.taskmanageranalytics.event.UserCreatedEvent;
+import com.example.taskmanageranalytics.event.UserDeletedEvent;
 import com.example.taskmanageranalytics.exception.UserAlreadyExistsException;
 import com.example.taskmanageranalytics.exception.UserNotFoundException;
+import com.example.taskmanageranalytics.readmodel.UserReadModel;
+import com.example.taskmanageranalytics.repository.TaskRepository;
 import com.example.taskmanageranalytics.repository.UserRepository;
+import com.example.taskmanageranalytics.repository.UserTaskCountersRepository;
+import com.example.taskmanageranalytics.security.PasswordHasher;
 import com.example.taskmanageranalytics.service.impl.UserServiceImpl;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
+import org.hibernate.exception.ConstraintViolationException;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.support.TransactionOperations;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Function;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
@@ -29,7 +50,22 @@ class UserServiceImplUnitTest {
     private UserRepository userRepository;
 
     @Mock
-    private PasswordEncoder passwordEncoder;
+    private TaskRepository taskRepository;
+
+    @Mock
+    private UserTaskCountersRepository userTaskCountersRepository;
+
+    @Mock
+    private PasswordHasher passwordHasher;
+
+    @Mock
+    private UserReadModel userReadModel;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Spy
+    private TransactionOperations transactionOperations = TransactionOperations.withoutTransaction();
 
     @InjectMocks
     private UserServiceImpl userService;
@@ -49,10 +85,9 @@ class UserServiceImplUnitTest {
         request.setEmail("test@example.com");
         request.setPassword("password");
 
-        when(userRepository.existsByUsername(anyString())).thenReturn(false);
-        when(userRepository.existsByEmail(anyString())).thenReturn(false);
-        when(passwordEncoder.encode(anyString())).thenReturn("encodedPassword");
-        when(userRepository.save(any(User.class))).thenReturn(testUser);
+        when(userRepository.findConflictingFields("testuser", "test@example.com", null)).thenReturn(List.of());
+        when(passwordHasher.encode(anyString())).thenReturn("encodedPassword");
+        when(userRepository.saveAndFlush(any(User.class))).thenReturn(testUser);
 
         UserResponse response = userService.createUser(request);
 
@@ -60,11 +95,14 @@ class UserServiceImplUnitTest {
         assertEquals("testuser", response.getUsername());
         assertEquals("test@example.com", response.getEmail());
         assertEquals(User.Role.USER, response.getRole());
-
-        verify(userRepository, times(1)).existsByUsername("testuser");
-        verify(userRepository, times(1)).existsByEmail("test@example.com");
-        verify(passwordEncoder, times(1)).encode("password");
-        verify(userRepository, times(1)).save(any(User.class));
+        assertEquals(0, response.getCreatedTasksCount());
+        assertEquals(0, response.getAssignedTasksCount());
+
+        verify(userRepository, times(1)).findConflictingFields("testuser", "test@example.com", null);
+        verify(passwordHasher, times(1)).encode("password");
+        verify(userRepository, times(1)).saveAndFlush(any(User.class));
+        verify(userTaskCountersRepository, times(1)).save(argThat(counters -> counters.getUser() == testUser));
+        verify(eventPublisher, times(1)).publishEvent(any(UserCreatedEvent.class));
     }
 
     @Test
@@ -75,37 +113,100 @@ class UserServiceImplUnitTest {
         request.setEmail("test@example.com");
         request.setPassword("password");
 
-        when(userRepository.existsByUsername("existinguser")).thenReturn(true);
+        when(userRepository.findConflictingFields("existinguser", "test@example.com", null))
+                .thenReturn(List.of("username"));
+
+        UserAlreadyExistsException exception =
+                assertThrows(UserAlreadyExistsException.class, () -> userService.createUser(request));
+        assertEquals("username", exception.getField());
+        verify(userRepository, never()).saveAndFlush(any(User.class));
+    }
+
+    @Test
+    void createUser_ShouldReportEmail_WhenOnlyEmailExists() {
+        UserRequest request = new UserRequest();
+        request.setUsername("newuser");
+        request.setEmail("taken@example.com");
+        request.setPassword("password");
+
+        when(userRepository.findConflictingFields("newuser", "taken@example.com", null)).thenReturn(List.of("email"));
+
+        UserAlreadyExistsException exception =
+                assertThrows(UserAlreadyExistsException.class, () -> userService.createUser(request));
+        assertEquals("email", exception.getField());
+    }
+
+    @Test
+    void createUser_ShouldTranslateUniqueConstraintViolation_WhenSignupRaceIsLost() {
+        UserRequest request = new UserRequest();
+        request.setUsername("racer");
+        request.setEmail("racer@example.com");
+        request.setPassword("password");
+        DataIntegrityViolationException violation = new DataIntegrityViolationException("duplicate",
+                new ConstraintViolationException("duplicate", null, "UK_USERS_EMAIL"));
+
+        when(userRepository.findConflictingFields("racer", "racer@example.com", null)).thenReturn(List.of());
+        when(userRepository.saveAndFlush(any(User.class))).thenThrow(violation);
 
-        assertThrows(UserAlreadyExistsException.class, () -> userService.createUser(request));
-        verify(userRepository, never()).save(any(User.class));
+        UserAlreadyExistsException exception =
+                assertThrows(UserAlreadyExistsException.class, () -> userService.createUser(request));
+        assertEquals("email", exception.getField());
+        verify(userTaskCountersRepository, never()).save(any());
     }
 
     @Test
     void getUserById_ShouldReturnUserResponse_WhenUserExists() {
+        UserResponse stored = new UserResponse(1L, "testuser", "test@example.com", User.Role.USER, 3, 2);
 
-        when(userRepository.findById(1L)).thenReturn(Optional.of(testUser));
+        when(userRepository.findUserResponseById(1L)).thenReturn(Optional.of(stored));
 
         UserResponse response = userService.getUserById(1L);
 
         assertNotNull(response);
         assertEquals(1L, response.getId());
         assertEquals("testuser", response.getUsername());
-        verify(userRepository, times(1)).findById(1L);
+        assertEquals(3, response.getCreatedTasksCount());
+        assertEquals(2, response.getAssignedTasksCount());
+        verify(userRepository, times(1)).findUserResponseById(1L);
     }
 
     @Test
     void getUserById_ShouldThrowException_WhenUserNotFound() {
 
-        when(userRepository.findById(99L)).thenReturn(Optional.empty());
+        when(userRepository.findUserResponseById(99L)).thenReturn(Optional.empty());
+
+        assertThrows(UserNotFoundException.class, () -> userService.getUserById(99L));
+    }
+
+    @Test
+    void getUserById_ShouldServeFromReadModel_WhenLoaded() {
+        UserResponse stored = new UserResponse(1L, "testuser", "test@example.com", User.Role.USER, 3, 2);
+
+        when(userReadModel.isLoaded()).thenReturn(true);
+        when(userReadModel.findById(eq(1L), any())).thenReturn(Optional.of(stored));
+
+        assertSame(stored, userService.getUserById(1L));
+        verifyNoInteractions(userRepository, userTaskCountersRepository);
+    }
+
+    @Test
+    void getUserById_ShouldLoadReadModelMissFromDatabase() {
+        UserResponse stored = new UserResponse(2L, "newuser", "new@example.com", User.Role.USER, 0, 0);
+
+        when(userReadModel.isLoaded()).thenReturn(true);
+        when(userReadModel.findById(anyLong(), any())).thenAnswer(invocation -> invocation
+                .<Function<Long, Optional<UserResponse>>>getArgument(1).apply(invocation.getArgument(0)));
+        when(userRepository.findUserResponseById(2L)).thenReturn(Optional.of(stored));
+        when(userRepository.findUserResponseById(99L)).thenReturn(Optional.empty());
 
+        assertSame(stored, userService.getUserById(2L));
         assertThrows(UserNotFoundException.class, () -> userService.getUserById(99L));
     }
 
     @Test
     void updateUser_ShouldUpdateUsername_WhenNewUsernameIsUnique() {
 
-        UserRequest request = new UserRequest();
+        UserUpdateRequest request = new UserUpdateRequest();
         request.setUsername("newusername");
         request.setEmail("test@example.com");
 
@@ -118,13 +219,13 @@ class UserServiceImplUnitTest {
                 .build();
 
         when(userRepository.findById(1L)).thenReturn(Optional.of(existingUser));
-        when(userRepository.existsByUsername("newusername")).thenReturn(false);
-        when(userRepository.save(any(User.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(userRepository.findConflictingFields("newusername", null, 1L)).thenReturn(List.of());
+        when(userRepository.saveAndFlush(any(User.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         UserResponse response = userService.updateUser(1L, request);
 
         assertEquals("newusername", response.getUsername());
-        verify(userRepository, times(1)).save(argThat(user ->
+        verify(userRepository, times(1)).saveAndFlush(argThat(user ->
                 user.getUsername().equals("newusername") &&
                         user.getEmail().equals("test@example.com")
         ));
@@ -133,30 +234,39 @@ class UserServiceImplUnitTest {
     @Test
     void updateUser_ShouldUpdatePassword_WhenNewPasswordProvided() {
 
-        UserRequest request = new UserRequest();
+        UserUpdateRequest request = new UserUpdateRequest();
         request.setUsername("testuser");
         request.setEmail("test@example.com");
         request.setPassword("newpassword");
 
         when(userRepository.findById(1L)).thenReturn(Optional.of(testUser));
-        when(passwordEncoder.encode("newpassword")).thenReturn("newEncodedPassword");
-        when(userRepository.save(any(User.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(passwordHasher.encode("newpassword")).thenReturn("newEncodedPassword");
+        when(userRepository.saveAndFlush(any(User.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         userService.updateUser(1L, request);
 
-        verify(passwordEncoder, times(1)).encode("newpassword");
-        verify(userRepository, times(1)).save(argThat(user ->
+        verify(passwordHasher, times(1)).encode("newpassword");
+        verify(userRepository, never()).findConflictingFields(any(), any(), any());
+        verify(userRepository, times(1)).saveAndFlush(argThat(user ->
                 user.getPassword().equals("newEncodedPassword")
         ));
     }
 
     @Test
     void deleteUser_ShouldDeleteUser_WhenUserExists() {
+        TaskDeletedEvent cascadedTask = new TaskDeletedEvent(10L, 1L, 2L, TaskStatus.DONE);
         when(userRepository.existsById(1L)).thenReturn(true);
+        when(taskRepository.findDeletedWithUser(1L)).thenReturn(List.of(cascadedTask));
 
         userService.deleteUser(1L);
 
+        verify(userTaskCountersRepository, times(1)).releaseAssignmentsOfAuthor(1L);
+        verify(userTaskCountersRepository, times(1)).releaseAuthorshipsOfAssignee(1L);
+        verify(userTaskCountersRepository, times(1)).deleteById(1L);
         verify(userRepository, times(1)).deleteById(1L);
+        InOrder events = inOrder(eventPublisher);
+        events.verify(eventPublisher).publishEvent(cascadedTask);
+        events.verify(eventPublisher).publishEvent(new UserDeletedEvent(1L));
     }
 
     @Test
@@ -169,15 +279,40 @@ class UserServiceImplUnitTest {
 
     @Test
     void getAllUsers_ShouldReturnListOfUsers() {
-        User user1 = User.builder().id(1L).username("user1").build();
-        User user2 = User.builder().id(2L).username("user2").build();
+        UserResponse user1 = UserResponse.builder().id(1L).username("user1").build();
+        UserResponse user2 = UserResponse.builder().id(2L).username("user2").build();
 
-        when(userRepository.findAll()).thenReturn(List.of(user1, user2));
+        when(userRepository.findAllUserResponses(any(Sort.class))).thenReturn(List.of(user1, user2));
         List<UserResponse> users = userService.getAllUsers();
 
         assertEquals(2, users.size());
         assertEquals("user1", users.get(0).getUsername());
         assertEquals("user2", users.get(1).getUsername());
+        verify(userRepository, never()).findAll();
+    }
+
+    @Test
+    void getAllUsers_ShouldServeFromReadModel_WhenLoaded() {
+        List<UserResponse> stored = List.of(UserResponse.builder().id(1L).username("user1").build());
+
+        when(userReadModel.isLoaded()).thenReturn(true);
+        when(userReadModel.findAll()).thenReturn(stored);
+
+        assertSame(stored, userService.getAllUsers());
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    void getUsers_ShouldReturnRequestedPage() {
+        Pageable pageable = PageRequest.of(0, 1);
+        UserResponse user1 = UserResponse.builder().id(1L).username("user1").build();
+
+        when(userRepository.findAllUserResponses(pageable)).thenReturn(new PageImpl<>(List.of(user1), pageable, 2));
+        Page<UserResponse> page = userService.getUsers(pageable);
+
+        assertEquals(1, page.getContent().size());
+        assertEquals(2, page.getTotalElements());
+        assertEquals("user1", page.getContent().get(0).getUsername());
     }
 
     @Test
@@ -0,0 +1,51 @@
+package com.example.taskmanageranalytics.service;
+
+import com.example.taskmanageranalytics.dto.CounterReconciliationReport;
+import com.example.taskmanageranalytics.repository.UserTaskCountersRepository;
+import com.example.taskmanageranalytics.service.impl.UserTaskCountersServiceImpl;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UserTaskCountersServiceImplUnitTest {
+
+    @Mock
+    private UserTaskCountersRepository userTaskCountersRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private UserTaskCountersServiceImpl userTaskCountersService;
+
+    @Test
+    void reconcileCounters_ShouldReportDrift() {
+        when(userTaskCountersRepository.insertMissingCounters()).thenReturn(1);
+        when(userTaskCountersRepository.reconcileCreatedTasksCounts()).thenReturn(2);
+        when(userTaskCountersRepository.reconcileAssignedTasksCounts()).thenReturn(0);
+
+        CounterReconciliationReport report = userTaskCountersService.reconcileCounters();
+
+        assertTrue(report.hasDrift());
+        assertEquals(1, report.getMissingCounters());
+        assertEquals(2, report.getCreatedTasksDrift());
+        assertEquals(0, report.getAssignedTasksDrift());
+    }
+
+    @Test
+    void reconcileCounters_ShouldReportNoDrift_WhenCountersAreConsistent() {
+        CounterReconciliationReport report = userTaskCountersService.reconcileCounters();
+
+        assertFalse(report.hasDrift());
+        verify(userTaskCountersRepository).insertMissingCounters();
+        verify(userTaskCountersRepository).reconcileCreatedTasksCounts();
+        verify(userTaskCountersRepository).reconcileAssignedTasksCounts();
+    }
+}